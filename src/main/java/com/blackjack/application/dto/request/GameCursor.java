@@ -0,0 +1,52 @@
+package com.blackjack.application.dto.request;
+
+import com.blackjack.domain.model.readmodel.GameSummary;
+import com.blackjack.domain.model.valueobject.game.GameId;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * Continuation token for game listings: the creation time and id of the last game on the previous
+ * page, encoded so clients treat it as opaque rather than building their own.
+ */
+public record GameCursor(LocalDateTime createdAt, GameId gameId) {
+
+    private static final String SEPARATOR = ",";
+
+    public GameCursor {
+        Objects.requireNonNull(createdAt, "Cursor createdAt cannot be null");
+        Objects.requireNonNull(gameId, "Cursor game id cannot be null");
+    }
+
+    public static GameCursor of(GameSummary game) {
+        return new GameCursor(game.createdAt(), game.id());
+    }
+
+    public static GameCursor parse(String value) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Cursor cannot be empty");
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(value.trim()), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid game cursor: " + value);
+            }
+            LocalDateTime createdAt = LocalDateTime.parse(decoded.substring(0, separator));
+            return new GameCursor(createdAt, GameId.from(decoded.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            // Base64 decoding and GameId errors are IllegalArgumentExceptions too
+            throw new IllegalArgumentException("Invalid game cursor: " + value);
+        }
+    }
+
+    public String format() {
+        String raw = createdAt + SEPARATOR + gameId.value();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,6 +1,14 @@
 package com.blackjack.application.dto.request;
 
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
 
-public record PlayGameRequest(@NotBlank(message = "Action cannot be empty") String action) {
-}
\ No newline at end of file
+public record PlayGameRequest(
+        @NotBlank(message = "Action cannot be empty") String action,
+        @Positive(message = "Turn number must be positive") Integer turnNumber
+) {
+
+    public PlayGameRequest(String action) {
+        this(action, null);
+    }
+}
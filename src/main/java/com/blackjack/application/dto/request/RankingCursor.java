@@ -0,0 +1,53 @@
+package com.blackjack.application.dto.request;
+
+import com.blackjack.domain.model.readmodel.LeaderboardEntry;
+import com.blackjack.domain.model.readmodel.RankingPosition;
+import com.blackjack.domain.model.valueobject.player.PlayerId;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * Continuation token for the ranking: the position of the last player on the previous page,
+ * encoded so clients treat it as opaque rather than building their own.
+ */
+public record RankingCursor(RankingPosition position) {
+
+    private static final String SEPARATOR = ",";
+
+    public RankingCursor {
+        Objects.requireNonNull(position, "Cursor position cannot be null");
+    }
+
+    public static RankingCursor of(LeaderboardEntry entry) {
+        return new RankingCursor(entry.position());
+    }
+
+    public static RankingCursor parse(String value) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Cursor cannot be empty");
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(value.trim()), StandardCharsets.UTF_8);
+            String[] parts = decoded.split(SEPARATOR, 3);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Invalid ranking cursor: " + value);
+            }
+            return new RankingCursor(new RankingPosition(
+                    Double.parseDouble(parts[0]),
+                    Integer.parseInt(parts[1]),
+                    PlayerId.from(parts[2])
+            ));
+        } catch (IllegalArgumentException e) {
+            // NumberFormatException and Base64 decoding errors are IllegalArgumentExceptions too
+            throw new IllegalArgumentException("Invalid ranking cursor: " + value);
+        }
+    }
+
+    public String format() {
+        String raw = position.winRate() + SEPARATOR + position.gamesPlayed() + SEPARATOR + position.playerId().value();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -3,13 +3,22 @@ package com.blackjack.application.dto.response;
 import java.util.List;
 
 public record PageResponse<T>(
-        List<T> content,                int page,                       int size,                       long totalElements,             int totalPages,                 boolean first,                  boolean last            ) {
+        List<T> content,                int page,                       int size,                       Long totalElements,             Integer totalPages,                 boolean first,                  boolean last,                   String nextCursor       ) {
    
     public static <T> PageResponse<T> of(
             List<T> content,
             int page,
             int size,
             long totalElements) {
+        return of(content, page, size, totalElements, null);
+    }
+
+    public static <T> PageResponse<T> of(
+            List<T> content,
+            int page,
+            int size,
+            long totalElements,
+            String nextCursor) {
 
         int totalPages = (int) Math.ceil((double) totalElements / size);
         boolean first = page == 0;
@@ -22,7 +31,29 @@ public record PageResponse<T>(
                 totalElements,
                 totalPages,
                 first,
-                last
+                last,
+                nextCursor
+        );
+    }
+
+    // counting every row on each cursor step defeats keyset paging, so the totals stay null unless asked for
+    public static <T> PageResponse<T> afterCursor(
+            List<T> content,
+            int size,
+            Long totalElements,
+            String nextCursor) {
+
+        Integer totalPages = totalElements != null ? (int) Math.ceil((double) totalElements / size) : null;
+
+        return new PageResponse<>(
+                content,
+                0,
+                size,
+                totalElements,
+                totalPages,
+                false,
+                nextCursor == null,
+                nextCursor
         );
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,13 @@
+package com.blackjack.application.dto.response;
+
+import java.util.List;
+
+public record PlayerRankResponse(
+        PlayerRankingResponse player,
+        long rank,
+        long totalPlayers,
+        double percentile,
+        List<PlayerRankingResponse> ahead,
+        List<PlayerRankingResponse> behind
+) {
+}
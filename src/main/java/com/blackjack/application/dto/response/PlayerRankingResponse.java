@@ -1,5 +1,7 @@
 package com.blackjack.application.dto.response;
 
+import com.blackjack.domain.model.readmodel.LeaderboardEntry;
+
 public record PlayerRankingResponse(
         String playerId,
         String playerName,
@@ -7,4 +9,14 @@ public record PlayerRankingResponse(
         int gamesWon,
         double winRate
 ) {
-}
\ No newline at end of file
+
+    public static PlayerRankingResponse of(LeaderboardEntry entry) {
+        return new PlayerRankingResponse(
+                entry.playerId().value(),
+                entry.playerName().value(),
+                entry.gamesPlayed(),
+                entry.gamesWon(),
+                entry.winRate() / 100.0
+        );
+    }
+}
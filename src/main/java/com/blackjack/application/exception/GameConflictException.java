@@ -0,0 +1,8 @@
+package com.blackjack.application.exception;
+
+public class GameConflictException extends RuntimeException {
+
+    public GameConflictException(String gameId) {
+        super("Game was modified concurrently, please retry: " + gameId);
+    }
+}
@@ -0,0 +1,8 @@
+package com.blackjack.application.exception;
+
+public class PlayerNameTakenException extends RuntimeException {
+
+    public PlayerNameTakenException(String playerName) {
+        super("Player name is already taken: " + playerName);
+    }
+}
@@ -4,8 +4,10 @@ import com.blackjack.application.dto.response.GameResponse;
 import com.blackjack.application.dto.response.TurnResponse;
 import com.blackjack.domain.model.aggregate.Game;
 import com.blackjack.domain.model.aggregate.Player;
+import com.blackjack.domain.model.readmodel.GameSummary;
 import com.blackjack.domain.model.valueobject.card.Card;
 import com.blackjack.domain.model.valueobject.game.DeckCount;
+import com.blackjack.domain.model.valueobject.player.PlayerName;
 import com.blackjack.domain.model.valueobject.turn.Turn;
 import org.springframework.stereotype.Component;
 
@@ -16,19 +18,31 @@ import java.util.stream.Collectors;
 public class GameResponseMapper {
 
     public GameResponse toResponse(Game game, Player player, DeckCount deckCount) {
+        return toResponse(GameSummary.of(game, deckCount), player);
+    }
+
+    public GameResponse toResponse(Game game, PlayerName playerName) {
+        return toResponse(GameSummary.of(game), playerName);
+    }
+
+    public GameResponse toResponse(GameSummary game, Player player) {
+        return toResponse(game, player.getName());
+    }
+
+    public GameResponse toResponse(GameSummary game, PlayerName playerName) {
         return new GameResponse(
-                game.getId().value(),
-                game.getPlayerId().value(),
-                player.getName().value(),
-                mapCards(game.getPlayerHand().getCards()),
+                game.id().value(),
+                game.playerId().value(),
+                playerName.value(),
+                mapCards(game.playerHand().getCards()),
                 mapDealerVisibleCards(game),
-                game.getPlayerHand().calculateValue(),
+                game.playerHand().calculateValue(),
                 calculateDealerVisibleValue(game),
-                game.getStatus().name(),
-                mapTurns(game.getTurnHistory()),
-                game.getCreatedAt(),
-                game.getUpdatedAt(),
-                deckCount
+                game.status().name(),
+                mapTurns(game.turnHistory()),
+                game.createdAt(),
+                game.updatedAt(),
+                game.deckCount()
         );
     }
 
@@ -38,20 +52,20 @@ public class GameResponseMapper {
                 .collect(Collectors.toList());
     }
 
-    private List<String> mapDealerVisibleCards(Game game) {
-        if (game.getStatus().isFinished()) {
-            return mapCards(game.getDealerHand().getCards());
+    private List<String> mapDealerVisibleCards(GameSummary game) {
+        if (game.status().isFinished()) {
+            return mapCards(game.dealerHand().getCards());
         } else {
-            Card firstCard = game.getDealerHand().getFirstCard();
+            Card firstCard = game.dealerHand().getFirstCard();
             return firstCard != null ? List.of(firstCard.getSymbol()) : List.of();
         }
     }
 
-    private int calculateDealerVisibleValue(Game game) {
-        if (game.getStatus().isFinished()) {
-            return game.getDealerHand().calculateValue();
+    private int calculateDealerVisibleValue(GameSummary game) {
+        if (game.status().isFinished()) {
+            return game.dealerHand().calculateValue();
         } else {
-            Card firstCard = game.getDealerHand().getFirstCard();
+            Card firstCard = game.dealerHand().getFirstCard();
             return firstCard != null ? firstCard.getValue() : 0;
         }
     }
@@ -5,12 +5,17 @@ import com.blackjack.application.dto.response.GameResponse;
 import com.blackjack.application.mapper.GameResponseMapper;
 import com.blackjack.domain.model.aggregate.Game;
 import com.blackjack.domain.model.aggregate.Player;
+import com.blackjack.domain.model.readmodel.GameSummary;
 import com.blackjack.domain.model.valueobject.game.DeckCount;
 import com.blackjack.domain.model.valueobject.player.PlayerName;
 import com.blackjack.domain.repository.GameRepository;
 import com.blackjack.domain.repository.PlayerRepository;
+import com.blackjack.domain.service.ActiveGameStore;
+import com.blackjack.domain.service.ShoePool;
+import com.blackjack.domain.service.ShuffleStrategy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
 
@@ -21,6 +26,9 @@ public class CreateGameUseCase {
     private final GameRepository gameRepository;
     private final PlayerRepository playerRepository;
     private final GameResponseMapper mapper;
+    private final ShoePool shoePool;
+    private final ShuffleStrategy shuffleStrategy;
+    private final ActiveGameStore activeGameStore;
 
 
     public Mono<GameResponse> execute(CreateGameRequest request) {
@@ -43,7 +51,12 @@ public class CreateGameUseCase {
         return playerRepository.save(newPlayer)
                 .doOnSuccess(player ->
                         log.debug("New player created with ID: {}", player.getId().value())
-                );
+                )
+                .onErrorResume(DataIntegrityViolationException.class, error -> {
+                    log.debug("Player {} was created concurrently, loading it", playerName.value());
+                    return playerRepository.findByName(playerName)
+                            .switchIfEmpty(Mono.error(error));
+                });
     }
 
     private Mono<GameResponse> createAndSaveGame(Player player, DeckCount deckCount) {
@@ -51,10 +64,29 @@ public class CreateGameUseCase {
                 player.getName().value(),
                 deckCount.value());
 
-        Game game = Game.create(player.getId(), deckCount);
+        Game game = Game.create(player.getId(), player.getName(), deckCount, shoePool, shuffleStrategy);
 
         return gameRepository.save(game)
-                .map(savedGame -> mapper.toResponse(savedGame, player, deckCount));
+                .flatMap(savedGame -> currentName(player)
+                        .flatMap(name -> {
+                            if (name.equals(player.getName())) {
+                                activeGameStore.track(savedGame);
+                                return Mono.just(mapper.toResponse(savedGame, player, deckCount));
+                            }
+
+                            // renamed while this game was being stored: the rename may already have refreshed
+                            // the player's games without it, so the new name is written here and reads go to MongoDB
+                            log.debug("Player {} was renamed to '{}' while game {} was created",
+                                    player.getId().value(), name.value(), savedGame.getId().value());
+                            return gameRepository.updatePlayerName(player.getId(), name)
+                                    .thenReturn(mapper.toResponse(GameSummary.of(savedGame, deckCount), name));
+                        }));
+    }
+
+    private Mono<PlayerName> currentName(Player player) {
+        return playerRepository.findById(player.getId())
+                .map(Player::getName)
+                .defaultIfEmpty(player.getName());
     }
 }
 
@@ -3,6 +3,7 @@ package com.blackjack.application.usecase.game;
 import com.blackjack.application.exception.GameNotFoundException;
 import com.blackjack.domain.model.valueobject.game.GameId;
 import com.blackjack.domain.repository.GameRepository;
+import com.blackjack.domain.service.ActiveGameStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -14,11 +15,15 @@ import reactor.core.publisher.Mono;
 public class DeleteGameUseCase {
 
     private final GameRepository gameRepository;
+    private final ActiveGameStore activeGameStore;
 
     public Mono<Void> execute(String gameId) {
         log.info("Deleting game with id: {}", gameId);
 
-        return gameRepository.findById(GameId.from(gameId))
+        GameId id = GameId.from(gameId);
+
+        return activeGameStore.evict(id)
+                .then(gameRepository.findById(id))
                 .switchIfEmpty(Mono.error(new GameNotFoundException(gameId)))
                 .flatMap(game -> gameRepository.deleteById(game.getId()))
                 .doOnSuccess(v -> log.info("Game deleted successfully: {}", gameId))
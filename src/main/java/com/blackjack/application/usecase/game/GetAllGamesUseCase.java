@@ -1,23 +1,33 @@
 package com.blackjack.application.usecase.game;
 
+import com.blackjack.application.dto.request.GameCursor;
 import com.blackjack.application.dto.response.GameResponse;
 import com.blackjack.application.mapper.GameResponseMapper;
+import com.blackjack.domain.model.aggregate.Player;
+import com.blackjack.domain.model.readmodel.GameSummary;
+import com.blackjack.domain.model.valueobject.player.PlayerId;
 import com.blackjack.domain.repository.GameRepository;
 import com.blackjack.domain.repository.PlayerRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import reactor.core.publisher.Flux;
 import com.blackjack.application.dto.response.PageResponse;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class GetAllGamesUseCase {
 
+    // games whose snapshot lacks the player name are resolved one batch at a time while streaming
+    private static final int NAME_BATCH_SIZE = 100;
+
     private final GameRepository gameRepository;
     private final PlayerRepository playerRepository;
     private final GameResponseMapper mapper;
@@ -25,23 +35,78 @@ public class GetAllGamesUseCase {
     public Mono<PageResponse<GameResponse>> execute(int page, int size) {
         log.info("Request to retrieve games page {} with size {}", page, size);
 
-        Mono<List<GameResponse>> gamesListMono = gameRepository.findAll(page, size)
-                .flatMap(game -> playerRepository.findById(game.getPlayerId())
-                        .map(player -> mapper.toResponse(
-                                game,
-                                player,
-                                game.getDeck().getDeckCount()
-                        ))
-                )
-                .collectList();
-
-        Mono<Long> totalElementsMono = gameRepository.count();
-
-        return Mono.zip(gamesListMono, totalElementsMono)
-                .map(tuple -> PageResponse.of(
-                        tuple.getT1(),
-                        page,
-                        size,
-                        tuple.getT2()));
-    }
-}
\ No newline at end of file
+        return Mono.zip(gameRepository.findSummaries(page, size).collectList(), gameRepository.count())
+                .flatMap(tuple -> toResponses(tuple.getT1())
+                        .map(content -> PageResponse.of(
+                                content,
+                                page,
+                                size,
+                                tuple.getT2(),
+                                nextCursor(tuple.getT1(), size))));
+    }
+
+    public Mono<PageResponse<GameResponse>> executeAfter(String after, int size, boolean includeTotal) {
+        log.info("Request to retrieve games after {} with size {}", after, size);
+
+        Mono<Optional<Long>> total = includeTotal
+                ? gameRepository.count().map(Optional::of)
+                : Mono.just(Optional.empty());
+
+        return Mono.fromCallable(() -> GameCursor.parse(after))
+                .flatMap(cursor -> Mono.zip(
+                        gameRepository.findSummariesAfter(cursor.createdAt(), cursor.gameId(), size).collectList(),
+                        total))
+                .flatMap(tuple -> toResponses(tuple.getT1())
+                        .map(content -> PageResponse.afterCursor(
+                                content,
+                                size,
+                                tuple.getT2().orElse(null),
+                                nextCursor(tuple.getT1(), size))));
+    }
+
+    public Flux<GameResponse> stream(int page, int size) {
+        log.info("Request to stream games page {} with size {}", page, size);
+
+        return toResponses(gameRepository.findSummaries(page, size));
+    }
+
+    public Flux<GameResponse> streamAfter(String after, int size) {
+        log.info("Request to stream games after {} with size {}", after, size);
+
+        return Mono.fromCallable(() -> GameCursor.parse(after))
+                .flatMapMany(cursor -> toResponses(
+                        gameRepository.findSummariesAfter(cursor.createdAt(), cursor.gameId(), size)));
+    }
+
+    public Mono<Long> count() {
+        return gameRepository.count();
+    }
+
+    private Flux<GameResponse> toResponses(Flux<GameSummary> games) {
+        return games.buffer(NAME_BATCH_SIZE)
+                .concatMap(this::toResponses)
+                .flatMapIterable(responses -> responses);
+    }
+
+    private Mono<List<GameResponse>> toResponses(List<GameSummary> games) {
+        Set<PlayerId> missingNames = games.stream()
+                .filter(game -> game.snapshotPlayerName().isEmpty())
+                .map(GameSummary::playerId)
+                .collect(Collectors.toSet());
+
+        return playerRepository.findAllByIds(missingNames)
+                .collectMap(Player::getId, Player::getName)
+                .map(names -> games.stream()
+                        .filter(game -> game.snapshotPlayerName().isPresent() || names.containsKey(game.playerId()))
+                        .map(game -> mapper.toResponse(game,
+                                game.snapshotPlayerName().orElseGet(() -> names.get(game.playerId()))))
+                        .toList());
+    }
+
+    private String nextCursor(List<GameSummary> games, int size) {
+        if (games.isEmpty() || games.size() < size) {
+            return null;
+        }
+        return GameCursor.of(games.get(games.size() - 1)).format();
+    }
+}
@@ -3,9 +3,10 @@ package com.blackjack.application.usecase.game;
 import com.blackjack.application.dto.response.GameResponse;
 import com.blackjack.application.exception.GameNotFoundException;
 import com.blackjack.application.mapper.GameResponseMapper;
+import com.blackjack.domain.model.aggregate.Game;
 import com.blackjack.domain.model.valueobject.game.GameId;
-import com.blackjack.domain.repository.GameRepository;
 import com.blackjack.domain.repository.PlayerRepository;
+import com.blackjack.domain.service.ActiveGameStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -16,7 +17,7 @@ import reactor.core.publisher.Mono;
 @RequiredArgsConstructor
 public class GetGameByIdUseCase {
 
-    private final GameRepository gameRepository;
+    private final ActiveGameStore activeGameStore;
     private final PlayerRepository playerRepository;
     private final GameResponseMapper mapper;
 
@@ -24,11 +25,17 @@ public class GetGameByIdUseCase {
     public Mono<GameResponse> execute(String gameId) {
         log.info("Getting game details for gameId: {}", gameId);
 
-        return gameRepository.findById(GameId.from(gameId))
+        // games in progress may hold turns not yet written to MongoDB, so reads go through the store too
+        return activeGameStore.execute(GameId.from(gameId), this::toResponse)
                 .switchIfEmpty(Mono.error(new GameNotFoundException(gameId)))
-                .flatMap(game -> playerRepository.findById(game.getPlayerId())
-                        .map(player -> mapper.toResponse(game, player, game.getDeck().getDeckCount())))
                 .doOnSuccess(response -> log.info("Game found: {}", gameId))
                 .doOnError(error -> log.error("Error getting game {}: {}", gameId, error.getMessage()));
     }
-}
\ No newline at end of file
+
+    private Mono<GameResponse> toResponse(Game game) {
+        return game.getPlayerName()
+                .map(playerName -> Mono.just(mapper.toResponse(game, playerName)))
+                .orElseGet(() -> playerRepository.findById(game.getPlayerId())
+                        .map(player -> mapper.toResponse(game, player, game.getDeck().getDeckCount())));
+    }
+}
@@ -30,8 +30,8 @@ public class GetGamesByPlayerUseCase {
                 .switchIfEmpty(Mono.error(new PlayerNotFoundException(playerId)))
                 .flatMap(player ->
                         Mono.zip(
-                                        gameRepository.findByPlayerId(id, page, size)
-                                                .map(game -> mapper.toResponse(game, player, game.getDeck().getDeckCount()))
+                                        gameRepository.findSummariesByPlayerId(id, page, size)
+                                                .map(game -> mapper.toResponse(game, player))
                                                 .collectList(),
                                         gameRepository.countByPlayerId(id)
                                 )
@@ -46,4 +46,18 @@ public class GetGamesByPlayerUseCase {
                 .doOnError(e -> log.error("Error retrieving games for player {}: {}", playerId, e.getMessage()));
     }
 
+    public Flux<GameResponse> stream(String playerId, int page, int size) {
+        log.info("Request to stream games for player: {} [page: {}, size: {}]", playerId, page, size);
+        PlayerId id = PlayerId.from(playerId);
+
+        return playerRepository.findById(id)
+                .switchIfEmpty(Mono.error(new PlayerNotFoundException(playerId)))
+                .flatMapMany(player -> gameRepository.findSummariesByPlayerId(id, page, size)
+                        .map(game -> mapper.toResponse(game, player)))
+                .doOnError(e -> log.error("Error streaming games for player {}: {}", playerId, e.getMessage()));
+    }
+
+    public Mono<Long> count(String playerId) {
+        return gameRepository.countByPlayerId(PlayerId.from(playerId));
+    }
 }
@@ -2,54 +2,104 @@ package com.blackjack.application.usecase.game;
 
 import com.blackjack.application.dto.request.PlayGameRequest;
 import com.blackjack.application.dto.response.GameResponse;
+import com.blackjack.application.exception.GameConflictException;
 import com.blackjack.application.exception.GameNotFoundException;
 import com.blackjack.application.mapper.GameResponseMapper;
 import com.blackjack.domain.model.aggregate.Game;
 import com.blackjack.domain.model.valueobject.game.GameId;
-import com.blackjack.domain.repository.GameRepository;
+import com.blackjack.domain.model.valueobject.turn.TurnType;
 import com.blackjack.domain.repository.PlayerRepository;
+import com.blackjack.domain.service.ActiveGameStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class PlayGameUseCase {
 
-    private final GameRepository gameRepository;
+    private static final int MAX_CONFLICT_RETRIES = 3;
+    private static final Duration CONFLICT_BACKOFF = Duration.ofMillis(10);
+
+    private final ActiveGameStore activeGameStore;
     private final PlayerRepository playerRepository;
     private final GameResponseMapper mapper;
 
     public Mono<GameResponse> execute(String gameId, PlayGameRequest request) {
         log.info("Executing action {} for game: {}", request.action(), gameId);
 
-        return gameRepository.findById(GameId.from(gameId))
-                .switchIfEmpty(Mono.error(new GameNotFoundException(gameId)))
-                .flatMap(game -> executeAction(game, request.action()))
-                .flatMap(gameRepository::save)
-                .flatMap(game -> playerRepository.findById(game.getPlayerId())
-                        .map(player -> mapper.toResponse(game, player,game.getDeck().getDeckCount())))
+        return Mono.defer(() -> play(gameId, request))
+                .retryWhen(Retry.backoff(MAX_CONFLICT_RETRIES, CONFLICT_BACKOFF)
+                        .filter(OptimisticLockingFailureException.class::isInstance)
+                        .doBeforeRetry(signal -> log.debug("Retrying action {} for game {} after conflict (attempt {})",
+                                request.action(), gameId, signal.totalRetries() + 1))
+                        .onRetryExhaustedThrow((spec, signal) -> new GameConflictException(gameId)))
                 .doOnSuccess(response -> log.info("Action {} executed successfully for game: {}. Status: {}",
                         request.action(), gameId, response.status()))
                 .doOnError(error -> log.error("Error executing action {} for game {}: {}",
                         request.action(), gameId, error.getMessage()));
     }
 
-    private Mono<Game> executeAction(Game game, String action) {
-        return Mono.fromSupplier(() -> {
-            log.debug("Executing action {} on game {}", action, game.getId().value());
+    private Mono<GameResponse> play(String gameId, PlayGameRequest request) {
+        return activeGameStore.execute(GameId.from(gameId), game -> {
+                    if (isReplay(game, request)) {
+                        log.info("Action {} for game {} already applied as turn {}, returning current state",
+                                request.action(), gameId, request.turnNumber());
+                        return toResponse(game);
+                    }
+
+                    executeAction(game, request.action());
+                    return toResponse(game);
+                })
+                .switchIfEmpty(Mono.error(new GameNotFoundException(gameId)));
+    }
+
+    private Mono<GameResponse> toResponse(Game game) {
+        return game.getPlayerName()
+                .map(playerName -> Mono.just(mapper.toResponse(game, playerName)))
+                .orElseGet(() -> playerRepository.findById(game.getPlayerId())
+                        .map(player -> mapper.toResponse(game, player, game.getDeck().getDeckCount())));
+    }
+
+    private boolean isReplay(Game game, PlayGameRequest request) {
+        Integer turnNumber = request.turnNumber();
+        if (turnNumber == null || turnNumber == game.getTurnHistory().size() + 1) {
+            return false;
+        }
+
+        boolean alreadyApplied = game.findTurn(turnNumber)
+                .map(turn -> turn.type() == playerTurnType(request.action()))
+                .orElse(false);
+        if (!alreadyApplied) {
+            throw new GameConflictException(game.getId().value());
+        }
+        return true;
+    }
+
+    private TurnType playerTurnType(String action) {
+        if ("HIT".equalsIgnoreCase(action)) {
+            return TurnType.PLAYER_HIT;
+        } else if ("STAND".equalsIgnoreCase(action)) {
+            return TurnType.PLAYER_STAND;
+        }
+        throw new IllegalArgumentException("Invalid action: " + action + ". Valid actions are: HIT, STAND");
+    }
 
-            if ("HIT".equalsIgnoreCase(action)) {
-                game.hit();
-            } else if ("STAND".equalsIgnoreCase(action)) {
-                game.stand();
-            } else {
-                throw new IllegalArgumentException("Invalid action: " + action + ". Valid actions are: HIT, STAND");
-            }
+    private void executeAction(Game game, String action) {
+        log.debug("Executing action {} on game {}", action, game.getId().value());
 
-            return game;
-        });
+        if ("HIT".equalsIgnoreCase(action)) {
+            game.hit();
+        } else if ("STAND".equalsIgnoreCase(action)) {
+            game.stand();
+        } else {
+            throw new IllegalArgumentException("Invalid action: " + action + ". Valid actions are: HIT, STAND");
+        }
     }
-}
\ No newline at end of file
+}
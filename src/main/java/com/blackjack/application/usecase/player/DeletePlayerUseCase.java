@@ -4,6 +4,7 @@ import com.blackjack.application.exception.PlayerNotFoundException;
 import com.blackjack.domain.model.valueobject.player.PlayerId;
 import com.blackjack.domain.repository.GameRepository;
 import com.blackjack.domain.repository.PlayerRepository;
+import com.blackjack.domain.service.ActiveGameStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -16,6 +17,7 @@ public class DeletePlayerUseCase {
 
     private final PlayerRepository playerRepository;
     private final GameRepository gameRepository;
+    private final ActiveGameStore activeGameStore;
 
     public Mono<Void> execute(String playerId) {
         PlayerId id = PlayerId.from(playerId);
@@ -25,7 +27,8 @@ public class DeletePlayerUseCase {
                     if (!exists) {
                         return Mono.error(new PlayerNotFoundException(playerId));
                     }
-                    return gameRepository.deleteByPlayerId(id)
+                    return activeGameStore.evictPlayer(id)
+                            .then(gameRepository.deleteByPlayerId(id))
                             .then(playerRepository.deleteById(id));
                 });
     }
@@ -2,12 +2,16 @@ package com.blackjack.application.usecase.player;
 
 import com.blackjack.application.dto.request.UpdatePlayerRequest;
 import com.blackjack.application.dto.response.PlayerResponse;
+import com.blackjack.application.exception.PlayerNameTakenException;
 import com.blackjack.application.exception.PlayerNotFoundException;
+import com.blackjack.domain.model.aggregate.Player;
 import com.blackjack.domain.model.valueobject.player.PlayerId;
 import com.blackjack.domain.model.valueobject.player.PlayerName;
 import com.blackjack.domain.repository.PlayerRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
 
@@ -25,10 +29,22 @@ public class UpdatePlayerNameUseCase {
                 .switchIfEmpty(Mono.error(new PlayerNotFoundException(playerId)))
                 .flatMap(player -> {
                     String oldName = player.getName().value();
-                    player.updateName(new PlayerName(request.playerName()));
-                    log.debug("Player {} name changed from '{}' to '{}'", playerId, oldName, request.playerName());
-                    return playerRepository.save(player);
+                    PlayerName newName = new PlayerName(request.playerName());
+                    // a case-only change of the player's own name resolves to the same name key, so it is not a conflict
+                    return playerRepository.findByName(newName)
+                            .filter(holder -> !holder.getId().equals(player.getId()))
+                            .flatMap(holder -> Mono.<Player>error(new PlayerNameTakenException(newName.value())))
+                            .switchIfEmpty(Mono.defer(() -> {
+                                player.updateName(newName);
+                                log.debug("Player {} name changed from '{}' to '{}'", playerId, oldName, newName.value());
+                                // another player can take the name between the check and the write; the unique name key rejects it
+                                return playerRepository.save(player)
+                                        .onErrorMap(DataIntegrityViolationException.class,
+                                                error -> new PlayerNameTakenException(newName.value()));
+                            }));
                 })
+                // deleted between the read and the write
+                .onErrorMap(EmptyResultDataAccessException.class, error -> new PlayerNotFoundException(playerId))
                 .map(player -> new PlayerResponse(
                         player.getId().value(),
                         player.getName().value(),
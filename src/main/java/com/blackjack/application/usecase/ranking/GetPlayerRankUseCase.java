@@ -0,0 +1,92 @@
+package com.blackjack.application.usecase.ranking;
+
+import com.blackjack.application.dto.response.PlayerRankResponse;
+import com.blackjack.application.dto.response.PlayerRankingResponse;
+import com.blackjack.application.exception.PlayerNotFoundException;
+import com.blackjack.domain.model.readmodel.LeaderboardEntry;
+import com.blackjack.domain.model.valueobject.player.PlayerId;
+import com.blackjack.domain.repository.PlayerRepository;
+import com.blackjack.domain.service.Leaderboard;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.OptionalInt;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GetPlayerRankUseCase {
+
+    private static final int MAX_NEIGHBOURS = 10;
+
+    private final PlayerRepository playerRepository;
+    private final Leaderboard leaderboard;
+
+    public Mono<PlayerRankResponse> execute(String playerId, int neighbours) {
+        int validatedNeighbours = Math.min(Math.max(0, neighbours), MAX_NEIGHBOURS);
+        PlayerId id = PlayerId.from(playerId);
+
+        log.info("Getting rank for player: {} (neighbours: {})", playerId, validatedNeighbours);
+
+        return fromLeaderboard(id, validatedNeighbours)
+                .switchIfEmpty(Mono.defer(() -> fromDatabase(id, validatedNeighbours)))
+                .doOnSuccess(response ->
+                        log.info("Player {} ranked {} of {}", playerId, response.rank(), response.totalPlayers())
+                )
+                .doOnError(error -> log.error("Error getting rank for player {}: {}", playerId, error.getMessage()));
+    }
+
+    private Mono<PlayerRankResponse> fromLeaderboard(PlayerId id, int neighbours) {
+        return Mono.fromCallable(() -> {
+            if (!leaderboard.isReady()) {
+                return null;
+            }
+            OptionalInt position = leaderboard.rank(id);
+            if (position.isEmpty()) {
+                return null;
+            }
+
+            int index = position.getAsInt();
+            int firstAhead = Math.max(0, index - neighbours);
+            List<LeaderboardEntry> ahead = leaderboard.page(firstAhead, index - firstAhead);
+            List<LeaderboardEntry> window = leaderboard.page(index, neighbours + 1);
+            if (window.isEmpty() || !window.get(0).playerId().equals(id)) {
+                // moved between the lookups; let the database answer
+                return null;
+            }
+
+            return toResponse(window.get(0), index, leaderboard.size(), ahead, window.subList(1, window.size()));
+        });
+    }
+
+    private Mono<PlayerRankResponse> fromDatabase(PlayerId id, int neighbours) {
+        return playerRepository.findById(id)
+                .switchIfEmpty(Mono.error(new PlayerNotFoundException(id.value())))
+                .map(LeaderboardEntry::of)
+                .flatMap(entry -> Mono.zip(
+                        playerRepository.countRankedAhead(entry.position()),
+                        playerRepository.count(),
+                        playerRepository.findRankedAhead(entry.position(), neighbours).map(LeaderboardEntry::of).collectList(),
+                        playerRepository.findRankedBehind(entry.position(), neighbours).map(LeaderboardEntry::of).collectList()
+                ).map(tuple -> toResponse(entry, tuple.getT1(), tuple.getT2(), tuple.getT3(), tuple.getT4())));
+    }
+
+    private PlayerRankResponse toResponse(LeaderboardEntry entry, long index, long total,
+                                          List<LeaderboardEntry> ahead, List<LeaderboardEntry> behind) {
+        long rank = index + 1;
+        // share of players ranked at or below this one
+        double percentile = total == 0 ? 0.0 : (total - rank + 1) * 100.0 / total;
+
+        return new PlayerRankResponse(
+                PlayerRankingResponse.of(entry),
+                rank,
+                total,
+                percentile,
+                ahead.stream().map(PlayerRankingResponse::of).toList(),
+                behind.stream().map(PlayerRankingResponse::of).toList()
+        );
+    }
+}
@@ -1,40 +1,50 @@
 package com.blackjack.application.usecase.ranking;
 
+import com.blackjack.application.dto.request.RankingCursor;
 import com.blackjack.application.dto.response.PageResponse;
 import com.blackjack.application.dto.response.PlayerRankingResponse;
+import com.blackjack.domain.model.readmodel.LeaderboardEntry;
 import com.blackjack.domain.repository.PlayerRepository;
+import com.blackjack.domain.service.Leaderboard;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+import java.util.Optional;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class GetRankingUseCase {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_STREAM_SIZE = 10_000;
+
     private final PlayerRepository playerRepository;
+    private final Leaderboard leaderboard;
 
     public Mono<PageResponse<PlayerRankingResponse>> execute(int page, int size) {
         int validatedPage = Math.max(0, page);
-        int validatedSize = Math.min(Math.max(1, size), 100);
+        int validatedSize = Math.min(Math.max(1, size), MAX_PAGE_SIZE);
 
         log.info("Getting ranking - page: {}, size: {}", validatedPage, validatedSize);
 
         int offset = validatedPage * validatedSize;
 
+        if (leaderboard.isReady()) {
+            return Mono.fromCallable(() -> toPage(
+                    leaderboard.page(offset, validatedSize), validatedPage, validatedSize, leaderboard.size()));
+        }
+
         return playerRepository.findAllByOrderByWinRateDesc(validatedSize, offset)
-                .map(player -> new PlayerRankingResponse(
-                        player.getId().value(),
-                        player.getName().value(),
-                        player.getGamesPlayed(),
-                        player.getGamesWon(),
-                        player.getWinRate() / 100.0
-                ))
+                .map(LeaderboardEntry::of)
                 .collectList()
                 .zipWith(playerRepository.count())
                 .map(tuple -> {
-                    PageResponse<PlayerRankingResponse> response = PageResponse.of(
+                    PageResponse<PlayerRankingResponse> response = toPage(
                             tuple.getT1(), validatedPage,
                             validatedSize,
                             tuple.getT2());
@@ -46,4 +56,84 @@ public class GetRankingUseCase {
                 })
                 .doOnError(error -> log.error("Error getting ranking: {}", error.getMessage()));
     }
-}
\ No newline at end of file
+
+    public Mono<PageResponse<PlayerRankingResponse>> executeAfter(String after, int size, boolean includeTotal) {
+        int validatedSize = Math.min(Math.max(1, size), MAX_PAGE_SIZE);
+
+        log.info("Getting ranking after cursor - size: {}", validatedSize);
+
+        return Mono.fromCallable(() -> RankingCursor.parse(after))
+                .flatMap(cursor -> {
+                    if (leaderboard.isReady()) {
+                        return Mono.fromCallable(() -> toCursorPage(
+                                leaderboard.pageAfter(cursor.position(), validatedSize),
+                                validatedSize,
+                                includeTotal ? Optional.of((long) leaderboard.size()) : Optional.empty()));
+                    }
+
+                    Mono<Optional<Long>> total = includeTotal
+                            ? playerRepository.count().map(Optional::of)
+                            : Mono.just(Optional.empty());
+                    return playerRepository.findRankedBehind(cursor.position(), validatedSize)
+                            .map(LeaderboardEntry::of)
+                            .collectList()
+                            .zipWith(total)
+                            .map(tuple -> toCursorPage(tuple.getT1(), validatedSize, tuple.getT2()));
+                })
+                .doOnError(error -> log.error("Error getting ranking after cursor: {}", error.getMessage()));
+    }
+
+    // streamed rankings are not held in memory, so exports may ask for far more than a page
+    public Flux<PlayerRankingResponse> stream(int page, int size) {
+        int validatedPage = Math.max(0, page);
+        int validatedSize = Math.min(Math.max(1, size), MAX_STREAM_SIZE);
+        int offset = validatedPage * validatedSize;
+
+        log.info("Streaming ranking - page: {}, size: {}", validatedPage, validatedSize);
+
+        Flux<LeaderboardEntry> entries = leaderboard.isReady()
+                ? Flux.defer(() -> Flux.fromIterable(leaderboard.page(offset, validatedSize)))
+                : playerRepository.findAllByOrderByWinRateDesc(validatedSize, offset).map(LeaderboardEntry::of);
+
+        return entries.map(PlayerRankingResponse::of)
+                .doOnError(error -> log.error("Error streaming ranking: {}", error.getMessage()));
+    }
+
+    public Flux<PlayerRankingResponse> streamAfter(String after, int size) {
+        int validatedSize = Math.min(Math.max(1, size), MAX_STREAM_SIZE);
+
+        log.info("Streaming ranking after cursor - size: {}", validatedSize);
+
+        return Mono.fromCallable(() -> RankingCursor.parse(after))
+                .flatMapMany(cursor -> leaderboard.isReady()
+                        ? Flux.fromIterable(leaderboard.pageAfter(cursor.position(), validatedSize))
+                        : playerRepository.findRankedBehind(cursor.position(), validatedSize).map(LeaderboardEntry::of))
+                .map(PlayerRankingResponse::of)
+                .doOnError(error -> log.error("Error streaming ranking after cursor: {}", error.getMessage()));
+    }
+
+    public Mono<Long> count() {
+        return leaderboard.isReady()
+                ? Mono.fromCallable(() -> (long) leaderboard.size())
+                : playerRepository.count();
+    }
+
+    private PageResponse<PlayerRankingResponse> toPage(List<LeaderboardEntry> entries, int page, int size, long total) {
+        return PageResponse.of(toResponses(entries), page, size, total, nextCursor(entries, size));
+    }
+
+    private PageResponse<PlayerRankingResponse> toCursorPage(List<LeaderboardEntry> entries, int size, Optional<Long> total) {
+        return PageResponse.afterCursor(toResponses(entries), size, total.orElse(null), nextCursor(entries, size));
+    }
+
+    private List<PlayerRankingResponse> toResponses(List<LeaderboardEntry> entries) {
+        return entries.stream().map(PlayerRankingResponse::of).toList();
+    }
+
+    private String nextCursor(List<LeaderboardEntry> entries, int size) {
+        if (entries.isEmpty() || entries.size() < size) {
+            return null;
+        }
+        return RankingCursor.of(entries.get(entries.size() - 1)).format();
+    }
+}
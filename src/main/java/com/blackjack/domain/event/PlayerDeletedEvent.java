@@ -0,0 +1,15 @@
+package com.blackjack.domain.event;
+
+import com.blackjack.domain.model.valueobject.player.PlayerId;
+
+import java.time.LocalDateTime;
+
+public record PlayerDeletedEvent(
+        PlayerId playerId,
+        LocalDateTime occurredAt
+) implements DomainEvent {
+
+    public static PlayerDeletedEvent of(PlayerId playerId) {
+        return new PlayerDeletedEvent(playerId, LocalDateTime.now());
+    }
+}
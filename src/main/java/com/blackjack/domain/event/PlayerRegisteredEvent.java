@@ -0,0 +1,17 @@
+package com.blackjack.domain.event;
+
+import com.blackjack.domain.model.valueobject.player.PlayerId;
+import com.blackjack.domain.model.valueobject.player.PlayerName;
+
+import java.time.LocalDateTime;
+
+public record PlayerRegisteredEvent(
+        PlayerId playerId,
+        PlayerName name,
+        LocalDateTime occurredAt
+) implements DomainEvent {
+
+    public static PlayerRegisteredEvent of(PlayerId playerId, PlayerName name) {
+        return new PlayerRegisteredEvent(playerId, name, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,17 @@
+package com.blackjack.domain.event;
+
+import com.blackjack.domain.model.valueobject.player.PlayerId;
+import com.blackjack.domain.model.valueobject.player.PlayerName;
+
+import java.time.LocalDateTime;
+
+public record PlayerRenamedEvent(
+        PlayerId playerId,
+        PlayerName newName,
+        LocalDateTime occurredAt
+) implements DomainEvent {
+
+    public static PlayerRenamedEvent of(PlayerId playerId, PlayerName newName) {
+        return new PlayerRenamedEvent(playerId, newName, LocalDateTime.now());
+    }
+}
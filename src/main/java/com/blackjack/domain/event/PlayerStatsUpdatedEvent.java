@@ -0,0 +1,20 @@
+package com.blackjack.domain.event;
+
+import com.blackjack.domain.model.valueobject.player.PlayerId;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+public record PlayerStatsUpdatedEvent(
+        Set<PlayerId> playerIds,
+        LocalDateTime occurredAt
+) implements DomainEvent {
+
+    public PlayerStatsUpdatedEvent {
+        playerIds = Set.copyOf(playerIds);
+    }
+
+    public static PlayerStatsUpdatedEvent of(Set<PlayerId> playerIds) {
+        return new PlayerStatsUpdatedEvent(playerIds, LocalDateTime.now());
+    }
+}
@@ -7,6 +7,8 @@ import com.blackjack.domain.model.valueobject.player.PlayerName;
 import com.blackjack.domain.model.valueobject.turn.Turn;
 import com.blackjack.domain.event.DomainEvent;
 import com.blackjack.domain.event.GameFinishedEvent;
+import com.blackjack.domain.service.ShoePool;
+import com.blackjack.domain.service.ShuffleStrategy;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.Getter;
@@ -16,6 +18,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 public class Game {
 
@@ -24,6 +27,7 @@ public class Game {
     private final GameId id;
 
     private final PlayerId playerId;
+    private final PlayerName playerName;
 
     private final Hand playerHand;
     private final Hand dealerHand;
@@ -35,12 +39,15 @@ public class Game {
     private final LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
+    private long version;
+
     private List<DomainEvent> domainEvents = new ArrayList<>();
 
 
-    private Game(GameId id, PlayerId playerId, Hand playerHand, Hand dealerHand, Deck deck, GameStatus status, List<Turn> turnHistory, LocalDateTime createdAt, LocalDateTime updatedAt) {
+    private Game(GameId id, PlayerId playerId, PlayerName playerName, Hand playerHand, Hand dealerHand, Deck deck, GameStatus status, List<Turn> turnHistory, LocalDateTime createdAt, LocalDateTime updatedAt, long version) {
         this.id = Objects.requireNonNull(id, "GameId cannot be null");
         this.playerId = Objects.requireNonNull(playerId, "PlayerId cannot be null");
+        this.playerName = playerName;
         this.playerHand = Objects.requireNonNull(playerHand, "Player hand cannot be null");
         this.dealerHand = Objects.requireNonNull(dealerHand, "Dealer hand cannot be null");
         this.deck = Objects.requireNonNull(deck, "Deck cannot be null");
@@ -48,19 +55,24 @@ public class Game {
         this.turnHistory = new ArrayList<>(Objects.requireNonNull(turnHistory, "Turn history cannot be null"));
         this.createdAt = Objects.requireNonNull(createdAt, "CreatedAt cannot be null");
         this.updatedAt = Objects.requireNonNull(updatedAt, "UpdatedAt cannot be null");
+        if (version < 0) {
+            throw new IllegalArgumentException("Version cannot be negative");
+        }
+        this.version = version;
         this.domainEvents = new ArrayList<>();
     }
 
-    public static Game create(PlayerId playerId) {
-        return create(playerId, DeckCount.standard());
+    public static Game create(PlayerId playerId, PlayerName playerName, DeckCount deckCount, ShoePool shoePool, ShuffleStrategy shuffleStrategy) {
+        Deck deck = shoePool.take(deckCount)
+                .orElseGet(() -> Deck.createAndShuffle(deckCount, shuffleStrategy));
+        return createWithDeck(playerId, playerName, deck);
     }
 
-    public static Game create(PlayerId playerId, DeckCount deckCount) {
-        Deck deck = Deck.createAndShuffle(deckCount);
-        return createWithDeck(playerId, deck);
+    public static Game createWithDeck(PlayerId playerId, Deck deck) {
+        return createWithDeck(playerId, null, deck);
     }
 
-    public static Game createWithDeck(PlayerId playerId, Deck deck) {
+    private static Game createWithDeck(PlayerId playerId, PlayerName playerName, Deck deck) {
         GameId gameId = GameId.generate();
         Hand playerHand = new Hand();
         Hand dealerHand = new Hand();
@@ -68,15 +80,15 @@ public class Game {
         List<Turn> turnHistory = new ArrayList<>();
         LocalDateTime now = LocalDateTime.now();
 
-        Game game = new Game(gameId, playerId, playerHand, dealerHand, deck, status, turnHistory, now, now);
+        Game game = new Game(gameId, playerId, playerName, playerHand, dealerHand, deck, status, turnHistory, now, now, 0);
 
         game.dealInitialCards();
 
         return game;
     }
 
-    public static Game reconstitute(GameId id, PlayerId playerId, Hand playerHand, Hand dealerHand, Deck deck, GameStatus status, List<Turn> turnHistory, LocalDateTime createdAt, LocalDateTime updatedAt) {
-        return new Game(id, playerId, playerHand, dealerHand, deck, status, turnHistory, createdAt, updatedAt);
+    public static Game reconstitute(GameId id, PlayerId playerId, PlayerName playerName, Hand playerHand, Hand dealerHand, Deck deck, GameStatus status, List<Turn> turnHistory, LocalDateTime createdAt, LocalDateTime updatedAt, long version) {
+        return new Game(id, playerId, playerName, playerHand, dealerHand, deck, status, turnHistory, createdAt, updatedAt, version);
     }
 
     public GameId getId() {
@@ -87,6 +99,10 @@ public class Game {
         return playerId;
     }
 
+    public Optional<PlayerName> getPlayerName() {
+        return Optional.ofNullable(playerName);
+    }
+
     public Hand getPlayerHand() {
         return playerHand;
     }
@@ -111,6 +127,14 @@ public class Game {
         return updatedAt;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
+    public void markPersisted() {
+        version++;
+    }
+
     public Turn hit() {
         validateGameIsActive();
 
@@ -194,6 +218,13 @@ public class Game {
         return Collections.unmodifiableList(turnHistory);
     }
 
+    public Optional<Turn> findTurn(int turnNumber) {
+        if (turnNumber < 1 || turnNumber > turnHistory.size()) {
+            return Optional.empty();
+        }
+        return Optional.of(turnHistory.get(turnNumber - 1));
+    }
+
     public List<DomainEvent> getDomainEvents() {
         return Collections.unmodifiableList(new ArrayList<>(domainEvents));
     }
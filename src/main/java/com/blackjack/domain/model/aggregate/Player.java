@@ -1,10 +1,16 @@
 package com.blackjack.domain.model.aggregate;
 
+import com.blackjack.domain.event.DomainEvent;
+import com.blackjack.domain.event.PlayerRegisteredEvent;
+import com.blackjack.domain.event.PlayerRenamedEvent;
 import com.blackjack.domain.model.valueobject.game.GameStatus;
 import com.blackjack.domain.model.valueobject.player.PlayerId;
 import com.blackjack.domain.model.valueobject.player.PlayerName;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 
 
@@ -23,6 +29,10 @@ public class Player {
     private final LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
+    private boolean persisted;
+
+    private final List<DomainEvent> domainEvents = new ArrayList<>();
+
     private Player(PlayerId id, PlayerName name,
                    int gamesPlayed, int gamesWon, int gamesLost, int gamesTied, double winRate,
                    LocalDateTime createdAt, LocalDateTime updatedAt) {
@@ -58,7 +68,7 @@ public class Player {
         PlayerId id = PlayerId.generate();
         LocalDateTime now = LocalDateTime.now();
 
-        return new Player(
+        Player player = new Player(
                 id,
                 name,
                 0,
@@ -69,20 +79,27 @@ public class Player {
                 now,
                 now
         );
+        player.domainEvents.add(PlayerRegisteredEvent.of(id, name));
+        return player;
     }
 
     public static Player reconstitute(PlayerId id, PlayerName name,
                                       int gamesPlayed, int gamesWon, int gamesLost, int gamesTied,
                                       double winRate, LocalDateTime createdAt, LocalDateTime updatedAt) {
-        return new Player(
+        Player player = new Player(
                 id, name,
                 gamesPlayed, gamesWon, gamesLost, gamesTied, winRate,
                 createdAt, updatedAt
         );
+        player.persisted = true;
+        return player;
     }
 
     public void updateName(PlayerName newName) {
         Objects.requireNonNull(newName, "New name cannot be null");
+        if (!newName.equals(this.name)) {
+            domainEvents.add(PlayerRenamedEvent.of(id, newName));
+        }
         this.name = newName;
         this.updatedAt = LocalDateTime.now();
     }
@@ -157,6 +174,22 @@ public class Player {
         return updatedAt;
     }
 
+    public boolean isPersisted() {
+        return persisted;
+    }
+
+    public void markPersisted() {
+        persisted = true;
+    }
+
+    public List<DomainEvent> getDomainEvents() {
+        return Collections.unmodifiableList(new ArrayList<>(domainEvents));
+    }
+
+    public void clearDomainEvents() {
+        domainEvents.clear();
+    }
+
     public void recordWin() {
         recordGameResult(GameStatus.PLAYER_WIN);
     }
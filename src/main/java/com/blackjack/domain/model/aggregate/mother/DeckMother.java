@@ -4,73 +4,83 @@ import com.blackjack.domain.model.valueobject.card.Card;
 import com.blackjack.domain.model.valueobject.card.Rank;
 import com.blackjack.domain.model.valueobject.card.Suit;
 import com.blackjack.domain.model.valueobject.game.Deck;
+import com.blackjack.domain.model.valueobject.game.DeckCount;
+import com.blackjack.domain.service.FisherYatesShuffleStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
 
 
 public class DeckMother {
+
+    public static Deck shuffled() {
+        return shuffled(DeckCount.of(1));
+    }
+
+    public static Deck shuffled(DeckCount count) {
+        return Deck.createAndShuffle(count, FisherYatesShuffleStrategy.fast());
+    }
     
     public static Deck playerWillBust() {
         return withTopCards(
-                new Card(Rank.KING, Suit.HEARTS),    
-                new Card(Rank.QUEEN, Suit.SPADES),   
-                new Card(Rank.FIVE, Suit.CLUBS),     
-                new Card(Rank.KING, Suit.DIAMONDS)   
+                Card.of(Rank.KING, Suit.HEARTS),    
+                Card.of(Rank.QUEEN, Suit.SPADES),   
+                Card.of(Rank.FIVE, Suit.CLUBS),     
+                Card.of(Rank.KING, Suit.DIAMONDS)   
         );
     }
 
     public static Deck dealerWillBust() {
         return withTopCards(
-                new Card(Rank.NINE, Suit.HEARTS),
-                new Card(Rank.NINE, Suit.SPADES),
-                new Card(Rank.TEN, Suit.CLUBS),
-                new Card(Rank.SIX, Suit.DIAMONDS),
-                new Card(Rank.KING, Suit.HEARTS)
+                Card.of(Rank.NINE, Suit.HEARTS),
+                Card.of(Rank.NINE, Suit.SPADES),
+                Card.of(Rank.TEN, Suit.CLUBS),
+                Card.of(Rank.SIX, Suit.DIAMONDS),
+                Card.of(Rank.KING, Suit.HEARTS)
         );
     }
     
     public static Deck playerWinsHigherValue() {
         return withTopCards(
-                new Card(Rank.TEN, Suit.HEARTS),     
-                new Card(Rank.KING, Suit.SPADES),    
-                new Card(Rank.NINE, Suit.CLUBS),     
-                new Card(Rank.NINE, Suit.DIAMONDS)   
+                Card.of(Rank.TEN, Suit.HEARTS),     
+                Card.of(Rank.KING, Suit.SPADES),    
+                Card.of(Rank.NINE, Suit.CLUBS),     
+                Card.of(Rank.NINE, Suit.DIAMONDS)   
         );
     }
     
     public static Deck dealerWinsHigherValue() {
         return withTopCards(
-                new Card(Rank.NINE, Suit.HEARTS),    
-                new Card(Rank.NINE, Suit.SPADES),    
-                new Card(Rank.TEN, Suit.CLUBS),      
-                new Card(Rank.KING, Suit.DIAMONDS)   
+                Card.of(Rank.NINE, Suit.HEARTS),    
+                Card.of(Rank.NINE, Suit.SPADES),    
+                Card.of(Rank.TEN, Suit.CLUBS),      
+                Card.of(Rank.KING, Suit.DIAMONDS)   
         );
     }
     
     public static Deck tieGame() {
         return withTopCards(
-                new Card(Rank.TEN, Suit.HEARTS),     
-                new Card(Rank.NINE, Suit.SPADES),    
-                new Card(Rank.TEN, Suit.CLUBS),      
-                new Card(Rank.NINE, Suit.DIAMONDS)   
+                Card.of(Rank.TEN, Suit.HEARTS),     
+                Card.of(Rank.NINE, Suit.SPADES),    
+                Card.of(Rank.TEN, Suit.CLUBS),      
+                Card.of(Rank.NINE, Suit.DIAMONDS)   
         );
     }
     
     public static Deck playerBlackjack() {
         return withTopCards(
-                new Card(Rank.ACE, Suit.HEARTS),     
-                new Card(Rank.KING, Suit.SPADES),    
-                new Card(Rank.TEN, Suit.CLUBS)       
+                Card.of(Rank.ACE, Suit.HEARTS),     
+                Card.of(Rank.KING, Suit.SPADES),    
+                Card.of(Rank.TEN, Suit.CLUBS)       
         );
     }
     
     public static Deck dealerDrawsUntil17() {
         return withTopCards(
-                new Card(Rank.NINE, Suit.HEARTS),    
-                new Card(Rank.NINE, Suit.SPADES),    
-                new Card(Rank.TEN, Suit.CLUBS),      
-                new Card(Rank.SEVEN, Suit.DIAMONDS)  
+                Card.of(Rank.NINE, Suit.HEARTS),    
+                Card.of(Rank.NINE, Suit.SPADES),    
+                Card.of(Rank.TEN, Suit.CLUBS),      
+                Card.of(Rank.SEVEN, Suit.DIAMONDS)  
         );
     }
     
@@ -85,7 +95,7 @@ public class DeckMother {
         }
         
         while (allCards.size() < 52) {
-            Card filler = new Card(Rank.TWO, Suit.CLUBS);
+            Card filler = Card.of(Rank.TWO, Suit.CLUBS);
             if (!allCards.contains(filler)) {
                 allCards.add(filler);
             }
@@ -3,6 +3,7 @@ package com.blackjack.domain.model.aggregate.mother;
 
 import com.blackjack.domain.model.aggregate.Game;
 import com.blackjack.domain.model.valueobject.game.Deck;
+import com.blackjack.domain.model.valueobject.game.DeckCount;
 import com.blackjack.domain.model.valueobject.player.PlayerId;
 import com.blackjack.domain.model.valueobject.player.PlayerName;
 
@@ -11,7 +12,7 @@ public class GameMother {
     private static final PlayerId DEFAULT_PLAYER_ID = PlayerId.generate();
 
     public static Game defaultGame() {
-        return Game.create(DEFAULT_PLAYER_ID);
+        return withPlayer(DEFAULT_PLAYER_ID);
     }
 
     public static Game withDeck(Deck deck) {
@@ -19,7 +20,11 @@ public class GameMother {
     }
 
     public static Game withPlayer(PlayerId playerId) {
-        return Game.create(playerId);
+        return withPlayer(playerId, DeckCount.standard());
+    }
+
+    public static Game withPlayer(PlayerId playerId, DeckCount deckCount) {
+        return Game.createWithDeck(playerId, DeckMother.shuffled(deckCount));
     }
 
     public static Game withPlayerAndDeck(PlayerId playerId, Deck deck) {
@@ -0,0 +1,66 @@
+package com.blackjack.domain.model.readmodel;
+
+import com.blackjack.domain.model.aggregate.Game;
+import com.blackjack.domain.model.valueobject.game.DeckCount;
+import com.blackjack.domain.model.valueobject.game.GameId;
+import com.blackjack.domain.model.valueobject.game.GameStatus;
+import com.blackjack.domain.model.valueobject.game.Hand;
+import com.blackjack.domain.model.valueobject.player.PlayerId;
+import com.blackjack.domain.model.valueobject.player.PlayerName;
+import com.blackjack.domain.model.valueobject.turn.Turn;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Everything a game listing shows, without the shoe: list queries read this instead of
+ * rebuilding a full {@link Game} whose deck would only be used for its size.
+ */
+public record GameSummary(
+        GameId id,
+        PlayerId playerId,
+        PlayerName playerName,
+        Hand playerHand,
+        Hand dealerHand,
+        GameStatus status,
+        List<Turn> turnHistory,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        DeckCount deckCount
+) {
+
+    public GameSummary {
+        Objects.requireNonNull(id, "GameId cannot be null");
+        Objects.requireNonNull(playerId, "PlayerId cannot be null");
+        Objects.requireNonNull(playerHand, "Player hand cannot be null");
+        Objects.requireNonNull(dealerHand, "Dealer hand cannot be null");
+        Objects.requireNonNull(status, "Status cannot be null");
+        Objects.requireNonNull(deckCount, "Deck count cannot be null");
+        turnHistory = List.copyOf(Objects.requireNonNull(turnHistory, "Turn history cannot be null"));
+    }
+
+    public Optional<PlayerName> snapshotPlayerName() {
+        return Optional.ofNullable(playerName);
+    }
+
+    public static GameSummary of(Game game) {
+        return of(game, game.getDeck().getDeckCount());
+    }
+
+    public static GameSummary of(Game game, DeckCount deckCount) {
+        return new GameSummary(
+                game.getId(),
+                game.getPlayerId(),
+                game.getPlayerName().orElse(null),
+                game.getPlayerHand(),
+                game.getDealerHand(),
+                game.getStatus(),
+                game.getTurnHistory(),
+                game.getCreatedAt(),
+                game.getUpdatedAt(),
+                deckCount
+        );
+    }
+}
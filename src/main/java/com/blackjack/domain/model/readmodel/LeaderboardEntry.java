@@ -0,0 +1,46 @@
+package com.blackjack.domain.model.readmodel;
+
+import com.blackjack.domain.model.aggregate.Player;
+import com.blackjack.domain.model.valueobject.player.PlayerId;
+import com.blackjack.domain.model.valueobject.player.PlayerName;
+
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * A player's standing as the ranking shows it, ordered by {@link RankingPosition#RANKING_ORDER}.
+ */
+public record LeaderboardEntry(
+        PlayerId playerId,
+        PlayerName playerName,
+        int gamesPlayed,
+        int gamesWon,
+        double winRate
+) {
+
+    public static final Comparator<LeaderboardEntry> RANKING_ORDER =
+            Comparator.comparing(LeaderboardEntry::position, RankingPosition.RANKING_ORDER);
+
+    public LeaderboardEntry {
+        Objects.requireNonNull(playerId, "PlayerId cannot be null");
+        Objects.requireNonNull(playerName, "PlayerName cannot be null");
+    }
+
+    public static LeaderboardEntry of(Player player) {
+        return new LeaderboardEntry(
+                player.getId(),
+                player.getName(),
+                player.getGamesPlayed(),
+                player.getGamesWon(),
+                player.getWinRate()
+        );
+    }
+
+    public RankingPosition position() {
+        return new RankingPosition(winRate, gamesPlayed, playerId);
+    }
+
+    public LeaderboardEntry withName(PlayerName name) {
+        return new LeaderboardEntry(playerId, name, gamesPlayed, gamesWon, winRate);
+    }
+}
@@ -0,0 +1,24 @@
+package com.blackjack.domain.model.readmodel;
+
+import com.blackjack.domain.model.valueobject.player.PlayerId;
+
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * Where a player sits in the ranking, and nothing else. {@link #RANKING_ORDER} is the ranking
+ * itself: best win rate first, more games played breaking ties, then the id so the order is
+ * total. Every key sorts descending, the same as the players ranking index, so a position is a
+ * plain row comparison in SQL.
+ */
+public record RankingPosition(double winRate, int gamesPlayed, PlayerId playerId) {
+
+    public static final Comparator<RankingPosition> RANKING_ORDER = Comparator
+            .comparingDouble(RankingPosition::winRate).reversed()
+            .thenComparing(Comparator.comparingInt(RankingPosition::gamesPlayed).reversed())
+            .thenComparing(position -> position.playerId().value(), Comparator.reverseOrder());
+
+    public RankingPosition {
+        Objects.requireNonNull(playerId, "PlayerId cannot be null");
+    }
+}
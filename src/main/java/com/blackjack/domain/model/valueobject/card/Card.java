@@ -4,11 +4,30 @@ import java.util.Objects;
 
 public record Card(Rank rank, Suit suit) {
 
+    private static final int SUITS = Suit.values().length;
+    private static final Card[] CANONICAL = createCanonicalCards();
+
     public Card {
         Objects.requireNonNull(rank, "Rank cannot be null");
         Objects.requireNonNull(suit, "Suit cannot be null");
     }
 
+    public static Card of(Rank rank, Suit suit) {
+        Objects.requireNonNull(rank, "Rank cannot be null");
+        Objects.requireNonNull(suit, "Suit cannot be null");
+        return CANONICAL[rank.ordinal() * SUITS + suit.ordinal()];
+    }
+
+    private static Card[] createCanonicalCards() {
+        Card[] cards = new Card[Rank.values().length * SUITS];
+        for (Rank rank : Rank.values()) {
+            for (Suit suit : Suit.values()) {
+                cards[rank.ordinal() * SUITS + suit.ordinal()] = new Card(rank, suit);
+            }
+        }
+        return cards;
+    }
+
     public int getValue() {
         return rank.getValue();
     }
@@ -3,37 +3,55 @@ package com.blackjack.domain.model.valueobject.game;
 import com.blackjack.domain.model.valueobject.card.Card;
 import com.blackjack.domain.model.valueobject.card.Rank;
 import com.blackjack.domain.model.valueobject.card.Suit;
+import com.blackjack.domain.service.DeterministicShuffleStrategy;
+import com.blackjack.domain.service.ShuffleStrategy;
 
-import java.util.ArrayList;
-import java.util.Collections;
+import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.RandomAccess;
 
 public class Deck {
 
     private static final int CARDS_PER_DECK = 52;
+    private static final int SUITS = Suit.values().length;
 
-    private final List<Card> cards;
+    private static final Rank[] RANKS = Rank.values();
+    private static final Suit[] SUIT_VALUES = Suit.values();
+    private static final Card[] CARDS_BY_CODE = createCardsByCode();
+
+    private byte[] cards;
+    private final int size;
+    private final Long seed;
     private int currentIndex;
 
-    private Deck(List<Card> cards, int currentIndex) {
-        this.cards = List.copyOf(cards);
-        this.currentIndex = currentIndex;
+    private Deck(byte[] cards, int currentIndex) {
+        this(cards, cards.length, null, currentIndex);
     }
 
-    public static Deck createAndShuffle() {
-        return createAndShuffle(DeckCount.of(1));
+    private Deck(byte[] cards, int size, Long seed, int currentIndex) {
+        this.cards = cards;
+        this.size = size;
+        this.seed = seed;
+        this.currentIndex = currentIndex;
     }
 
-    public static Deck createAndShuffle(DeckCount count) {
-        List<Card> cards = createCards(count);
-        Collections.shuffle(cards);
+    public static Deck createAndShuffle(DeckCount count, ShuffleStrategy shuffleStrategy) {
+        Objects.requireNonNull(shuffleStrategy, "Shuffle strategy cannot be null");
+        OptionalLong seed = shuffleStrategy.nextSeed();
+        if (seed.isPresent()) {
+            return createFromSeed(count, seed.getAsLong());
+        }
+
+        byte[] cards = createCards(count);
+        shuffleStrategy.shuffle(cards);
         return new Deck(cards, 0);
     }
 
     public static Deck createUnshuffled() {
-        List<Card> cards = createStandardDeck();
-        return new Deck(cards, 0);
+        return new Deck(createCards(DeckCount.standard()), 0);
     }
 
     public static Deck reconstitute(List<Card> cards, int currentIndex) {
@@ -48,44 +66,108 @@ public class Deck {
                     "Current index must be between 0 and " + cards.size()
             );
         }
-        return new Deck(cards, currentIndex);
+
+        byte[] encoded = new byte[cards.size()];
+        for (int i = 0; i < encoded.length; i++) {
+            encoded[i] = encode(cards.get(i));
+        }
+        return new Deck(encoded, currentIndex);
+    }
+
+    // a new shoe is shuffled up front, so a pooled shoe never shuffles on the thread that deals it
+    public static Deck createFromSeed(DeckCount count, long seed) {
+        Objects.requireNonNull(count, "Deck count cannot be null");
+        byte[] cards = shuffledFromSeed(count, seed);
+        return new Deck(cards, cards.length, seed, 0);
+    }
+
+    public static Deck reconstituteFromSeed(DeckCount count, long seed, int algorithmVersion, int currentIndex) {
+        Objects.requireNonNull(count, "Deck count cannot be null");
+        if (algorithmVersion != DeterministicShuffleStrategy.ALGORITHM_VERSION) {
+            throw new IllegalArgumentException("Unsupported shuffle algorithm version: " + algorithmVersion);
+        }
+        int size = CARDS_PER_DECK * count.value();
+        if (currentIndex < 0 || currentIndex > size) {
+            throw new IllegalArgumentException(
+                    "Current index must be between 0 and " + size
+            );
+        }
+        // a loaded shoe is only regenerated once a card is drawn, reads never pay for it
+        return new Deck(null, size, seed, currentIndex);
     }
 
-    private static List<Card> createCards(DeckCount count) {
-        int totalCards = 52 * count.value();
-        List<Card> cards = new ArrayList<>(totalCards);
+    private static byte[] shuffledFromSeed(DeckCount count, long seed) {
+        byte[] cards = createCards(count);
+        DeterministicShuffleStrategy.shuffle(cards, seed, DeterministicShuffleStrategy.ALGORITHM_VERSION);
+        return cards;
+    }
+
+    private static byte[] createCards(DeckCount count) {
+        byte[] cards = new byte[CARDS_PER_DECK * count.value()];
 
+        int position = 0;
         for (int i = 0; i < count.value(); i++) {
-            for (Suit suit : Suit.values()) {
-                for (Rank rank : Rank.values()) {
-                    cards.add(new Card(rank, suit));
+            for (Suit suit : SUIT_VALUES) {
+                for (Rank rank : RANKS) {
+                    cards[position++] = encode(rank, suit);
                 }
             }
         }
         return cards;
     }
 
+    private static byte encode(Card card) {
+        Objects.requireNonNull(card, "Card cannot be null");
+        return encode(card.rank(), card.suit());
+    }
+
+    private static byte encode(Rank rank, Suit suit) {
+        return (byte) (rank.ordinal() * SUITS + suit.ordinal());
+    }
+
+    private static Card decode(byte code) {
+        return CARDS_BY_CODE[code];
+    }
+
+    private static Card[] createCardsByCode() {
+        Card[] cards = new Card[RANKS.length * SUITS];
+        for (Rank rank : RANKS) {
+            for (Suit suit : SUIT_VALUES) {
+                cards[encode(rank, suit)] = Card.of(rank, suit);
+            }
+        }
+        return cards;
+    }
+
     public Card draw() {
         if (isEmpty()) {
             throw new IllegalStateException("No more cards in the deck");
         }
 
-        Card card = cards.get(currentIndex);
+        Card card = decode(cards()[currentIndex]);
         currentIndex++;
 
         return card;
     }
 
     public boolean isEmpty() {
-        return currentIndex >= cards.size();
+        return currentIndex >= size;
     }
 
     public int remainingCards() {
-        return cards.size() - currentIndex;
+        return size - currentIndex;
     }
 
     public List<Card> getCards() {
-        return cards;
+        return new CardListView(cards());
+    }
+
+    public boolean isSeeded() {
+        return seed != null;
+    }
+
+    public OptionalLong getSeed() {
+        return seed != null ? OptionalLong.of(seed) : OptionalLong.empty();
     }
 
     public int getCurrentIndex() {
@@ -93,44 +175,58 @@ public class Deck {
     }
 
     public int size() {
-        return cards.size();
+        return size;
     }
 
-    private static List<Card> createStandardDeck() {
-        List<Card> cards = new ArrayList<>();
+    public DeckCount getDeckCount(){
+        return DeckCount.of(size / CARDS_PER_DECK);
+    }
 
-        for (Suit suit : Suit.values()) {
-            for (Rank rank : Rank.values()) {
-                cards.add(new Card(rank, suit));
-            }
+    private byte[] cards() {
+        if (cards == null) {
+            cards = shuffledFromSeed(getDeckCount(), seed);
         }
-
         return cards;
     }
 
-    public DeckCount getDeckCount(){
-        return DeckCount.of(cards.size()/CARDS_PER_DECK);
-    }
-
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         Deck deck = (Deck) o;
-        return currentIndex == deck.currentIndex && Objects.equals(cards, deck.cards);
+        return currentIndex == deck.currentIndex && Arrays.equals(cards(), deck.cards());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(cards, currentIndex);
+        return 31 * Arrays.hashCode(cards()) + currentIndex;
     }
 
     @Override
     public String toString() {
         return "Deck{" +
-                "totalCards=" + cards.size() +
+                "totalCards=" + size +
                 ", remainingCards=" + remainingCards() +
                 ", currentIndex=" + currentIndex +
                 '}';
     }
-}
\ No newline at end of file
+
+    private static final class CardListView extends AbstractList<Card> implements RandomAccess {
+
+        private final byte[] cards;
+
+        private CardListView(byte[] cards) {
+            this.cards = cards;
+        }
+
+        @Override
+        public Card get(int index) {
+            return decode(cards[index]);
+        }
+
+        @Override
+        public int size() {
+            return cards.length;
+        }
+    }
+}
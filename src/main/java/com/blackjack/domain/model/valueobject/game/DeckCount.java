@@ -2,8 +2,8 @@ package com.blackjack.domain.model.valueobject.game;
 
 public record DeckCount(int value) {
 
-    private static final int MIN_DECKS = 1;
-    private static final int MAX_DECKS = 8;
+    public static final int MIN_DECKS = 1;
+    public static final int MAX_DECKS = 8;
 
     public DeckCount {
         if (value < MIN_DECKS || value > MAX_DECKS) {
@@ -13,15 +13,19 @@ public class Hand {
     private static final int BLACKJACK_CARDS = 2;
     private static final int ACE_HIGH_VALUE = 11;
     private static final int ACE_LOW_VALUE = 1;
+    private static final int SOFT_ACE_BONUS = ACE_HIGH_VALUE - ACE_LOW_VALUE;
 
     private final List<Card> cards;
+    private int hardValue;
+    private int aceCount;
 
     public Hand() {
         this.cards = new ArrayList<>();
     }
 
     private Hand(List<Card> cards) {
-        this.cards = new ArrayList<>(cards);
+        this.cards = new ArrayList<>(cards.size());
+        cards.forEach(this::addCard);
     }
 
     public static Hand from(List<Card> cards) {
@@ -32,29 +36,25 @@ public class Hand {
     public void addCard(Card card) {
         Objects.requireNonNull(card, "Card cannot be null");
         this.cards.add(card);
-    }
 
-    public int calculateValue() {
-        int value = 0;
-        int aceCount = 0;
-
-        for (Card card : cards) {
-            value += card.getValue();
-            if (card.isAce()) {
-                aceCount++;
-            }
+        if (card.isAce()) {
+            this.hardValue += ACE_LOW_VALUE;
+            this.aceCount++;
+        } else {
+            this.hardValue += card.getValue();
         }
+    }
 
-        while (aceCount > 0 && value > BLACKJACK_VALUE) {
-            value -= (ACE_HIGH_VALUE - ACE_LOW_VALUE);
-            aceCount--;
-        }
+    public int calculateValue() {
+        return isSoft() ? hardValue + SOFT_ACE_BONUS : hardValue;
+    }
 
-        return value;
+    public boolean isSoft() {
+        return aceCount > 0 && hardValue + SOFT_ACE_BONUS <= BLACKJACK_VALUE;
     }
 
     public boolean isBusted() {
-        return calculateValue() > BLACKJACK_VALUE;
+        return hardValue > BLACKJACK_VALUE;
     }
 
     public boolean isBlackjack() {
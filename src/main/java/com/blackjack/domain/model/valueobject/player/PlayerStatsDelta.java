@@ -0,0 +1,39 @@
+package com.blackjack.domain.model.valueobject.player;
+
+import com.blackjack.domain.model.valueobject.game.GameStatus;
+
+import java.util.Objects;
+
+public record PlayerStatsDelta(int played, int won, int lost, int tied) {
+
+    public PlayerStatsDelta {
+        if (played < 0 || won < 0 || lost < 0 || tied < 0) {
+            throw new IllegalArgumentException("Stats delta cannot be negative");
+        }
+        if (won + lost + tied != played) {
+            throw new IllegalArgumentException("Wins, losses and ties must add up to games played");
+        }
+    }
+
+    public static PlayerStatsDelta of(GameStatus result) {
+        Objects.requireNonNull(result, "Game status cannot be null");
+
+        return switch (result) {
+            case PLAYER_WIN -> new PlayerStatsDelta(1, 1, 0, 0);
+            case DEALER_WIN -> new PlayerStatsDelta(1, 0, 1, 0);
+            case TIE -> new PlayerStatsDelta(1, 0, 0, 1);
+            default -> throw new IllegalArgumentException(
+                    "Cannot record result for game still in progress: " + result
+            );
+        };
+    }
+
+    public PlayerStatsDelta plus(PlayerStatsDelta other) {
+        return new PlayerStatsDelta(
+                played + other.played,
+                won + other.won,
+                lost + other.lost,
+                tied + other.tied
+        );
+    }
+}
@@ -1,20 +1,31 @@
 package com.blackjack.domain.repository;
 
+import com.blackjack.domain.event.GameFinishedEvent;
 import com.blackjack.domain.model.aggregate.Game;
+import com.blackjack.domain.model.readmodel.GameSummary;
 import com.blackjack.domain.model.valueobject.game.GameId;
 import com.blackjack.domain.model.valueobject.player.PlayerId;
+import com.blackjack.domain.model.valueobject.player.PlayerName;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+
 public interface GameRepository {
     Mono<Game> save(Game game);
+    Mono<Game> saveAction(Game game, int previousTurnCount);
     Mono<Game> findById(GameId id);
     Mono<Void> deleteById(GameId id);
     Flux<Game> findAllActive();
     Mono<Boolean> existsById(GameId id);
     Mono<Void> deleteByPlayerId(PlayerId playerId);
-    Flux<Game> findAll(int page, int size);
+    Flux<GameSummary> findSummaries(int page, int size);
+    Flux<GameSummary> findSummariesAfter(LocalDateTime createdAt, GameId id, int size);
     Mono<Long> count();
-    Flux<Game> findByPlayerId(PlayerId playerId, int page, int size);
+    Flux<GameSummary> findSummariesByPlayerId(PlayerId playerId, int page, int size);
     Mono<Long> countByPlayerId(PlayerId playerId);
+    Mono<Long> updatePlayerName(PlayerId playerId, PlayerName playerName);
+    Flux<GameFinishedEvent> claimPendingEvents(LocalDateTime dispatchedBefore, int limit);
+    Mono<Void> acknowledgeEvents(Collection<GameId> gameIds);
 }
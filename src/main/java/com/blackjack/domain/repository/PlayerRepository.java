@@ -1,21 +1,31 @@
 package com.blackjack.domain.repository;
 
+import com.blackjack.domain.event.GameFinishedEvent;
 import com.blackjack.domain.model.aggregate.Player;
+import com.blackjack.domain.model.readmodel.RankingPosition;
 import com.blackjack.domain.model.valueobject.player.PlayerId;
 import com.blackjack.domain.model.valueobject.player.PlayerName;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+
 public interface PlayerRepository {
     Mono<Player> save(Player player);
+    Flux<Player> saveAll(Collection<Player> players);
     Mono<Player> findById(PlayerId id);
+    Flux<Player> findAllByIds(Collection<PlayerId> ids);
     Mono<Player> findByName(PlayerName name);
     Flux<Player> findAll();
     Flux<Player> findTopByWinRate(int limit);
     Mono<Boolean> existsByName(PlayerName name);
     Mono<Boolean> existsById(PlayerId id);
     Flux<Player> findAllByOrderByWinRateDesc(int limit, int offset);
+    Mono<Long> countRankedAhead(RankingPosition position);
+    Flux<Player> findRankedAhead(RankingPosition position, int limit);
+    Flux<Player> findRankedBehind(RankingPosition position, int limit);
     Mono<Long> count();
     Mono<Void> deleteById(PlayerId id);
+    Mono<Integer> recordGameResults(Collection<GameFinishedEvent> results);
 
 }
@@ -0,0 +1,20 @@
+package com.blackjack.domain.service;
+
+import com.blackjack.domain.model.aggregate.Game;
+import com.blackjack.domain.model.valueobject.game.GameId;
+import com.blackjack.domain.model.valueobject.player.PlayerId;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Function;
+
+/**
+ * Holds games in progress in memory. Actions on one game run one at a time against the live
+ * aggregate and whatever they change is persisted by the store; callers must not keep the game
+ * past the action.
+ */
+public interface ActiveGameStore {
+    <T> Mono<T> execute(GameId id, Function<Game, Mono<T>> action);
+    void track(Game game);
+    Mono<Void> evict(GameId id);
+    Mono<Void> evictPlayer(PlayerId playerId);
+}
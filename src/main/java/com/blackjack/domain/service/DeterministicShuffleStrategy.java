@@ -0,0 +1,60 @@
+package com.blackjack.domain.service;
+
+import java.security.SecureRandom;
+import java.util.Objects;
+import java.util.OptionalLong;
+
+/**
+ * Shuffles from a per-shoe seed so a shoe can be stored as (seed, algorithm version, position)
+ * and regenerated on load. The generator is a self-contained SplitMix64 so a stored seed
+ * always yields the same order, whatever JDK the application runs on; any change to the
+ * algorithm must bump {@link #ALGORITHM_VERSION} and keep the previous versions readable.
+ */
+public class DeterministicShuffleStrategy implements ShuffleStrategy {
+
+    public static final int ALGORITHM_VERSION = 1;
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+    private static final long RANGE = 1L << 31;
+
+    private static final ThreadLocal<SecureRandom> SEEDS = ThreadLocal.withInitial(SecureRandom::new);
+
+    @Override
+    public void shuffle(byte[] cards) {
+        shuffle(cards, SEEDS.get().nextLong(), ALGORITHM_VERSION);
+    }
+
+    @Override
+    public OptionalLong nextSeed() {
+        return OptionalLong.of(SEEDS.get().nextLong());
+    }
+
+    public static void shuffle(byte[] cards, long seed, int algorithmVersion) {
+        Objects.requireNonNull(cards, "Cards cannot be null");
+        if (algorithmVersion != ALGORITHM_VERSION) {
+            throw new IllegalArgumentException("Unsupported shuffle algorithm version: " + algorithmVersion);
+        }
+
+        long state = seed;
+        for (int i = cards.length - 1; i > 0; i--) {
+            long bound = i + 1;
+            long limit = RANGE - RANGE % bound;
+            long value;
+            do {
+                state += GOLDEN_GAMMA;
+                value = mix64(state) >>> 33;
+            } while (value >= limit);
+
+            int j = (int) (value % bound);
+            byte swap = cards[i];
+            cards[i] = cards[j];
+            cards[j] = swap;
+        }
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,49 @@
+package com.blackjack.domain.service;
+
+import java.security.SecureRandom;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+
+public class FisherYatesShuffleStrategy implements ShuffleStrategy {
+
+    private static final FisherYatesShuffleStrategy FAST =
+            new FisherYatesShuffleStrategy(ThreadLocal.withInitial(SplittableRandom::new)::get);
+
+    private final Supplier<? extends RandomGenerator> randomSource;
+
+    private FisherYatesShuffleStrategy(Supplier<? extends RandomGenerator> randomSource) {
+        this.randomSource = Objects.requireNonNull(randomSource, "Random source cannot be null");
+    }
+
+    public static FisherYatesShuffleStrategy fast() {
+        return FAST;
+    }
+
+    public static FisherYatesShuffleStrategy secure() {
+        return new FisherYatesShuffleStrategy(ThreadLocal.withInitial(SecureRandom::new)::get);
+    }
+
+    public static FisherYatesShuffleStrategy seeded(long seed) {
+        SplittableRandom root = new SplittableRandom(seed);
+        return new FisherYatesShuffleStrategy(ThreadLocal.withInitial(() -> {
+            synchronized (root) {
+                return root.split();
+            }
+        })::get);
+    }
+
+    @Override
+    public void shuffle(byte[] cards) {
+        Objects.requireNonNull(cards, "Cards cannot be null");
+        RandomGenerator random = randomSource.get();
+
+        for (int i = cards.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            byte swap = cards[i];
+            cards[i] = cards[j];
+            cards[j] = swap;
+        }
+    }
+}
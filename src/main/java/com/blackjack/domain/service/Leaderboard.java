@@ -0,0 +1,16 @@
+package com.blackjack.domain.service;
+
+import com.blackjack.domain.model.readmodel.LeaderboardEntry;
+import com.blackjack.domain.model.readmodel.RankingPosition;
+import com.blackjack.domain.model.valueobject.player.PlayerId;
+
+import java.util.List;
+import java.util.OptionalInt;
+
+public interface Leaderboard {
+    boolean isReady();
+    List<LeaderboardEntry> page(int offset, int limit);
+    List<LeaderboardEntry> pageAfter(RankingPosition position, int limit);
+    int size();
+    OptionalInt rank(PlayerId playerId);
+}
@@ -0,0 +1,10 @@
+package com.blackjack.domain.service;
+
+import com.blackjack.domain.model.valueobject.game.Deck;
+import com.blackjack.domain.model.valueobject.game.DeckCount;
+
+import java.util.Optional;
+
+public interface ShoePool {
+    Optional<Deck> take(DeckCount deckCount);
+}
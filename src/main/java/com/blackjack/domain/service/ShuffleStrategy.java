@@ -0,0 +1,11 @@
+package com.blackjack.domain.service;
+
+import java.util.OptionalLong;
+
+public interface ShuffleStrategy {
+    void shuffle(byte[] cards);
+
+    default OptionalLong nextSeed() {
+        return OptionalLong.empty();
+    }
+}
@@ -0,0 +1,209 @@
+package com.blackjack.infrastructure.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Size-bounded LRU map whose entries also expire a fixed time after they were written.
+ * <p>
+ * Keys are spread over independently locked stripes, each an LRU of its share of the bound, so
+ * lookups on different keys rarely contend; small caches use a single stripe and keep exact LRU.
+ * <p>
+ * Read-through callers take an {@link #epoch()} before loading and hand it back to
+ * {@link #putIfCurrent}: an invalidation of the same key in between discards the loaded value, so
+ * a read that raced a write can never re-cache the row the write just replaced. Invalidations of
+ * other keys leave the load alone. Each stripe remembers as many recent invalidations as it holds
+ * entries; once one is forgotten, loads that started before it are discarded for the whole stripe.
+ */
+public class BoundedCache<K, V> {
+
+    private static final int MAX_STRIPES = 16;
+    private static final int MIN_ENTRIES_PER_STRIPE = 64;
+
+    private final long ttlNanos;
+    private final LongSupplier ticker;
+    private final List<Stripe> stripes;
+    private final AtomicLong clock = new AtomicLong();
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter sizeEvictions;
+    private final Counter expiryEvictions;
+
+    public BoundedCache(String name, int maxSize, Duration ttl, MeterRegistry meterRegistry) {
+        this(name, maxSize, ttl, meterRegistry, System::nanoTime);
+    }
+
+    BoundedCache(String name, int maxSize, Duration ttl, MeterRegistry meterRegistry, LongSupplier ticker) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Cache size must be positive");
+        }
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("Cache TTL must be positive");
+        }
+
+        this.ttlNanos = ttl.toNanos();
+        this.ticker = ticker;
+
+        int stripeCount = Integer.highestOneBit(Math.max(1, Math.min(MAX_STRIPES, maxSize / MIN_ENTRIES_PER_STRIPE)));
+        this.stripes = new ArrayList<>(stripeCount);
+        for (int i = 0; i < stripeCount; i++) {
+            stripes.add(new Stripe(maxSize / stripeCount + (i < maxSize % stripeCount ? 1 : 0)));
+        }
+
+        this.hits = Counter.builder("blackjack.cache.gets")
+                .description("Cache lookups")
+                .tag("cache", name)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("blackjack.cache.gets")
+                .description("Cache lookups")
+                .tag("cache", name)
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.sizeEvictions = Counter.builder("blackjack.cache.evictions")
+                .description("Entries removed to respect the cache bound or because they expired")
+                .tag("cache", name)
+                .tag("cause", "size")
+                .register(meterRegistry);
+        this.expiryEvictions = Counter.builder("blackjack.cache.evictions")
+                .description("Entries removed to respect the cache bound or because they expired")
+                .tag("cache", name)
+                .tag("cause", "expired")
+                .register(meterRegistry);
+        Gauge.builder("blackjack.cache.size", this, BoundedCache::size)
+                .description("Entries currently held in the cache")
+                .tag("cache", name)
+                .register(meterRegistry);
+    }
+
+    public Optional<V> get(K key) {
+        Stripe stripe = stripeOf(key);
+        synchronized (stripe) {
+            Entry<V> entry = stripe.entries.get(key);
+
+            if (entry == null) {
+                misses.increment();
+                return Optional.empty();
+            }
+            if (ticker.getAsLong() - entry.writtenAt() >= ttlNanos) {
+                stripe.entries.remove(key);
+                expiryEvictions.increment();
+                misses.increment();
+                return Optional.empty();
+            }
+
+            hits.increment();
+            return Optional.of(entry.value());
+        }
+    }
+
+    public long epoch() {
+        return clock.get();
+    }
+
+    public void put(K key, V value) {
+        Stripe stripe = stripeOf(key);
+        synchronized (stripe) {
+            stripe.put(key, value);
+        }
+    }
+
+    public boolean putIfCurrent(K key, V value, long expectedEpoch) {
+        Stripe stripe = stripeOf(key);
+        synchronized (stripe) {
+            if (stripe.invalidatedSince(key, expectedEpoch)) {
+                return false;
+            }
+            stripe.put(key, value);
+            return true;
+        }
+    }
+
+    public void invalidate(K key) {
+        Stripe stripe = stripeOf(key);
+        synchronized (stripe) {
+            stripe.entries.remove(key);
+            stripe.recordInvalidation(key, clock.incrementAndGet());
+        }
+    }
+
+    public void invalidateAll() {
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                stripe.entries.clear();
+                stripe.invalidations.clear();
+                stripe.forgottenInvalidation = clock.incrementAndGet();
+            }
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.entries.size();
+            }
+        }
+        return size;
+    }
+
+    private Stripe stripeOf(K key) {
+        int hash = key.hashCode();
+        return stripes.get((hash ^ (hash >>> 16)) & (stripes.size() - 1));
+    }
+
+    private record Entry<V>(V value, long writtenAt) {
+    }
+
+    /**
+     * One lock's share of the cache. Invalidations are stamped from the shared clock while the
+     * stripe is locked, so they are recorded here in stamp order and the eldest is the oldest.
+     */
+    private final class Stripe {
+
+        private final int maxSize;
+        private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+        private final LinkedHashMap<K, Long> invalidations = new LinkedHashMap<>();
+        private long forgottenInvalidation;
+
+        private Stripe(int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        private void put(K key, V value) {
+            entries.put(key, new Entry<>(value, ticker.getAsLong()));
+            Iterator<Map.Entry<K, Entry<V>>> eldest = entries.entrySet().iterator();
+            while (entries.size() > maxSize) {
+                eldest.next();
+                eldest.remove();
+                sizeEvictions.increment();
+            }
+        }
+
+        private boolean invalidatedSince(K key, long epoch) {
+            return forgottenInvalidation > epoch || invalidations.getOrDefault(key, 0L) > epoch;
+        }
+
+        private void recordInvalidation(K key, long stamp) {
+            invalidations.remove(key);
+            invalidations.put(key, stamp);
+            if (invalidations.size() > maxSize) {
+                Iterator<Long> eldest = invalidations.values().iterator();
+                forgottenInvalidation = eldest.next();
+                eldest.remove();
+            }
+        }
+    }
+}
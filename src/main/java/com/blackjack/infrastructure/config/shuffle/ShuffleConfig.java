@@ -0,0 +1,35 @@
+package com.blackjack.infrastructure.config.shuffle;
+
+import com.blackjack.domain.service.DeterministicShuffleStrategy;
+import com.blackjack.domain.service.FisherYatesShuffleStrategy;
+import com.blackjack.domain.service.ShuffleStrategy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Slf4j
+@Configuration
+public class ShuffleConfig {
+
+    @Value("${blackjack.shuffle.strategy:fast}")
+    private String strategy;
+
+    @Value("${blackjack.shuffle.seed:#{null}}")
+    private Long seed;
+
+    @Bean
+    public ShuffleStrategy shuffleStrategy() {
+        log.info("Using '{}' shuffle strategy", strategy);
+
+        return switch (strategy.toLowerCase()) {
+            case "fast" -> seed != null
+                    ? FisherYatesShuffleStrategy.seeded(seed)
+                    : FisherYatesShuffleStrategy.fast();
+            case "secure" -> FisherYatesShuffleStrategy.secure();
+            case "deterministic" -> new DeterministicShuffleStrategy();
+            default -> throw new IllegalArgumentException(
+                    "Unknown shuffle strategy: " + strategy + ". Valid strategies are: deterministic, fast, secure");
+        };
+    }
+}
@@ -0,0 +1,176 @@
+package com.blackjack.infrastructure.event;
+
+import com.blackjack.domain.event.DomainEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.concurrent.Queues;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * In-process bus for domain events. Publishing only enqueues into a bounded buffer; a single
+ * consumer drains it and runs at most {@code concurrency} handlers at a time, so a burst of
+ * events can never fan out into more work than that. When the buffer is full the configured
+ * {@link OverflowPolicy} decides whether the event is dropped or the publisher gets an error.
+ */
+@Slf4j
+@Component
+public class DomainEventBus {
+
+    private static final Duration SHUTDOWN_DRAIN_TIMEOUT = Duration.ofSeconds(10);
+
+    public enum OverflowPolicy {
+        DROP,
+        FAIL
+    }
+
+    private final int capacity;
+    private final int concurrency;
+    private final OverflowPolicy overflowPolicy;
+    private final MeterRegistry meterRegistry;
+    private final Sinks.Many<Envelope> sink;
+    private final Scheduler scheduler;
+    private final Map<Class<? extends DomainEvent>, List<Function<DomainEvent, Mono<Void>>>> handlers = new ConcurrentHashMap<>();
+    private final AtomicInteger depth = new AtomicInteger();
+    private final CountDownLatch drained = new CountDownLatch(1);
+    private final Timer lagTimer;
+    private Disposable subscription;
+
+    public DomainEventBus(@Value("${blackjack.events.capacity:1024}") int capacity,
+                          @Value("${blackjack.events.concurrency:8}") int concurrency,
+                          @Value("${blackjack.events.overflow:drop}") OverflowPolicy overflowPolicy,
+                          MeterRegistry meterRegistry) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Event bus capacity must be positive");
+        }
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("Event bus concurrency must be positive");
+        }
+
+        this.capacity = capacity;
+        this.concurrency = concurrency;
+        this.overflowPolicy = overflowPolicy;
+        this.meterRegistry = meterRegistry;
+        this.sink = Sinks.many().unicast().onBackpressureBuffer(Queues.<Envelope>get(capacity).get());
+        this.scheduler = Schedulers.newBoundedElastic(concurrency, Queues.SMALL_BUFFER_SIZE, "domain-events", 60, true);
+
+        Gauge.builder("blackjack.events.queue.depth", depth, AtomicInteger::get)
+                .description("Domain events waiting for a handler")
+                .register(meterRegistry);
+        this.lagTimer = Timer.builder("blackjack.events.lag")
+                .description("Time between publishing a domain event and its handlers starting")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        log.info("Starting domain event bus with capacity {}, concurrency {}, overflow policy {}",
+                capacity, concurrency, overflowPolicy);
+
+        subscription = sink.asFlux()
+                .flatMap(this::dispatch, concurrency)
+                .doFinally(signal -> drained.countDown())
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        log.info("Stopping domain event bus, draining {} pending events", depth.get());
+
+        emit(sink::tryEmitComplete);
+        if (!drained.await(SHUTDOWN_DRAIN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+            log.warn("Domain event bus did not drain within {}, {} events discarded",
+                    SHUTDOWN_DRAIN_TIMEOUT, depth.get());
+            subscription.dispose();
+        }
+        scheduler.dispose();
+    }
+
+    @SuppressWarnings("unchecked")
+    public <E extends DomainEvent> void subscribe(Class<E> eventType, Function<? super E, Mono<Void>> handler) {
+        handlers.computeIfAbsent(eventType, type -> new CopyOnWriteArrayList<>())
+                .add(event -> handler.apply((E) event));
+    }
+
+    public void publish(DomainEvent event) {
+        Sinks.EmitResult result = emit(() -> sink.tryEmitNext(new Envelope(event, System.nanoTime())));
+
+        if (result.isSuccess()) {
+            depth.incrementAndGet();
+            return;
+        }
+
+        dropped(event).increment();
+        if (overflowPolicy == OverflowPolicy.FAIL) {
+            throw new IllegalStateException(
+                    "Domain event bus rejected " + event.getClass().getSimpleName() + ": " + result
+            );
+        }
+        log.warn("Domain event bus dropped {} ({})", event.getClass().getSimpleName(), result);
+    }
+
+    int depth() {
+        return depth.get();
+    }
+
+    private Mono<Void> dispatch(Envelope envelope) {
+        depth.decrementAndGet();
+        lagTimer.record(System.nanoTime() - envelope.enqueuedAt(), TimeUnit.NANOSECONDS);
+
+        DomainEvent event = envelope.event();
+        List<Function<DomainEvent, Mono<Void>>> subscribers = handlers.getOrDefault(event.getClass(), List.of());
+        if (subscribers.isEmpty()) {
+            log.debug("No subscribers for {}", event.getClass().getSimpleName());
+            return Mono.empty();
+        }
+
+        return Flux.fromIterable(subscribers)
+                .concatMap(handler -> Mono.defer(() -> handler.apply(event))
+                        .subscribeOn(scheduler)
+                        .onErrorResume(error -> {
+                            log.error("Error handling {}: {}", event.getClass().getSimpleName(), error.getMessage());
+                            return Mono.empty();
+                        }))
+                .then();
+    }
+
+    private Sinks.EmitResult emit(Supplier<Sinks.EmitResult> attempt) {
+        Sinks.EmitResult result;
+        while ((result = attempt.get()) == Sinks.EmitResult.FAIL_NON_SERIALIZED) {
+            Thread.onSpinWait();
+        }
+        return result;
+    }
+
+    private Counter dropped(DomainEvent event) {
+        return Counter.builder("blackjack.events.dropped")
+                .description("Domain events rejected because the bus was full or stopped")
+                .tag("type", event.getClass().getSimpleName())
+                .register(meterRegistry);
+    }
+
+    private record Envelope(DomainEvent event, long enqueuedAt) {
+    }
+}
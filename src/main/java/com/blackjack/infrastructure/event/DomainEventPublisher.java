@@ -1,9 +1,12 @@
 package com.blackjack.infrastructure.event;
 
 import com.blackjack.domain.event.GameFinishedEvent;
+import com.blackjack.domain.event.PlayerDeletedEvent;
+import com.blackjack.domain.event.PlayerRegisteredEvent;
+import com.blackjack.domain.event.PlayerRenamedEvent;
+import com.blackjack.domain.event.PlayerStatsUpdatedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 @Slf4j
@@ -11,14 +14,40 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class DomainEventPublisher {
 
-    private final ApplicationEventPublisher applicationEventPublisher;
+    private final DomainEventBus eventBus;
 
     public void publishGameFinishedEvent(GameFinishedEvent event) {
         log.info("Publishing GameFinishedEvent: gameId={}, status={}",
                 event.gameId().value(), event.finalStatus());
 
-        applicationEventPublisher.publishEvent(event);
+        eventBus.publish(event);
 
         log.debug("GameFinishedEvent published successfully");
     }
-}
\ No newline at end of file
+
+    public void publishPlayerRenamedEvent(PlayerRenamedEvent event) {
+        log.info("Publishing PlayerRenamedEvent: playerId={}", event.playerId().value());
+
+        eventBus.publish(event);
+
+        log.debug("PlayerRenamedEvent published successfully");
+    }
+
+    public void publishPlayerRegisteredEvent(PlayerRegisteredEvent event) {
+        log.info("Publishing PlayerRegisteredEvent: playerId={}", event.playerId().value());
+
+        eventBus.publish(event);
+    }
+
+    public void publishPlayerDeletedEvent(PlayerDeletedEvent event) {
+        log.info("Publishing PlayerDeletedEvent: playerId={}", event.playerId().value());
+
+        eventBus.publish(event);
+    }
+
+    public void publishPlayerStatsUpdatedEvent(PlayerStatsUpdatedEvent event) {
+        log.debug("Publishing PlayerStatsUpdatedEvent: {} players", event.playerIds().size());
+
+        eventBus.publish(event);
+    }
+}
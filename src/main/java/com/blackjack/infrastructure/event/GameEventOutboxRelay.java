@@ -0,0 +1,98 @@
+package com.blackjack.infrastructure.event;
+
+import com.blackjack.domain.repository.GameRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redelivers game events still sitting in the games' outbox. Events are published inline right
+ * after the write that stored them; anything not acknowledged within the redelivery delay (lost
+ * in a crash, dropped by a full event bus, failed write) is claimed here in batches and
+ * published again.
+ */
+@Slf4j
+@Component
+public class GameEventOutboxRelay {
+
+    private static final Duration RELAY_TIMEOUT = Duration.ofSeconds(30);
+
+    private final GameRepository gameRepository;
+    private final DomainEventPublisher eventPublisher;
+    private final Duration pollInterval;
+    private final Duration redeliveryDelay;
+    private final int batchSize;
+    private final Counter relayed;
+    private final Counter failures;
+    private final ScheduledExecutorService relayWorker;
+
+    public GameEventOutboxRelay(GameRepository gameRepository,
+                                DomainEventPublisher eventPublisher,
+                                @Value("${blackjack.outbox.poll-interval:1s}") Duration pollInterval,
+                                @Value("${blackjack.outbox.redelivery-delay:30s}") Duration redeliveryDelay,
+                                @Value("${blackjack.outbox.batch-size:100}") int batchSize,
+                                MeterRegistry meterRegistry) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Outbox batch size must be positive");
+        }
+
+        this.gameRepository = gameRepository;
+        this.eventPublisher = eventPublisher;
+        this.pollInterval = pollInterval;
+        this.redeliveryDelay = redeliveryDelay;
+        this.batchSize = batchSize;
+        this.relayed = Counter.builder("blackjack.outbox.relayed")
+                .description("Game events redelivered from the outbox")
+                .register(meterRegistry);
+        this.failures = Counter.builder("blackjack.outbox.relay.failures")
+                .description("Outbox polls that failed")
+                .register(meterRegistry);
+        this.relayWorker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "game-outbox-relay");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PostConstruct
+    public void start() {
+        log.info("Starting game outbox relay, poll interval {}, redelivery delay {}, batch size {}",
+                pollInterval, redeliveryDelay, batchSize);
+
+        relayWorker.scheduleWithFixedDelay(this::relay, pollInterval.toMillis(), pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        log.info("Stopping game outbox relay");
+
+        relayWorker.shutdownNow();
+    }
+
+    void relay() {
+        try {
+            Long count = gameRepository.claimPendingEvents(LocalDateTime.now().minus(redeliveryDelay), batchSize)
+                    .doOnNext(eventPublisher::publishGameFinishedEvent)
+                    .count()
+                    .block(RELAY_TIMEOUT);
+
+            if (count != null && count > 0) {
+                relayed.increment(count);
+                log.info("Redelivered {} game events from the outbox", count);
+            }
+        } catch (RuntimeException e) {
+            failures.increment();
+            log.error("Error relaying game events from the outbox: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.blackjack.infrastructure.event;
+
+import com.blackjack.domain.event.GameFinishedEvent;
+import com.blackjack.domain.event.PlayerStatsUpdatedEvent;
+import com.blackjack.domain.model.valueobject.game.GameId;
+import com.blackjack.domain.model.valueobject.game.GameStatus;
+import com.blackjack.domain.model.valueobject.player.PlayerId;
+import com.blackjack.domain.repository.GameRepository;
+import com.blackjack.domain.repository.PlayerRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * Write-behind buffer for finished-game results. Every flush records all pending games in one
+ * batched, idempotent write and then clears them from the games' outbox; a game delivered twice
+ * (by the inline publish and the outbox relay) is held once and counted once.
+ */
+@Slf4j
+@Component
+public class PlayerStatsBuffer {
+
+    private static final Duration SHUTDOWN_FLUSH_TIMEOUT = Duration.ofSeconds(10);
+
+    private final PlayerRepository playerRepository;
+    private final GameRepository gameRepository;
+    private final DomainEventPublisher eventPublisher;
+    private final Duration flushInterval;
+    private final int flushThreshold;
+    private final ConcurrentHashMap<GameId, GameFinishedEvent> pending = new ConcurrentHashMap<>();
+    private final Timer flushTimer;
+    private final Counter flushedGames;
+    private final Counter flushFailures;
+    private final ScheduledExecutorService flushWorker;
+    private final AtomicBoolean flushRequested = new AtomicBoolean(false);
+
+    public PlayerStatsBuffer(PlayerRepository playerRepository,
+                             GameRepository gameRepository,
+                             DomainEventPublisher eventPublisher,
+                             @Value("${blackjack.stats-buffer.flush-interval:500ms}") Duration flushInterval,
+                             @Value("${blackjack.stats-buffer.flush-threshold:500}") int flushThreshold,
+                             MeterRegistry meterRegistry) {
+        if (flushThreshold < 1) {
+            throw new IllegalArgumentException("Stats buffer flush threshold must be positive");
+        }
+
+        this.playerRepository = playerRepository;
+        this.gameRepository = gameRepository;
+        this.eventPublisher = eventPublisher;
+        this.flushInterval = flushInterval;
+        this.flushThreshold = flushThreshold;
+
+        Gauge.builder("blackjack.stats.buffer.size", pending, Map::size)
+                .description("Finished games with results waiting to be written")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("blackjack.stats.buffer.flush")
+                .description("Time spent writing a batch of buffered results")
+                .register(meterRegistry);
+        this.flushedGames = Counter.builder("blackjack.stats.buffer.flushed.games")
+                .description("Game results recorded by stats buffer flushes")
+                .register(meterRegistry);
+        this.flushFailures = Counter.builder("blackjack.stats.buffer.flush.failures")
+                .description("Stats buffer flushes that failed and were requeued")
+                .register(meterRegistry);
+        this.flushWorker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "player-stats-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PostConstruct
+    public void start() {
+        log.info("Starting player stats buffer, flush interval {}, threshold {} games", flushInterval, flushThreshold);
+
+        flushWorker.scheduleWithFixedDelay(this::flush, flushInterval.toMillis(), flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        log.info("Stopping player stats buffer, flushing {} pending games", pending.size());
+
+        flushWorker.shutdown();
+        if (!flushWorker.awaitTermination(SHUTDOWN_FLUSH_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+            flushWorker.shutdownNow();
+        }
+        flush();
+    }
+
+    public void record(GameFinishedEvent event) {
+        if (event.finalStatus() == GameStatus.PLAYING) {
+            throw new IllegalArgumentException("Game " + event.gameId().value() + " has not finished");
+        }
+        pending.putIfAbsent(event.gameId(), event);
+
+        if (pending.size() >= flushThreshold) {
+            requestFlush();
+        }
+    }
+
+    private void requestFlush() {
+        if (!flushRequested.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            flushWorker.execute(this::flush);
+        } catch (RejectedExecutionException e) {
+            flushRequested.set(false);
+        }
+    }
+
+    synchronized void flush() {
+        flushRequested.set(false);
+
+        Map<GameId, GameFinishedEvent> batch = new HashMap<>();
+        for (GameId gameId : pending.keySet()) {
+            GameFinishedEvent event = pending.remove(gameId);
+            if (event != null) {
+                batch.put(gameId, event);
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        Timer.Sample sample = Timer.start();
+        try {
+            Integer recorded = playerRepository.recordGameResults(batch.values()).block(SHUTDOWN_FLUSH_TIMEOUT);
+            flushedGames.increment(batch.size());
+            log.debug("Flushed results for {} games, {} newly recorded", batch.size(), recorded);
+        } catch (RuntimeException e) {
+            flushFailures.increment();
+            batch.forEach(pending::putIfAbsent);
+            log.error("Error flushing results for {} games, requeued: {}", batch.size(), e.getMessage());
+            return;
+        } finally {
+            sample.stop(flushTimer);
+        }
+
+        Set<PlayerId> playerIds = batch.values().stream()
+                .map(GameFinishedEvent::playerId)
+                .collect(Collectors.toSet());
+        try {
+            eventPublisher.publishPlayerStatsUpdatedEvent(PlayerStatsUpdatedEvent.of(playerIds));
+        } catch (RuntimeException e) {
+            log.warn("Error publishing stats update for {} players: {}", playerIds.size(), e.getMessage());
+        }
+
+        try {
+            gameRepository.acknowledgeEvents(batch.keySet()).block(SHUTDOWN_FLUSH_TIMEOUT);
+        } catch (RuntimeException e) {
+            // the results are recorded; the relay will redeliver these games and the write skips them
+            log.warn("Error acknowledging {} games, leaving them to the outbox relay: {}", batch.size(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.blackjack.infrastructure.event.listener;
+
+import com.blackjack.domain.event.PlayerRenamedEvent;
+import com.blackjack.domain.repository.GameRepository;
+import com.blackjack.domain.repository.PlayerRepository;
+import com.blackjack.domain.service.ActiveGameStore;
+import com.blackjack.infrastructure.event.DomainEventBus;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlayerRenamedEventListener {
+
+    private final DomainEventBus eventBus;
+    private final GameRepository gameRepository;
+    private final PlayerRepository playerRepository;
+    private final ActiveGameStore activeGameStore;
+
+    @PostConstruct
+    public void register() {
+        eventBus.subscribe(PlayerRenamedEvent.class, this::handlePlayerRenamedEvent);
+    }
+
+    public Mono<Void> handlePlayerRenamedEvent(PlayerRenamedEvent event) {
+        log.info("Handling PlayerRenamedEvent: playerId={}", event.playerId().value());
+
+        return gameRepository.updatePlayerName(event.playerId(), event.newName())
+                .doOnSuccess(updated ->
+                        log.info("Player name refreshed on {} games for playerId: {}",
+                                updated, event.playerId().value())
+                )
+                .doOnError(error ->
+                        log.error("Error refreshing player name on games for playerId {}: {}",
+                                event.playerId().value(), error.getMessage())
+                )
+                // two renames handled out of order would leave the older name behind: settle on the current one
+                .then(Mono.defer(() -> playerRepository.findById(event.playerId())))
+                .filter(player -> !player.getName().equals(event.newName()))
+                .flatMap(player -> {
+                    log.debug("Player {} was renamed again, refreshing games with '{}'",
+                            event.playerId().value(), player.getName().value());
+                    return gameRepository.updatePlayerName(event.playerId(), player.getName());
+                })
+                // games held in memory still carry the old name; write them back and let the next action reload them
+                .then(Mono.defer(() -> activeGameStore.evictPlayer(event.playerId())));
+    }
+}
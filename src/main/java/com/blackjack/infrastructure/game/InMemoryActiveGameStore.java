@@ -0,0 +1,442 @@
+package com.blackjack.infrastructure.game;
+
+import com.blackjack.domain.model.aggregate.Game;
+import com.blackjack.domain.model.valueobject.game.GameId;
+import com.blackjack.domain.model.valueobject.player.PlayerId;
+import com.blackjack.domain.repository.GameRepository;
+import com.blackjack.domain.service.ActiveGameStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Keeps the live aggregate of every game in progress so an action is applied in memory instead of
+ * decoding the document, and queues actions per game so they never interleave. With the default
+ * {@link DurabilityMode#SYNC} every action that adds turns waits for its versioned write, so a
+ * write from another instance surfaces as a conflict the caller retries on the stored game.
+ * <p>
+ * {@link DurabilityMode#SYNC_ON_FINISH} and {@link DurabilityMode#ASYNC} are write-behind: turns
+ * are acknowledged from memory and a background flush pushes all turns since the last write in one
+ * update, with SYNC_ON_FINISH still waiting for the write that finishes a game. Both assume this
+ * instance is the only writer of the games it holds, which requires routing each game to a single
+ * instance; when a write finds the stored version moved on, the unwritten turns are dropped.
+ * <p>
+ * Finished games leave the store once written, idle ones after the idle timeout. Past the max size
+ * the least recently used games are written back and dropped, so a burst of new or abandoned games
+ * cannot grow the heap unbounded.
+ */
+@Slf4j
+@Component
+public class InMemoryActiveGameStore implements ActiveGameStore {
+
+    private static final Duration FLUSH_TIMEOUT = Duration.ofSeconds(30);
+    private static final int FLUSH_CONCURRENCY = 16;
+
+    public enum DurabilityMode {
+        SYNC,
+        SYNC_ON_FINISH,
+        ASYNC
+    }
+
+    private final GameRepository gameRepository;
+    private final DurabilityMode durabilityMode;
+    private final Duration flushInterval;
+    private final Duration idleTimeout;
+    private final int maxSize;
+    private final LongSupplier ticker;
+    private final Map<GameId, ActiveGame> games = new ConcurrentHashMap<>();
+    private final AtomicBoolean trimming = new AtomicBoolean();
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter flushes;
+    private final Counter flushFailures;
+    private final Counter discarded;
+    private final Counter sizeEvictions;
+    private final ScheduledExecutorService flushWorker;
+
+    public InMemoryActiveGameStore(GameRepository gameRepository,
+                                   @Value("${blackjack.active-games.durability:sync}") DurabilityMode durabilityMode,
+                                   @Value("${blackjack.active-games.flush-interval:1s}") Duration flushInterval,
+                                   @Value("${blackjack.active-games.idle-timeout:10m}") Duration idleTimeout,
+                                   @Value("${blackjack.active-games.max-size:10000}") int maxSize,
+                                   MeterRegistry meterRegistry) {
+        this(gameRepository, durabilityMode, flushInterval, idleTimeout, maxSize, meterRegistry, System::nanoTime);
+    }
+
+    InMemoryActiveGameStore(GameRepository gameRepository, DurabilityMode durabilityMode, Duration flushInterval,
+                            Duration idleTimeout, int maxSize, MeterRegistry meterRegistry, LongSupplier ticker) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Active game store size must be positive");
+        }
+
+        this.gameRepository = gameRepository;
+        this.durabilityMode = durabilityMode;
+        this.flushInterval = flushInterval;
+        this.idleTimeout = idleTimeout;
+        this.maxSize = maxSize;
+        this.ticker = ticker;
+
+        Gauge.builder("blackjack.games.active", games, Map::size)
+                .description("Games held in memory by the active game store")
+                .register(meterRegistry);
+        this.hits = Counter.builder("blackjack.games.active.lookups")
+                .description("Game actions and reads served by the active game store")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("blackjack.games.active.lookups")
+                .description("Game actions and reads served by the active game store")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.flushes = Counter.builder("blackjack.games.active.flushes")
+                .description("Coalesced game writes to MongoDB")
+                .register(meterRegistry);
+        this.flushFailures = Counter.builder("blackjack.games.active.flush.failures")
+                .description("Coalesced game writes that failed")
+                .register(meterRegistry);
+        this.discarded = Counter.builder("blackjack.games.active.discarded")
+                .description("In-memory games dropped because the stored game changed underneath them")
+                .register(meterRegistry);
+        this.sizeEvictions = Counter.builder("blackjack.games.active.evictions")
+                .description("Games written back and dropped to keep the store within its max size")
+                .register(meterRegistry);
+        this.flushWorker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "active-game-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PostConstruct
+    public void start() {
+        log.info("Starting active game store, durability {}, flush interval {}, idle timeout {}, max size {}",
+                durabilityMode, flushInterval, idleTimeout, maxSize);
+
+        flushWorker.scheduleWithFixedDelay(() -> flush(false),
+                flushInterval.toMillis(), flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        log.info("Stopping active game store, writing back {} games", games.size());
+
+        flushWorker.shutdownNow();
+        flush(true);
+    }
+
+    @Override
+    public <T> Mono<T> execute(GameId id, Function<Game, Mono<T>> action) {
+        return Mono.defer(() -> {
+            ActiveGame entry = games.computeIfAbsent(id, key -> new ActiveGame(key, ticker.getAsLong()));
+            trimOverflow();
+            // a retired entry was removed from the map while this action waited for it
+            return entry.serialize(() -> entry.retired ? execute(id, action) : run(entry, action));
+        });
+    }
+
+    @Override
+    public void track(Game game) {
+        if (game.getStatus().isFinished()) {
+            return;
+        }
+
+        ActiveGame entry = new ActiveGame(game.getId(), ticker.getAsLong());
+        entry.game = game;
+        entry.persistedTurnCount = game.getTurnHistory().size();
+        games.putIfAbsent(game.getId(), entry);
+        trimOverflow();
+    }
+
+    @Override
+    public Mono<Void> evict(GameId id) {
+        return Mono.defer(() -> {
+            ActiveGame entry = games.get(id);
+            if (entry == null) {
+                return Mono.empty();
+            }
+            return entry.serialize(() -> writeBackAndRetire(entry));
+        });
+    }
+
+    @Override
+    public Mono<Void> evictPlayer(PlayerId playerId) {
+        return Flux.defer(() -> Flux.fromIterable(games.values()))
+                .filter(entry -> {
+                    Game game = entry.game;
+                    return game != null && game.getPlayerId().equals(playerId);
+                })
+                .flatMap(entry -> evict(entry.id))
+                .then();
+    }
+
+    int size() {
+        return games.size();
+    }
+
+    void flush(boolean evictAll) {
+        long now = ticker.getAsLong();
+
+        try {
+            Flux.fromIterable(games.values())
+                    .flatMap(entry -> entry.serialize(() -> {
+                        if (entry.retired) {
+                            return Mono.empty();
+                        }
+                        if (evictAll || now - entry.lastAccess >= idleTimeout.toNanos()) {
+                            return writeBackAndRetire(entry);
+                        }
+                        return entry.isDirty() ? writeBack(entry) : Mono.empty();
+                    }), FLUSH_CONCURRENCY)
+                    .then()
+                    .block(FLUSH_TIMEOUT);
+        } catch (RuntimeException e) {
+            log.error("Error writing back active games: {}", e.getMessage());
+        }
+    }
+
+    // one caller at a time picks the least recently used games beyond the max size; they stay in
+    // the map, flagged, until their write-back completes so no action can reload a stale copy
+    private void trimOverflow() {
+        if (games.size() <= maxSize || !trimming.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            int excess = games.size() - maxSize;
+            PriorityQueue<ActiveGame> oldest = new PriorityQueue<>(
+                    Comparator.comparingLong((ActiveGame entry) -> entry.lastAccess).reversed());
+
+            for (ActiveGame entry : games.values()) {
+                if (entry.evicting) {
+                    excess--;
+                    continue;
+                }
+                oldest.add(entry);
+                if (oldest.size() > Math.max(excess, 0)) {
+                    oldest.poll();
+                }
+            }
+            while (oldest.size() > Math.max(excess, 0)) {
+                oldest.poll();
+            }
+
+            for (ActiveGame entry : oldest) {
+                entry.evicting = true;
+                sizeEvictions.increment();
+                entry.serialize(() -> writeBackAndRetire(entry))
+                        .subscribe(null, error -> log.error("Error evicting game {}: {}",
+                                entry.id.value(), error.getMessage()));
+            }
+        } finally {
+            trimming.set(false);
+        }
+    }
+
+    // an action may change the game and fail afterwards, so the game is settled either way and the
+    // caller still sees the action's own error
+    private <T> Mono<T> run(ActiveGame entry, Function<Game, Mono<T>> action) {
+        entry.lastAccess = ticker.getAsLong();
+
+        return load(entry).flatMap(game -> Mono.defer(() -> action.apply(game))
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .onErrorResume(error -> settle(entry, game)
+                        .onErrorResume(writeError -> {
+                            error.addSuppressed(writeError);
+                            return Mono.empty();
+                        })
+                        .then(Mono.error(error)))
+                .flatMap(result -> settle(entry, game).thenReturn(result))
+                .flatMap(Mono::justOrEmpty));
+    }
+
+    private Mono<Game> load(ActiveGame entry) {
+        if (entry.game != null) {
+            hits.increment();
+            return Mono.just(entry.game);
+        }
+
+        misses.increment();
+        return gameRepository.findById(entry.id)
+                .doOnNext(game -> {
+                    entry.game = game;
+                    entry.persistedTurnCount = game.getTurnHistory().size();
+                })
+                .switchIfEmpty(Mono.fromRunnable(() -> retire(entry)));
+    }
+
+    private Mono<Void> settle(ActiveGame entry, Game game) {
+        boolean finished = game.getStatus().isFinished();
+        if (!entry.isDirty()) {
+            if (finished) {
+                retire(entry);
+            }
+            return Mono.empty();
+        }
+        if (durabilityMode == DurabilityMode.SYNC || finished && durabilityMode == DurabilityMode.SYNC_ON_FINISH) {
+            // the caller retries on the stored state, so nothing of this game may stay in memory
+            return write(entry).doOnError(error -> retire(entry));
+        }
+        return Mono.empty();
+    }
+
+    // a write that failed leaves the game dirty and in the store for the next flush to retry
+    private Mono<Void> writeBackAndRetire(ActiveGame entry) {
+        Mono<Void> written = entry.isDirty() ? writeBack(entry) : Mono.empty();
+        return written.then(Mono.fromRunnable(() -> {
+            if (entry.isDirty()) {
+                entry.evicting = false;
+            } else {
+                retire(entry);
+            }
+        }));
+    }
+
+    private Mono<Void> writeBack(ActiveGame entry) {
+        return write(entry).onErrorResume(error -> {
+            if (error instanceof OptimisticLockingFailureException) {
+                discarded.increment();
+                retire(entry);
+                log.warn("Game {} changed in MongoDB, discarding its unwritten turns", entry.id.value());
+            } else {
+                log.error("Error writing back game {}, will retry: {}", entry.id.value(), error.getMessage());
+            }
+            return Mono.empty();
+        });
+    }
+
+    private Mono<Void> write(ActiveGame entry) {
+        Game game = entry.game;
+        int turns = game.getTurnHistory().size();
+
+        return gameRepository.saveAction(game, entry.persistedTurnCount)
+                .switchIfEmpty(Mono.error(() -> new OptimisticLockingFailureException(
+                        "Game " + game.getId().value() + " changed since version " + game.getVersion())))
+                .doOnNext(saved -> {
+                    flushes.increment();
+                    entry.persistedTurnCount = turns;
+                    if (saved.getStatus().isFinished()) {
+                        retire(entry);
+                    }
+                })
+                .doOnError(error -> flushFailures.increment())
+                .then();
+    }
+
+    private void retire(ActiveGame entry) {
+        entry.retired = true;
+        games.remove(entry.id, entry);
+    }
+
+    /**
+     * One game and the queue of work waiting for it. Only the task holding the turn touches the
+     * game or the write-back state; the hand-over in {@link #drain} orders one task after another.
+     */
+    private static final class ActiveGame {
+
+        private final GameId id;
+        private final Queue<Runnable> waiting = new ArrayDeque<>();
+        private boolean running;
+        private boolean draining;
+
+        private volatile Game game;
+        private int persistedTurnCount;
+        private boolean retired;
+        private volatile boolean evicting;
+        private volatile long lastAccess;
+
+        private ActiveGame(GameId id, long lastAccess) {
+            this.id = id;
+            this.lastAccess = lastAccess;
+        }
+
+        // turns past the persisted count were acknowledged to the player but not written yet
+        private boolean isDirty() {
+            Game current = game;
+            return current != null && !retired && current.getTurnHistory().size() != persistedTurnCount;
+        }
+
+        private <T> Mono<T> serialize(Supplier<Mono<T>> task) {
+            return Mono.create(sink -> {
+                AtomicBoolean cancelled = new AtomicBoolean();
+                sink.onCancel(() -> cancelled.set(true));
+
+                acquire(() -> {
+                    if (cancelled.get()) {
+                        release();
+                        return;
+                    }
+                    Mono.defer(task)
+                            .doFinally(signal -> release())
+                            .subscribe(sink::success, sink::error, sink::success);
+                });
+            });
+        }
+
+        private void acquire(Runnable turn) {
+            synchronized (this) {
+                waiting.add(turn);
+            }
+            drain();
+        }
+
+        private void release() {
+            synchronized (this) {
+                running = false;
+            }
+            drain();
+        }
+
+        // a task that completes synchronously releases from inside run(); that release only clears
+        // running and the loop below starts the next task, so the stack stays flat however deep the queue
+        private void drain() {
+            Runnable next;
+            synchronized (this) {
+                if (draining || running) {
+                    return;
+                }
+                next = waiting.poll();
+                if (next == null) {
+                    return;
+                }
+                running = true;
+                draining = true;
+            }
+
+            while (true) {
+                next.run();
+                synchronized (this) {
+                    next = running ? null : waiting.poll();
+                    if (next == null) {
+                        draining = false;
+                        return;
+                    }
+                    running = true;
+                }
+            }
+        }
+    }
+}
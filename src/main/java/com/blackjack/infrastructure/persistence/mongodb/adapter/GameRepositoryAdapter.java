@@ -2,32 +2,50 @@ package com.blackjack.infrastructure.persistence.mongodb.adapter;
 
 import com.blackjack.domain.event.GameFinishedEvent;
 import com.blackjack.domain.model.aggregate.Game;
+import com.blackjack.domain.model.readmodel.GameSummary;
 import com.blackjack.domain.model.valueobject.game.GameId;
 import com.blackjack.domain.model.valueobject.player.PlayerId;
+import com.blackjack.domain.model.valueobject.player.PlayerName;
+import com.blackjack.domain.model.valueobject.turn.Turn;
 import com.blackjack.domain.repository.GameRepository;
 import com.blackjack.infrastructure.event.DomainEventPublisher;
 import com.blackjack.infrastructure.persistence.mongodb.document.GameDocument;
+import com.blackjack.infrastructure.persistence.mongodb.document.OutboxEventDocument;
 import com.blackjack.infrastructure.persistence.mongodb.mapper.GameDocumentMapper;
 import com.blackjack.infrastructure.persistence.mongodb.repository.GameMongoRepository;
+import com.mongodb.client.result.UpdateResult;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
 import org.springframework.context.annotation.Primary;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.BasicQuery;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
 @Slf4j
 @Repository
 @Primary
 @RequiredArgsConstructor
 public class GameRepositoryAdapter implements GameRepository {
 
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "createdAt", "id");
+
     private final GameMongoRepository mongoRepository;
     private final GameDocumentMapper mapper;
     private final DomainEventPublisher eventPublisher;
+    private final ReactiveMongoTemplate mongoTemplate;
 
     @Override
     public Mono<Game> save(Game game) {
@@ -39,13 +57,7 @@ public class GameRepositoryAdapter implements GameRepository {
                 .map(mapper::toDomain)
                 .doOnSuccess(savedGame -> {
                     log.debug("Game saved successfully: {}", savedGame.getId().value());
-
-                    game.getDomainEvents().forEach(event -> {
-                        if (event instanceof GameFinishedEvent gameFinishedEvent) {
-                            eventPublisher.publishGameFinishedEvent(gameFinishedEvent);
-                        }
-                    });
-                    game.clearDomainEvents();
+                    publishDomainEvents(game);
                 })
 
                 .doOnError(error ->
@@ -53,6 +65,71 @@ public class GameRepositoryAdapter implements GameRepository {
                 );
     }
 
+    @Override
+    public Mono<Game> saveAction(Game game, int previousTurnCount) {
+        log.debug("Updating game in MongoDB: {} (version {}, turns {} -> {})",
+                game.getId().value(), game.getVersion(), previousTurnCount, game.getTurnHistory().size());
+
+        Query query = Query.query(Criteria.where("_id").is(game.getId().value())
+                .and("version").in(expectedVersions(game.getVersion())));
+
+        List<Turn> newTurns = game.getTurnHistory().subList(previousTurnCount, game.getTurnHistory().size());
+
+        Update update = new Update()
+                .push("turnHistory").each(mapper.toTurnDocuments(newTurns).toArray())
+                .set("status", game.getStatus().name())
+                .set("playerHand", mapper.toHandDocument(game.getPlayerHand()))
+                .set("dealerHand", mapper.toHandDocument(game.getDealerHand()))
+                .set("deck.currentIndex", game.getDeck().getCurrentIndex())
+                .set("updatedAt", game.getUpdatedAt())
+                .inc("version", 1);
+
+        List<OutboxEventDocument> outbox = mapper.toOutboxDocuments(game.getDomainEvents());
+        if (!outbox.isEmpty()) {
+            update.push("outbox").each(outbox.toArray())
+                    .set("outboxDispatchedAt", game.getUpdatedAt());
+        }
+
+        return mongoTemplate.updateFirst(query, update, GameDocument.class)
+                .flatMap(result -> {
+                    if (result.getMatchedCount() == 0) {
+                        log.warn("Game {} is no longer at version {}, update rejected",
+                                game.getId().value(), game.getVersion());
+                        return Mono.empty();
+                    }
+                    game.markPersisted();
+                    return Mono.just(game);
+                })
+                .doOnSuccess(updatedGame -> {
+                    if (updatedGame != null) {
+                        log.debug("Game updated successfully: {}", updatedGame.getId().value());
+                        publishDomainEvents(updatedGame);
+                    }
+                })
+                .doOnError(error ->
+                        log.error("Error updating game {}: {}", game.getId().value(), error.getMessage())
+                );
+    }
+
+    private List<Long> expectedVersions(long version) {
+        // games stored before versioning have no version field and load as version 0
+        return version == 0 ? Arrays.asList(0L, null) : List.of(version);
+    }
+
+    private void publishDomainEvents(Game game) {
+        game.getDomainEvents().forEach(event -> {
+            if (event instanceof GameFinishedEvent gameFinishedEvent) {
+                try {
+                    eventPublisher.publishGameFinishedEvent(gameFinishedEvent);
+                } catch (RuntimeException e) {
+                    log.warn("GameFinishedEvent for game {} left in the outbox for the relay: {}",
+                            game.getId().value(), e.getMessage());
+                }
+            }
+        });
+        game.clearDomainEvents();
+    }
+
     @Override
     public Mono<Game> findById(GameId id) {
         log.debug("Finding game by id in MongoDB: {}", id.value());
@@ -81,13 +158,6 @@ public class GameRepositoryAdapter implements GameRepository {
                 );
     }
 
-    @Override
-    public Flux<Game> findByPlayerId(PlayerId playerId, int page, int size) {
-        Pageable pageable = PageRequest.of(page, size);
-        return mongoRepository.findByPlayerId(playerId.value(), pageable)
-                .map(mapper::toDomain);
-    }
-
     @Override
     public Flux<Game> findAllActive() {
         log.debug("Finding all active games in MongoDB");
@@ -124,12 +194,30 @@ public class GameRepositoryAdapter implements GameRepository {
     }
 
     @Override
-    public Flux<Game> findAll(int page, int size) {
-        return mongoRepository.findAll(Sort.by(Sort.Direction.DESC, "createdAt"))
-                .skip((long) page * size)
-                .take(size)
-                .map(mapper::toDomain)
-                .doOnComplete(() -> log.debug("Retrieved games page"));
+    public Flux<GameSummary> findSummaries(int page, int size) {
+        return mongoRepository.findSummariesBy(PageRequest.of(page, size, NEWEST_FIRST))
+                .map(mapper::toSummary)
+                .doOnComplete(() -> log.debug("Retrieved game summaries page"));
+    }
+
+    @Override
+    public Flux<GameSummary> findSummariesAfter(LocalDateTime createdAt, GameId id, int size) {
+        Criteria after = new Criteria().orOperator(
+                Criteria.where("createdAt").lt(createdAt),
+                Criteria.where("createdAt").is(createdAt).and("_id").lt(id.value()));
+        Query query = new BasicQuery(after.getCriteriaObject(), Document.parse(GameMongoRepository.SUMMARY_FIELDS))
+                .with(NEWEST_FIRST)
+                .limit(size);
+
+        return mongoTemplate.find(query, GameDocument.class)
+                .map(mapper::toSummary)
+                .doOnComplete(() -> log.debug("Retrieved game summaries page after {}", id.value()));
+    }
+
+    @Override
+    public Flux<GameSummary> findSummariesByPlayerId(PlayerId playerId, int page, int size) {
+        return mongoRepository.findSummariesByPlayerId(playerId.value(), PageRequest.of(page, size, NEWEST_FIRST))
+                .map(mapper::toSummary);
     }
 
     @Override
@@ -142,4 +230,70 @@ public class GameRepositoryAdapter implements GameRepository {
         return mongoRepository.countByPlayerId(playerId.value());
     }
 
+    @Override
+    public Mono<Long> updatePlayerName(PlayerId playerId, PlayerName playerName) {
+        log.debug("Updating player name on games in MongoDB: {}", playerId.value());
+
+        Query query = Query.query(Criteria.where("playerId").is(playerId.value()));
+        Update update = new Update().set("playerName", playerName.value());
+
+        return mongoTemplate.updateMulti(query, update, GameDocument.class)
+                .map(UpdateResult::getModifiedCount)
+                .doOnSuccess(modified ->
+                        log.debug("Player name updated on {} games for player: {}", modified, playerId.value())
+                )
+                .doOnError(error ->
+                        log.error("Error updating player name on games for player {}: {}",
+                                playerId.value(), error.getMessage())
+                );
+    }
+
+    @Override
+    public Flux<GameFinishedEvent> claimPendingEvents(LocalDateTime dispatchedBefore, int limit) {
+        Query query = Query.query(Criteria.where("outboxDispatchedAt").lte(dispatchedBefore))
+                .with(Sort.by(Sort.Direction.ASC, "outboxDispatchedAt"))
+                .limit(limit);
+        query.fields().include("outbox");
+
+        return mongoTemplate.find(query, GameDocument.class)
+                .collectList()
+                .flatMapMany(documents -> {
+                    if (documents.isEmpty()) {
+                        return Flux.empty();
+                    }
+
+                    // push the claimed games out of the next poll; two relays racing for one game both deliver,
+                    // which the idempotent result write absorbs
+                    List<String> ids = documents.stream().map(GameDocument::getId).toList();
+                    Query claimed = Query.query(Criteria.where("_id").in(ids)
+                            .and("outboxDispatchedAt").lte(dispatchedBefore));
+                    Update update = new Update().set("outboxDispatchedAt", LocalDateTime.now());
+
+                    return mongoTemplate.updateMulti(claimed, update, GameDocument.class)
+                            .thenMany(Flux.fromIterable(documents))
+                            .flatMapIterable(mapper::toGameFinishedEvents);
+                })
+                .doOnError(error ->
+                        log.error("Error claiming pending game events: {}", error.getMessage())
+                );
+    }
+
+    @Override
+    public Mono<Void> acknowledgeEvents(Collection<GameId> gameIds) {
+        if (gameIds.isEmpty()) {
+            return Mono.empty();
+        }
+
+        Query query = Query.query(Criteria.where("_id").in(gameIds.stream().map(GameId::value).toList()));
+        Update update = new Update().unset("outbox").unset("outboxDispatchedAt");
+
+        return mongoTemplate.updateMulti(query, update, GameDocument.class)
+                .doOnSuccess(result ->
+                        log.debug("Acknowledged pending events of {} games", result.getModifiedCount())
+                )
+                .doOnError(error ->
+                        log.error("Error acknowledging events of {} games: {}", gameIds.size(), error.getMessage())
+                )
+                .then();
+    }
 }
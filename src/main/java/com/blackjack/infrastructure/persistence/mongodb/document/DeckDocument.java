@@ -14,5 +14,8 @@ import java.util.List;
 public class DeckDocument {
 
     private List<CardDocument> cards;
+    private Long seed;
+    private Integer deckCount;
+    private Integer shuffleAlgorithm;
     private int currentIndex;
 }
\ No newline at end of file
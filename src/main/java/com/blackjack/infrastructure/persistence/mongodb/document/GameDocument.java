@@ -5,6 +5,9 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.ReadOnlyProperty;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
@@ -15,20 +18,36 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(collection = "games")
+@CompoundIndex(name = "idx_games_created_at", def = "{'createdAt': -1, '_id': -1}")
+@CompoundIndex(name = "idx_games_player_created_at", def = "{'playerId': 1, 'createdAt': -1, '_id': -1}")
 public class GameDocument {
 
     @Id
     private String id;
 
     private String playerId;
+    private String playerName;
 
     private HandDocument playerHand;
     private HandDocument dealerHand;
     private DeckDocument deck;
+    private Integer deckCount;
+
+    // only ever filled in by the summary projection, from the size of a legacy document's card list
+    @ReadOnlyProperty
+    private Integer deckCardCount;
     private String status;
 
     private List<TurnDocument> turnHistory;
 
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+
+    private Long version;
+
+    // events written in the same update as the state change that raised them, removed once handled
+    private List<OutboxEventDocument> outbox;
+
+    @Indexed(name = "idx_games_outbox_dispatched_at", sparse = true)
+    private LocalDateTime outboxDispatchedAt;
 }
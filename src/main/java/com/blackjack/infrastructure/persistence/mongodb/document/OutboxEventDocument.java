@@ -0,0 +1,20 @@
+package com.blackjack.infrastructure.persistence.mongodb.document;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEventDocument {
+
+    private String type;
+    private String playerId;
+    private String finalStatus;
+    private LocalDateTime occurredAt;
+}
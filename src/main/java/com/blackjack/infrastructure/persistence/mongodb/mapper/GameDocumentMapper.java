@@ -1,34 +1,49 @@
 package com.blackjack.infrastructure.persistence.mongodb.mapper;
 
+import com.blackjack.domain.event.DomainEvent;
+import com.blackjack.domain.event.GameFinishedEvent;
 import com.blackjack.domain.model.aggregate.Game;
+import com.blackjack.domain.model.readmodel.GameSummary;
 import com.blackjack.domain.model.valueobject.card.Card;
 import com.blackjack.domain.model.valueobject.card.Rank;
 import com.blackjack.domain.model.valueobject.card.Suit;
 import com.blackjack.domain.model.valueobject.game.*;
 import com.blackjack.domain.model.valueobject.player.PlayerId;
+import com.blackjack.domain.model.valueobject.player.PlayerName;
 import com.blackjack.domain.model.valueobject.turn.Turn;
 import com.blackjack.domain.model.valueobject.turn.TurnOwner;
 import com.blackjack.domain.model.valueobject.turn.TurnType;
+import com.blackjack.domain.service.DeterministicShuffleStrategy;
 import com.blackjack.infrastructure.persistence.mongodb.document.*;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Component
 public class GameDocumentMapper {
 
+    private static final int CARDS_PER_DECK = 52;
+
     public GameDocument toDocument(Game game) {
+        List<OutboxEventDocument> outbox = toOutboxDocuments(game.getDomainEvents());
+
         return GameDocument.builder()
                 .id(game.getId().value())
                 .playerId(game.getPlayerId().value())
+                .playerName(game.getPlayerName().map(PlayerName::value).orElse(null))
                 .playerHand(toHandDocument(game.getPlayerHand()))
                 .dealerHand(toHandDocument(game.getDealerHand()))
                 .deck(toDeckDocument(game.getDeck()))
+                .deckCount(game.getDeck().getDeckCount().value())
                 .status(game.getStatus().name())
                 .turnHistory(toTurnDocuments(game.getTurnHistory()))
                 .createdAt(game.getCreatedAt())
                 .updatedAt(game.getUpdatedAt())
+                .version(game.getVersion())
+                .outbox(outbox.isEmpty() ? null : outbox)
+                .outboxDispatchedAt(outbox.isEmpty() ? null : game.getUpdatedAt())
                 .build();
     }
 
@@ -37,25 +52,95 @@ public class GameDocumentMapper {
         PlayerId playerId = PlayerId.from(document.getPlayerId());
         Hand playerHand = toHand(document.getPlayerHand());
         Hand dealerHand = toHand(document.getDealerHand());
-        Deck deck = toDeck(document.getDeck());
+        Deck deck = toDeck(document);
         GameStatus status = GameStatus.valueOf(document.getStatus());
         List<Turn> turnHistory = toTurns(document.getTurnHistory());
 
         return Game.reconstitute(
                 gameId,
                 playerId,
+                toPlayerName(document.getPlayerName()),
                 playerHand,
                 dealerHand,
                 deck,
                 status,
                 turnHistory,
                 document.getCreatedAt(),
-                document.getUpdatedAt()
+                document.getUpdatedAt(),
+                document.getVersion() != null ? document.getVersion() : 0
         );
     }
 
 
-    private HandDocument toHandDocument(Hand hand) {
+    public GameSummary toSummary(GameDocument document) {
+        DeckCount deckCount = deckCountOf(document).orElseThrow(() -> new IllegalStateException(
+                "Game " + document.getId() + " has no deck count and no card list"));
+
+        return new GameSummary(
+                GameId.from(document.getId()),
+                PlayerId.from(document.getPlayerId()),
+                toPlayerName(document.getPlayerName()),
+                toHand(document.getPlayerHand()),
+                toHand(document.getDealerHand()),
+                GameStatus.valueOf(document.getStatus()),
+                toTurns(document.getTurnHistory()),
+                document.getCreatedAt(),
+                document.getUpdatedAt(),
+                deckCount
+        );
+    }
+
+    private PlayerName toPlayerName(String playerName) {
+        return playerName != null ? new PlayerName(playerName) : null;
+    }
+
+    private Optional<DeckCount> deckCountOf(GameDocument document) {
+        if (document.getDeckCount() != null) {
+            return Optional.of(DeckCount.of(document.getDeckCount()));
+        }
+
+        DeckDocument deck = document.getDeck();
+        if (deck != null && deck.getDeckCount() != null) {
+            return Optional.of(DeckCount.of(deck.getDeckCount()));
+        }
+        if (deck != null && deck.getCards() != null) {
+            return Optional.of(DeckCount.of(deck.getCards().size() / CARDS_PER_DECK));
+        }
+        if (document.getDeckCardCount() != null && document.getDeckCardCount() > 0) {
+            return Optional.of(DeckCount.of(document.getDeckCardCount() / CARDS_PER_DECK));
+        }
+        return Optional.empty();
+    }
+
+    public List<OutboxEventDocument> toOutboxDocuments(List<DomainEvent> events) {
+        return events.stream()
+                .filter(GameFinishedEvent.class::isInstance)
+                .map(GameFinishedEvent.class::cast)
+                .map(event -> OutboxEventDocument.builder()
+                        .type(GameFinishedEvent.class.getSimpleName())
+                        .playerId(event.playerId().value())
+                        .finalStatus(event.finalStatus().name())
+                        .occurredAt(event.occurredAt())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    public List<GameFinishedEvent> toGameFinishedEvents(GameDocument document) {
+        if (document.getOutbox() == null) {
+            return List.of();
+        }
+        return document.getOutbox().stream()
+                .filter(event -> GameFinishedEvent.class.getSimpleName().equals(event.getType()))
+                .map(event -> new GameFinishedEvent(
+                        GameId.from(document.getId()),
+                        PlayerId.from(event.getPlayerId()),
+                        GameStatus.valueOf(event.getFinalStatus()),
+                        event.getOccurredAt()
+                ))
+                .collect(Collectors.toList());
+    }
+
+    public HandDocument toHandDocument(Hand hand) {
         List<CardDocument> cardDocs = hand.getCards().stream()
                 .map(this::toCardDocument)
                 .collect(Collectors.toList());
@@ -83,10 +168,19 @@ public class GameDocumentMapper {
     private Card toCard(CardDocument document) {
         Rank rank = Rank.valueOf(document.getRank());
         Suit suit = Suit.valueOf(document.getSuit());
-        return new Card(rank, suit);
+        return Card.of(rank, suit);
     }
 
     private DeckDocument toDeckDocument(Deck deck) {
+        if (deck.isSeeded()) {
+            return DeckDocument.builder()
+                    .seed(deck.getSeed().getAsLong())
+                    .deckCount(deck.getDeckCount().value())
+                    .shuffleAlgorithm(DeterministicShuffleStrategy.ALGORITHM_VERSION)
+                    .currentIndex(deck.getCurrentIndex())
+                    .build();
+        }
+
         List<CardDocument> cardDocs = deck.getCards().stream()
                 .map(this::toCardDocument)
                 .collect(Collectors.toList());
@@ -97,7 +191,24 @@ public class GameDocumentMapper {
                 .build();
     }
 
-    private Deck toDeck(DeckDocument document) {
+    private Deck toDeck(GameDocument game) {
+        DeckDocument document = game.getDeck();
+
+        if (document.getSeed() != null) {
+            Integer deckCount = document.getDeckCount() != null ? document.getDeckCount() : game.getDeckCount();
+            if (deckCount == null || document.getShuffleAlgorithm() == null) {
+                throw new IllegalStateException(
+                        "Seeded deck of game " + game.getId() + " is missing its deck count or shuffle algorithm");
+            }
+
+            return Deck.reconstituteFromSeed(
+                    DeckCount.of(deckCount),
+                    document.getSeed(),
+                    document.getShuffleAlgorithm(),
+                    document.getCurrentIndex()
+            );
+        }
+
         List<Card> cards = document.getCards().stream()
                 .map(this::toCard)
                 .collect(Collectors.toList());
@@ -105,7 +216,7 @@ public class GameDocumentMapper {
         return Deck.reconstitute(cards, document.getCurrentIndex());
     }
 
-    private List<TurnDocument> toTurnDocuments(List<Turn> turns) {
+    public List<TurnDocument> toTurnDocuments(List<Turn> turns) {
         return turns.stream()
                 .map(this::toTurnDocument)
                 .collect(Collectors.toList());
@@ -2,6 +2,7 @@ package com.blackjack.infrastructure.persistence.mongodb.repository;
 
 import com.blackjack.infrastructure.persistence.mongodb.document.GameDocument;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
@@ -11,7 +12,18 @@ import reactor.core.publisher.Mono;
 @Repository
 public interface GameMongoRepository extends ReactiveMongoRepository<GameDocument, String> {
 
-    Flux<GameDocument> findByPlayerId(String playerId, Pageable pageable);
+    // everything but the shoe; legacy documents that store only the card list get its size computed
+    // server side, so a summary never needs the deck itself
+    String SUMMARY_FIELDS = "{ 'playerId': 1, 'playerName': 1, 'playerHand': 1, 'dealerHand': 1, "
+            + "'deckCount': 1, 'deck.deckCount': 1, 'status': 1, 'turnHistory': 1, "
+            + "'createdAt': 1, 'updatedAt': 1, 'version': 1, "
+            + "'deckCardCount': { '$size': { '$ifNull': [ '$deck.cards', [] ] } } }";
+
+    @Query(value = "{}", fields = SUMMARY_FIELDS)
+    Flux<GameDocument> findSummariesBy(Pageable pageable);
+
+    @Query(value = "{ 'playerId': ?0 }", fields = SUMMARY_FIELDS)
+    Flux<GameDocument> findSummariesByPlayerId(String playerId, Pageable pageable);
 
     Flux<GameDocument> findByStatusNot(String status);
 
@@ -0,0 +1,188 @@
+package com.blackjack.infrastructure.persistence.mysql.adapter;
+
+import com.blackjack.domain.event.GameFinishedEvent;
+import com.blackjack.domain.model.aggregate.Player;
+import com.blackjack.domain.model.readmodel.RankingPosition;
+import com.blackjack.domain.model.valueobject.player.PlayerId;
+import com.blackjack.domain.model.valueobject.player.PlayerName;
+import com.blackjack.domain.repository.PlayerRepository;
+import com.blackjack.infrastructure.cache.BoundedCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Read-through cache in front of {@link PlayerRepositoryAdapter} for the id and name lookups on
+ * the game paths. Player is mutable, so the cache holds its own copies and hands out fresh ones.
+ * Every write evicts the players it touched once it completes; rankings, listings and counts
+ * always go to MySQL.
+ */
+@Slf4j
+@Repository
+@Primary
+public class CachingPlayerRepository implements PlayerRepository {
+
+    private final PlayerRepositoryAdapter delegate;
+    private final BoundedCache<PlayerId, Player> players;
+    private final BoundedCache<String, PlayerId> playerIdsByName;
+
+    public CachingPlayerRepository(PlayerRepositoryAdapter delegate,
+                                   @Value("${blackjack.player-cache.max-size:10000}") int maxSize,
+                                   @Value("${blackjack.player-cache.ttl:5m}") Duration ttl,
+                                   MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.players = new BoundedCache<>("players", maxSize, ttl, meterRegistry);
+        this.playerIdsByName = new BoundedCache<>("player-names", maxSize, ttl, meterRegistry);
+    }
+
+    @Override
+    public Mono<Player> save(Player player) {
+        return delegate.save(player)
+                .doFinally(signal -> evict(player.getId()));
+    }
+
+    @Override
+    public Flux<Player> saveAll(Collection<Player> players) {
+        return delegate.saveAll(players)
+                .doFinally(signal -> players.forEach(player -> evict(player.getId())));
+    }
+
+    @Override
+    public Mono<Player> findById(PlayerId id) {
+        Optional<Player> cached = players.get(id);
+        if (cached.isPresent()) {
+            return Mono.just(copyOf(cached.get()));
+        }
+
+        long epoch = players.epoch();
+        return delegate.findById(id)
+                .doOnNext(player -> cache(player, epoch));
+    }
+
+    @Override
+    public Flux<Player> findAllByIds(Collection<PlayerId> ids) {
+        return delegate.findAllByIds(ids);
+    }
+
+    @Override
+    public Mono<Player> findByName(PlayerName name) {
+        String nameKey = nameKey(name);
+        Optional<Player> cached = playerIdsByName.get(nameKey)
+                .flatMap(players::get)
+                .filter(player -> nameKey(player.getName()).equals(nameKey));
+        if (cached.isPresent()) {
+            return Mono.just(copyOf(cached.get()));
+        }
+
+        long epoch = players.epoch();
+        return delegate.findByName(name)
+                .doOnNext(player -> cache(player, epoch));
+    }
+
+    @Override
+    public Flux<Player> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public Flux<Player> findTopByWinRate(int limit) {
+        return delegate.findTopByWinRate(limit);
+    }
+
+    @Override
+    public Mono<Boolean> existsByName(PlayerName name) {
+        return findByName(name).hasElement();
+    }
+
+    @Override
+    public Mono<Boolean> existsById(PlayerId id) {
+        if (players.get(id).isPresent()) {
+            return Mono.just(true);
+        }
+        return delegate.existsById(id);
+    }
+
+    @Override
+    public Flux<Player> findAllByOrderByWinRateDesc(int limit, int offset) {
+        return delegate.findAllByOrderByWinRateDesc(limit, offset);
+    }
+
+    @Override
+    public Mono<Long> countRankedAhead(RankingPosition position) {
+        return delegate.countRankedAhead(position);
+    }
+
+    @Override
+    public Flux<Player> findRankedAhead(RankingPosition position, int limit) {
+        return delegate.findRankedAhead(position, limit);
+    }
+
+    @Override
+    public Flux<Player> findRankedBehind(RankingPosition position, int limit) {
+        return delegate.findRankedBehind(position, limit);
+    }
+
+    @Override
+    public Mono<Long> count() {
+        return delegate.count();
+    }
+
+    @Override
+    public Mono<Void> deleteById(PlayerId id) {
+        return delegate.deleteById(id)
+                .doFinally(signal -> evict(id));
+    }
+
+    @Override
+    public Mono<Integer> recordGameResults(Collection<GameFinishedEvent> results) {
+        List<PlayerId> playerIds = results.stream()
+                .map(GameFinishedEvent::playerId)
+                .distinct()
+                .toList();
+
+        return delegate.recordGameResults(results)
+                .doFinally(signal -> playerIds.forEach(this::evict));
+    }
+
+    // the name index is only a hint: findByName re-checks the cached player's name, so a stale
+    // mapping left behind by a rename or delete falls through to MySQL instead of returning the wrong row
+    private void cache(Player player, long epoch) {
+        if (players.putIfCurrent(player.getId(), copyOf(player), epoch)) {
+            playerIdsByName.put(nameKey(player.getName()), player.getId());
+        }
+    }
+
+    private void evict(PlayerId id) {
+        players.invalidate(id);
+        log.debug("Evicted player {} from cache", id.value());
+    }
+
+    // PlayerName only admits ASCII letters, so this matches the LOWER(name) behind name_key
+    private static String nameKey(PlayerName name) {
+        return name.value().toLowerCase(Locale.ROOT);
+    }
+
+    private static Player copyOf(Player player) {
+        return Player.reconstitute(
+                player.getId(),
+                player.getName(),
+                player.getGamesPlayed(),
+                player.getGamesWon(),
+                player.getGamesLost(),
+                player.getGamesTied(),
+                player.getWinRate(),
+                player.getCreatedAt(),
+                player.getUpdatedAt()
+        );
+    }
+}
@@ -1,50 +1,87 @@
 package com.blackjack.infrastructure.persistence.mysql.adapter;
 
+import com.blackjack.domain.event.GameFinishedEvent;
+import com.blackjack.domain.event.PlayerDeletedEvent;
+import com.blackjack.domain.event.PlayerRegisteredEvent;
+import com.blackjack.domain.event.PlayerRenamedEvent;
 import com.blackjack.domain.model.aggregate.Player;
+import com.blackjack.domain.model.readmodel.RankingPosition;
 import com.blackjack.domain.model.valueobject.player.PlayerId;
 import com.blackjack.domain.model.valueobject.player.PlayerName;
+import com.blackjack.domain.model.valueobject.player.PlayerStatsDelta;
 import com.blackjack.domain.repository.PlayerRepository;
+import com.blackjack.infrastructure.event.DomainEventPublisher;
 import com.blackjack.infrastructure.persistence.mysql.entity.PlayerEntity;
 import com.blackjack.infrastructure.persistence.mysql.mapper.PlayerEntityMapper;
 import com.blackjack.infrastructure.persistence.mysql.repository.PlayerR2dbcRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.annotation.Primary;
+import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.StringJoiner;
+import java.util.UUID;
+
 @Slf4j
 @Repository
-@Primary
 @RequiredArgsConstructor
 @SuppressWarnings({"SqlResolve", "SqlNoDataSourceInspection"})
 public class PlayerRepositoryAdapter implements PlayerRepository {
 
+    private static final int INSERT_BATCH_SIZE = 500;
+    private static final int INCREMENT_BATCH_SIZE = 200;
+    private static final int RESULT_BATCH_SIZE = 200;
+
+    private static final String INSERT_PREFIX = """
+            INSERT INTO players (id, name, games_played, games_won, games_lost, games_tied, win_rate, created_at, updated_at)
+            VALUES\s""";
+
+    private static final String UPDATE = """
+            UPDATE players
+            SET name = :name,
+                games_played = :gamesPlayed,
+                games_won = :gamesWon,
+                games_lost = :gamesLost,
+                games_tied = :gamesTied,
+                win_rate = :winRate,
+                updated_at = :updatedAt
+            WHERE id = :id
+            """;
+
     private final PlayerR2dbcRepository r2dbcRepository;
     private final PlayerEntityMapper mapper;
     private final DatabaseClient databaseClient;
+    private final DomainEventPublisher eventPublisher;
+    private final TransactionalOperator transactionalOperator;
 
+    // a player that was never stored is inserted, and a name_key clash fails the insert; a stored
+    // one is updated by id, so a player deleted meanwhile is reported instead of being written back
     @Override
     public Mono<Player> save(Player player) {
         log.debug("Saving player to MySQL: {}", player.getId().value());
 
-        return r2dbcRepository.existsById(player.getId().value())
-                .flatMap(exists -> {
-                    if (exists) {
-                        log.debug("Player exists, performing UPDATE: {}", player.getId().value());
-                        return updatePlayer(player);
-                    } else {
-                        log.debug("Player does not exist, performing INSERT: {}", player.getId().value());
-                        return insertPlayer(player);
-                    }
+        Mono<Long> write = player.isPersisted() ? update(player) : insert(List.of(player));
+        return write
+                .thenReturn(player)
+                .doOnSuccess(saved -> {
+                    saved.markPersisted();
+                    log.debug("Player saved successfully: {} ({})",
+                            saved.getName().value(),
+                            saved.getId().value());
+                    publishDomainEvents(player);
                 })
-                .doOnSuccess(saved ->
-                        log.debug("Player saved successfully: {} ({})",
-                                saved.getName().value(),
-                                saved.getId().value())
-                )
                 .doOnError(error ->
                         log.error("Error saving player {}: {}",
                                 player.getId().value(),
@@ -52,42 +89,56 @@ public class PlayerRepositoryAdapter implements PlayerRepository {
                 );
     }
 
-    private Mono<Player> insertPlayer(Player player) {
-        String sql = """
-            INSERT INTO players (id, name, games_played, games_won, games_lost, games_tied, win_rate, created_at, updated_at)
-            VALUES (:id, :name, :gamesPlayed, :gamesWon, :gamesLost, :gamesTied, :winRate, :createdAt, :updatedAt)
-            """;
+    @Override
+    public Flux<Player> saveAll(Collection<Player> players) {
+        log.debug("Saving {} players to MySQL", players.size());
 
-        return databaseClient.sql(sql)
-                .bind("id", player.getId().value())
-                .bind("name", player.getName().value())
-                .bind("gamesPlayed", player.getGamesPlayed())
-                .bind("gamesWon", player.getGamesWon())
-                .bind("gamesLost", player.getGamesLost())
-                .bind("gamesTied", player.getGamesTied())
-                .bind("winRate", player.getWinRate())
-                .bind("createdAt", player.getCreatedAt())
-                .bind("updatedAt", player.getUpdatedAt())
-                .fetch()
-                .rowsUpdated()
-                .thenReturn(player);
+        return Flux.fromIterable(players)
+                .buffer(INSERT_BATCH_SIZE)
+                .concatMap(this::saveBatch);
     }
 
-    private Mono<Player> updatePlayer(Player player) {
-        String sql = """
-            UPDATE players 
-            SET name = :name, 
-                games_played = :gamesPlayed, 
-                games_won = :gamesWon, 
-                games_lost = :gamesLost, 
-                games_tied = :gamesTied, 
-                win_rate = :winRate, 
-                updated_at = :updatedAt
-            WHERE id = :id
-            """;
+    // new players go in one multi-row INSERT, existing ones are updated one by one
+    private Flux<Player> saveBatch(List<Player> batch) {
+        Map<Boolean, List<Player>> byState = batch.stream()
+                .collect(Collectors.partitioningBy(Player::isPersisted));
+        List<Player> unsaved = byState.get(false);
+        List<Player> stored = byState.get(true);
+
+        Mono<Long> inserted = unsaved.isEmpty() ? Mono.just(0L) : insert(unsaved);
+        return inserted
+                .then(Flux.fromIterable(stored).concatMap(this::update).then())
+                .doOnSuccess(done -> {
+                    log.debug("Saved batch of {} players ({} new)", batch.size(), unsaved.size());
+                    batch.forEach(Player::markPersisted);
+                    batch.forEach(this::publishDomainEvents);
+                })
+                .doOnError(error ->
+                        log.error("Error saving batch of {} players: {}", batch.size(), error.getMessage())
+                )
+                .thenMany(Flux.fromIterable(batch));
+    }
+
+    private Mono<Long> insert(List<Player> players) {
+        StringJoiner rows = new StringJoiner(", ");
+        for (int i = 0; i < players.size(); i++) {
+            rows.add(rowPlaceholders(i));
+        }
 
-        return databaseClient.sql(sql)
-                .bind("id", player.getId().value())
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(INSERT_PREFIX + rows);
+        for (int i = 0; i < players.size(); i++) {
+            spec = bindPlayer(spec, players.get(i), i);
+        }
+
+        return spec.fetch().rowsUpdated();
+    }
+
+    // MySQL reports changed rows, not matched ones, so zero rows only means "gone" once the id is confirmed missing
+    private Mono<Long> update(Player player) {
+        String id = player.getId().value();
+
+        return databaseClient.sql(UPDATE)
+                .bind("id", id)
                 .bind("name", player.getName().value())
                 .bind("gamesPlayed", player.getGamesPlayed())
                 .bind("gamesWon", player.getGamesWon())
@@ -97,7 +148,43 @@ public class PlayerRepositoryAdapter implements PlayerRepository {
                 .bind("updatedAt", player.getUpdatedAt())
                 .fetch()
                 .rowsUpdated()
-                .thenReturn(player);
+                .flatMap(rows -> rows > 0
+                        ? Mono.just(rows)
+                        : r2dbcRepository.existsById(id)
+                                .filter(Boolean::booleanValue)
+                                .map(exists -> rows)
+                                .switchIfEmpty(Mono.error(() ->
+                                        new EmptyResultDataAccessException("Player " + id + " no longer exists", 1))));
+    }
+
+    private static String rowPlaceholders(int row) {
+        return String.format(
+                "(:id%1$d, :name%1$d, :gamesPlayed%1$d, :gamesWon%1$d, :gamesLost%1$d, :gamesTied%1$d, :winRate%1$d, :createdAt%1$d, :updatedAt%1$d)",
+                row);
+    }
+
+    private DatabaseClient.GenericExecuteSpec bindPlayer(DatabaseClient.GenericExecuteSpec spec, Player player, int row) {
+        return spec
+                .bind("id" + row, player.getId().value())
+                .bind("name" + row, player.getName().value())
+                .bind("gamesPlayed" + row, player.getGamesPlayed())
+                .bind("gamesWon" + row, player.getGamesWon())
+                .bind("gamesLost" + row, player.getGamesLost())
+                .bind("gamesTied" + row, player.getGamesTied())
+                .bind("winRate" + row, player.getWinRate())
+                .bind("createdAt" + row, player.getCreatedAt())
+                .bind("updatedAt" + row, player.getUpdatedAt());
+    }
+
+    private void publishDomainEvents(Player player) {
+        player.getDomainEvents().forEach(event -> {
+            if (event instanceof PlayerRegisteredEvent playerRegisteredEvent) {
+                eventPublisher.publishPlayerRegisteredEvent(playerRegisteredEvent);
+            } else if (event instanceof PlayerRenamedEvent playerRenamedEvent) {
+                eventPublisher.publishPlayerRenamedEvent(playerRenamedEvent);
+            }
+        });
+        player.clearDomainEvents();
     }
 
     @Override
@@ -117,6 +204,22 @@ public class PlayerRepositoryAdapter implements PlayerRepository {
                 });
     }
 
+    @Override
+    public Flux<Player> findAllByIds(Collection<PlayerId> ids) {
+        if (ids.isEmpty()) {
+            return Flux.empty();
+        }
+
+        List<String> values = ids.stream()
+                .map(PlayerId::value)
+                .distinct()
+                .toList();
+        log.debug("Finding {} players by id in MySQL", values.size());
+
+        return r2dbcRepository.findAllById(values)
+                .map(mapper::toDomain);
+    }
+
     @Override
     public Mono<Player> findByName(PlayerName name) {
         log.debug("Finding player by name in MySQL: {}", name.value());
@@ -197,16 +300,203 @@ public class PlayerRepositoryAdapter implements PlayerRepository {
                 );
     }
 
+    @Override
+    public Mono<Long> countRankedAhead(RankingPosition position) {
+        return r2dbcRepository.countRankedAhead(position.winRate(), position.gamesPlayed(), position.playerId().value());
+    }
+
+    @Override
+    public Flux<Player> findRankedAhead(RankingPosition position, int limit) {
+        return r2dbcRepository.findRankedAheadNearestFirst(
+                        position.winRate(), position.gamesPlayed(), position.playerId().value(), limit)
+                .map(mapper::toDomain)
+                .collectList()
+                .flatMapIterable(nearestFirst -> {
+                    Collections.reverse(nearestFirst);
+                    return nearestFirst;
+                });
+    }
+
+    @Override
+    public Flux<Player> findRankedBehind(RankingPosition position, int limit) {
+        return r2dbcRepository.findRankedBehind(
+                        position.winRate(), position.gamesPlayed(), position.playerId().value(), limit)
+                .map(mapper::toDomain);
+    }
+
     @Override
     public Mono<Void> deleteById(PlayerId id) {
         log.debug("Deleting player from MySQL: {}", id.value());
 
         return r2dbcRepository.deleteById(id.value())
-                .doOnSuccess(v ->
-                        log.debug("Player deleted: {}", id.value())
-                )
+                .doOnSuccess(v -> {
+                    log.debug("Player deleted: {}", id.value());
+                    eventPublisher.publishPlayerDeletedEvent(PlayerDeletedEvent.of(id));
+                })
                 .doOnError(error ->
                         log.error("Error deleting player {}: {}", id.value(), error.getMessage())
                 );
     }
-}
\ No newline at end of file
+
+    private Mono<Void> incrementResults(Map<PlayerId, PlayerStatsDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return Mono.empty();
+        }
+
+        return Flux.fromIterable(deltas.entrySet())
+                .buffer(INCREMENT_BATCH_SIZE)
+                .concatMap(this::incrementBatch)
+                .then();
+    }
+
+    private Mono<Long> incrementBatch(List<Map.Entry<PlayerId, PlayerStatsDelta>> batch) {
+        StringBuilder played = new StringBuilder();
+        StringBuilder won = new StringBuilder();
+        StringBuilder lost = new StringBuilder();
+        StringBuilder tied = new StringBuilder();
+        StringJoiner ids = new StringJoiner(", ");
+        for (int i = 0; i < batch.size(); i++) {
+            played.append(" WHEN :id").append(i).append(" THEN :played").append(i);
+            won.append(" WHEN :id").append(i).append(" THEN :won").append(i);
+            lost.append(" WHEN :id").append(i).append(" THEN :lost").append(i);
+            tied.append(" WHEN :id").append(i).append(" THEN :tied").append(i);
+            ids.add(":id" + i);
+        }
+
+        // single-table UPDATE: MySQL applies SET assignments left to right, so win_rate sees the new counters;
+        // it is worked out in DOUBLE in the same order as Player, since DECIMAL division would round it differently
+        String sql = """
+            UPDATE players
+            SET games_played = games_played + CASE id%s END,
+                games_won = games_won + CASE id%s END,
+                games_lost = games_lost + CASE id%s END,
+                games_tied = games_tied + CASE id%s END,
+                win_rate = CAST(games_won AS DOUBLE) / games_played * 100.0,
+                updated_at = :updatedAt
+            WHERE id IN (%s)
+            """.formatted(played, won, lost, tied, ids);
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql)
+                .bind("updatedAt", LocalDateTime.now());
+        for (int i = 0; i < batch.size(); i++) {
+            PlayerStatsDelta delta = batch.get(i).getValue();
+            spec = spec
+                    .bind("id" + i, batch.get(i).getKey().value())
+                    .bind("played" + i, delta.played())
+                    .bind("won" + i, delta.won())
+                    .bind("lost" + i, delta.lost())
+                    .bind("tied" + i, delta.tied());
+        }
+
+        return spec.fetch()
+                .rowsUpdated()
+                .doOnSuccess(rows -> {
+                    if (rows < batch.size()) {
+                        log.warn("Recorded results for {} of {} players, the rest no longer exist", rows, batch.size());
+                    } else {
+                        log.debug("Recorded results for {} players", rows);
+                    }
+                })
+                .doOnError(error ->
+                        log.error("Error incrementing results for {} players: {}", batch.size(), error.getMessage())
+                );
+    }
+
+    @Override
+    public Mono<Integer> recordGameResults(Collection<GameFinishedEvent> results) {
+        if (results.isEmpty()) {
+            return Mono.just(0);
+        }
+
+        Map<String, GameFinishedEvent> byGameId = results.stream()
+                .collect(Collectors.toMap(event -> event.gameId().value(), event -> event,
+                        (first, duplicate) -> first, LinkedHashMap::new));
+
+        return Flux.fromIterable(byGameId.values())
+                .buffer(RESULT_BATCH_SIZE)
+                .concatMap(batch -> recordResultBatch(batch).as(transactionalOperator::transactional))
+                .reduce(0, Integer::sum);
+    }
+
+    // game_results is the idempotency record: a game already in it was counted by an earlier delivery.
+    // INSERT IGNORE claims the new games without the gap locks a locking read of absent keys would take,
+    // and the batch token tells which rows this statement inserted
+    private Mono<Integer> recordResultBatch(List<GameFinishedEvent> batch) {
+        String batchId = UUID.randomUUID().toString();
+
+        return insertGameResults(batch, batchId)
+                .flatMap(inserted -> {
+                    if (inserted == 0) {
+                        return Mono.just(List.<GameFinishedEvent>of());
+                    }
+                    if (inserted == batch.size()) {
+                        return Mono.just(batch);
+                    }
+                    return insertedBy(batch, batchId);
+                })
+                .flatMap(fresh -> {
+                    if (fresh.size() < batch.size()) {
+                        log.debug("Skipping {} game results that were already recorded", batch.size() - fresh.size());
+                    }
+                    if (fresh.isEmpty()) {
+                        return Mono.just(0);
+                    }
+
+                    return incrementResults(deltasByPlayer(fresh))
+                            .thenReturn(fresh.size());
+                })
+                .doOnError(error ->
+                        log.error("Error recording results for {} games: {}", batch.size(), error.getMessage())
+                );
+    }
+
+    private Mono<Long> insertGameResults(List<GameFinishedEvent> results, String batchId) {
+        StringJoiner rows = new StringJoiner(", ");
+        for (int i = 0; i < results.size(); i++) {
+            rows.add("(:game%d, :player%d, :result%d, :recordedAt, :batchId)".formatted(i, i, i));
+        }
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(
+                        "INSERT IGNORE INTO game_results (game_id, player_id, result, recorded_at, batch_id) VALUES " + rows)
+                .bind("recordedAt", LocalDateTime.now())
+                .bind("batchId", batchId);
+        for (int i = 0; i < results.size(); i++) {
+            GameFinishedEvent result = results.get(i);
+            spec = spec
+                    .bind("game" + i, result.gameId().value())
+                    .bind("player" + i, result.playerId().value())
+                    .bind("result" + i, result.finalStatus().name());
+        }
+
+        return spec.fetch().rowsUpdated();
+    }
+
+    private Mono<List<GameFinishedEvent>> insertedBy(List<GameFinishedEvent> batch, String batchId) {
+        StringJoiner ids = new StringJoiner(", ");
+        for (int i = 0; i < batch.size(); i++) {
+            ids.add(":game" + i);
+        }
+
+        DatabaseClient.GenericExecuteSpec select = databaseClient.sql(
+                        "SELECT game_id FROM game_results WHERE game_id IN (%s) AND batch_id = :batchId".formatted(ids))
+                .bind("batchId", batchId);
+        for (int i = 0; i < batch.size(); i++) {
+            select = select.bind("game" + i, batch.get(i).gameId().value());
+        }
+
+        return select.map(row -> row.get("game_id", String.class))
+                .all()
+                .collect(Collectors.toSet())
+                .map(inserted -> batch.stream()
+                        .filter(event -> inserted.contains(event.gameId().value()))
+                        .toList());
+    }
+
+    private static Map<PlayerId, PlayerStatsDelta> deltasByPlayer(List<GameFinishedEvent> results) {
+        Map<PlayerId, PlayerStatsDelta> deltas = new HashMap<>();
+        for (GameFinishedEvent result : results) {
+            deltas.merge(result.playerId(), PlayerStatsDelta.of(result.finalStatus()), PlayerStatsDelta::plus);
+        }
+        return deltas;
+    }
+}
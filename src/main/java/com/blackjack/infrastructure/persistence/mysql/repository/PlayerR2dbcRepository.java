@@ -10,17 +10,37 @@ import reactor.core.publisher.Mono;
 @Repository
 public interface PlayerR2dbcRepository extends R2dbcRepository<PlayerEntity, String> {
 
-    @Query("SELECT * FROM players WHERE LOWER(name) = LOWER(:name)")
+    // name_key is the stored LOWER(name) column behind uk_players_name_key, so both lookups are index point reads
+    @Query("SELECT * FROM players WHERE name_key = LOWER(:name)")
     Mono<PlayerEntity> findByNameIgnoreCase(String name);
 
     @Query("SELECT * FROM players ORDER BY win_rate DESC LIMIT :limit")
     Flux<PlayerEntity> findTopByWinRate(int limit);
 
-    @Query("SELECT COUNT(*) > 0 FROM players WHERE LOWER(name) = LOWER(:name)")
+    @Query("SELECT EXISTS(SELECT 1 FROM players WHERE name_key = LOWER(:name))")
     Mono<Boolean> existsByNameIgnoreCase(String name);
 
-    @Query("SELECT * FROM players ORDER BY win_rate DESC, games_played DESC LIMIT :limit OFFSET :offset")
+    @Query("SELECT * FROM players ORDER BY win_rate DESC, games_played DESC, id DESC LIMIT :limit OFFSET :offset")
     Flux<PlayerEntity> findAllOrderedByWinRate(int limit, int offset);
 
+    // ranking positions compare as rows over idx_players_ranking (win_rate, games_played, id), all descending
+    @Query("SELECT COUNT(*) FROM players WHERE (win_rate, games_played, id) > (:winRate, :gamesPlayed, :id)")
+    Mono<Long> countRankedAhead(double winRate, int gamesPlayed, String id);
+
+    @Query("""
+            SELECT * FROM players
+            WHERE (win_rate, games_played, id) > (:winRate, :gamesPlayed, :id)
+            ORDER BY win_rate, games_played, id
+            LIMIT :limit
+            """)
+    Flux<PlayerEntity> findRankedAheadNearestFirst(double winRate, int gamesPlayed, String id, int limit);
+
+    @Query("""
+            SELECT * FROM players
+            WHERE (win_rate, games_played, id) < (:winRate, :gamesPlayed, :id)
+            ORDER BY win_rate DESC, games_played DESC, id DESC
+            LIMIT :limit
+            """)
+    Flux<PlayerEntity> findRankedBehind(double winRate, int gamesPlayed, String id, int limit);
 
 }
\ No newline at end of file
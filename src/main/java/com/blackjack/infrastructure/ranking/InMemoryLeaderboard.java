@@ -0,0 +1,383 @@
+package com.blackjack.infrastructure.ranking;
+
+import com.blackjack.domain.model.readmodel.LeaderboardEntry;
+import com.blackjack.domain.model.readmodel.RankingPosition;
+import com.blackjack.domain.model.valueobject.player.PlayerId;
+import com.blackjack.domain.model.valueobject.player.PlayerName;
+import com.blackjack.domain.service.Leaderboard;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * The ranking held in memory as an order-statistic treap: every node knows the size of its
+ * subtree, so an update or a rank lookup costs O(log n) and a page costs O(log n + size) wherever it starts.
+ * <p>
+ * Entries arrive from a full load (at startup and on every resync) and from live updates at
+ * the same time; a player updated or removed live is never overwritten by the (older) loaded
+ * row, and a load drops every player it did not see. Live stats refreshes only move a player
+ * forward: a row with fewer games than the one held is stale and ignored, and a player no
+ * longer held is not brought back.
+ */
+@Component
+public class InMemoryLeaderboard implements Leaderboard {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<PlayerId, LeaderboardEntry> entries = new HashMap<>();
+    private final Set<PlayerId> touchedWhileLoading = new HashSet<>();
+    private final Set<PlayerId> seenWhileLoading = new HashSet<>();
+    private Node root;
+    private boolean ready;
+    private boolean loading = true;
+
+    public InMemoryLeaderboard(MeterRegistry meterRegistry) {
+        Gauge.builder("blackjack.leaderboard.size", this, InMemoryLeaderboard::size)
+                .description("Players held in the in-memory ranking")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean isReady() {
+        lock.readLock().lock();
+        try {
+            return ready;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<LeaderboardEntry> page(int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            List<LeaderboardEntry> page = new ArrayList<>(Math.min(limit, Math.max(0, size(root) - offset)));
+            collect(root, offset, limit, page);
+            return page;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<LeaderboardEntry> pageAfter(RankingPosition position, int limit) {
+        lock.readLock().lock();
+        try {
+            List<LeaderboardEntry> page = new ArrayList<>(limit);
+            collect(root, countAtOrAhead(root, position), limit, page);
+            return page;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size(root);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public OptionalInt rank(PlayerId playerId) {
+        lock.readLock().lock();
+        try {
+            LeaderboardEntry entry = entries.get(playerId);
+            return entry != null ? OptionalInt.of(rank(root, entry)) : OptionalInt.empty();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void beginReload() {
+        lock.writeLock().lock();
+        try {
+            loading = true;
+            seenWhileLoading.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void load(LeaderboardEntry entry) {
+        lock.writeLock().lock();
+        try {
+            if (loading) {
+                seenWhileLoading.add(entry.playerId());
+                if (!touchedWhileLoading.contains(entry.playerId())) {
+                    replace(entry);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void markReady() {
+        lock.writeLock().lock();
+        try {
+            if (loading) {
+                List<PlayerId> unseen = entries.keySet().stream()
+                        .filter(playerId -> !seenWhileLoading.contains(playerId))
+                        .filter(playerId -> !touchedWhileLoading.contains(playerId))
+                        .toList();
+                unseen.forEach(playerId -> root = delete(root, entries.remove(playerId)));
+            }
+            ready = true;
+            loading = false;
+            touchedWhileLoading.clear();
+            seenWhileLoading.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // a failed initial load keeps collecting live updates for the next attempt
+    public void abortReload() {
+        lock.writeLock().lock();
+        try {
+            seenWhileLoading.clear();
+            if (ready) {
+                loading = false;
+                touchedWhileLoading.clear();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void register(LeaderboardEntry entry) {
+        lock.writeLock().lock();
+        try {
+            if (!entries.containsKey(entry.playerId())) {
+                touch(entry.playerId());
+                replace(entry);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void refresh(LeaderboardEntry entry) {
+        lock.writeLock().lock();
+        try {
+            LeaderboardEntry current = entries.get(entry.playerId());
+            boolean newer = current != null
+                    ? entry.gamesPlayed() >= current.gamesPlayed()
+                    : loading && !touchedWhileLoading.contains(entry.playerId());
+            if (newer) {
+                touch(entry.playerId());
+                replace(entry);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void update(LeaderboardEntry entry) {
+        lock.writeLock().lock();
+        try {
+            touch(entry.playerId());
+            replace(entry);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void rename(PlayerId playerId, PlayerName name) {
+        lock.writeLock().lock();
+        try {
+            LeaderboardEntry current = entries.get(playerId);
+            if (current != null) {
+                touch(playerId);
+                replace(current.withName(name));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(PlayerId playerId) {
+        lock.writeLock().lock();
+        try {
+            touch(playerId);
+            LeaderboardEntry current = entries.remove(playerId);
+            if (current != null) {
+                root = delete(root, current);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void touch(PlayerId playerId) {
+        if (loading) {
+            touchedWhileLoading.add(playerId);
+        }
+    }
+
+    private void replace(LeaderboardEntry entry) {
+        LeaderboardEntry previous = entries.put(entry.playerId(), entry);
+        if (previous != null) {
+            root = delete(root, previous);
+        }
+        root = insert(root, new Node(entry));
+    }
+
+    private static int compare(LeaderboardEntry a, LeaderboardEntry b) {
+        return LeaderboardEntry.RANKING_ORDER.compare(a, b);
+    }
+
+    private static Node insert(Node node, Node inserted) {
+        if (node == null) {
+            return inserted;
+        }
+        if (compare(inserted.entry, node.entry) < 0) {
+            node.left = insert(node.left, inserted);
+            if (node.left.priority > node.priority) {
+                node = rotateRight(node);
+            }
+        } else {
+            node.right = insert(node.right, inserted);
+            if (node.right.priority > node.priority) {
+                node = rotateLeft(node);
+            }
+        }
+        node.update();
+        return node;
+    }
+
+    private static Node delete(Node node, LeaderboardEntry entry) {
+        if (node == null) {
+            return null;
+        }
+        int comparison = compare(entry, node.entry);
+        if (comparison < 0) {
+            node.left = delete(node.left, entry);
+        } else if (comparison > 0) {
+            node.right = delete(node.right, entry);
+        } else {
+            return merge(node.left, node.right);
+        }
+        node.update();
+        return node;
+    }
+
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.update();
+            return left;
+        }
+        right.left = merge(left, right.left);
+        right.update();
+        return right;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        node.update();
+        pivot.update();
+        return pivot;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        node.update();
+        pivot.update();
+        return pivot;
+    }
+
+    private static int rank(Node node, LeaderboardEntry entry) {
+        int rank = 0;
+        while (node != null) {
+            int comparison = compare(entry, node.entry);
+            if (comparison < 0) {
+                node = node.left;
+            } else {
+                rank += size(node.left);
+                if (comparison == 0) {
+                    return rank;
+                }
+                rank++;
+                node = node.right;
+            }
+        }
+        return rank;
+    }
+
+    // the position need not be in the tree: a cursor keeps pointing at where its player was
+    private static int countAtOrAhead(Node node, RankingPosition position) {
+        int count = 0;
+        while (node != null) {
+            if (RankingPosition.RANKING_ORDER.compare(node.entry.position(), position) <= 0) {
+                count += size(node.left) + 1;
+                node = node.right;
+            } else {
+                node = node.left;
+            }
+        }
+        return count;
+    }
+
+    // in-order walk that skips whole subtrees left of the offset
+    private static void collect(Node node, int offset, int limit, List<LeaderboardEntry> out) {
+        if (node == null || out.size() >= limit) {
+            return;
+        }
+        int leftSize = size(node.left);
+        if (offset < leftSize) {
+            collect(node.left, offset, limit, out);
+        }
+        if (out.size() < limit && offset <= leftSize) {
+            out.add(node.entry);
+        }
+        if (out.size() < limit) {
+            collect(node.right, Math.max(0, offset - leftSize - 1), limit, out);
+        }
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static final class Node {
+
+        private final LeaderboardEntry entry;
+        private final int priority = ThreadLocalRandom.current().nextInt();
+        private Node left;
+        private Node right;
+        private int size = 1;
+
+        private Node(LeaderboardEntry entry) {
+            this.entry = entry;
+        }
+
+        private void update() {
+            size = 1 + size(left) + size(right);
+        }
+    }
+}
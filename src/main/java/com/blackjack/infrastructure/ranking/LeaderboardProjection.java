@@ -0,0 +1,121 @@
+package com.blackjack.infrastructure.ranking;
+
+import com.blackjack.domain.event.PlayerDeletedEvent;
+import com.blackjack.domain.event.PlayerRegisteredEvent;
+import com.blackjack.domain.event.PlayerRenamedEvent;
+import com.blackjack.domain.event.PlayerStatsUpdatedEvent;
+import com.blackjack.domain.model.readmodel.LeaderboardEntry;
+import com.blackjack.domain.repository.PlayerRepository;
+import com.blackjack.infrastructure.event.DomainEventBus;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps {@link InMemoryLeaderboard} in step with the players table: player events for live
+ * updates, and a streamed full load at startup and then every resync interval. The event bus
+ * may drop events under load, so the resync is what bounds how long a missed registration,
+ * rename or deletion stays visible. Until the first load completes the ranking is served from MySQL.
+ */
+@Slf4j
+@Component
+public class LeaderboardProjection {
+
+    private static final Duration RESYNC_TIMEOUT = Duration.ofMinutes(2);
+
+    private final InMemoryLeaderboard leaderboard;
+    private final PlayerRepository playerRepository;
+    private final DomainEventBus eventBus;
+    private final Duration resyncInterval;
+    private final ScheduledExecutorService resyncWorker;
+
+    public LeaderboardProjection(InMemoryLeaderboard leaderboard,
+                                 PlayerRepository playerRepository,
+                                 DomainEventBus eventBus,
+                                 @Value("${blackjack.leaderboard.resync-interval:5m}") Duration resyncInterval) {
+        this.leaderboard = leaderboard;
+        this.playerRepository = playerRepository;
+        this.eventBus = eventBus;
+        this.resyncInterval = resyncInterval;
+        this.resyncWorker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "leaderboard-resync");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PostConstruct
+    public void register() {
+        eventBus.subscribe(PlayerRegisteredEvent.class, this::handlePlayerRegisteredEvent);
+        eventBus.subscribe(PlayerRenamedEvent.class, this::handlePlayerRenamedEvent);
+        eventBus.subscribe(PlayerDeletedEvent.class, this::handlePlayerDeletedEvent);
+        eventBus.subscribe(PlayerStatsUpdatedEvent.class, this::handlePlayerStatsUpdatedEvent);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrap() {
+        log.info("Loading leaderboard from MySQL, resync interval {}", resyncInterval);
+
+        resyncWorker.scheduleWithFixedDelay(this::resync, 0, resyncInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        resyncWorker.shutdownNow();
+    }
+
+    void resync() {
+        boolean initial = !leaderboard.isReady();
+        leaderboard.beginReload();
+        try {
+            Long loaded = playerRepository.findAll()
+                    .map(LeaderboardEntry::of)
+                    .doOnNext(leaderboard::load)
+                    .count()
+                    .block(RESYNC_TIMEOUT);
+
+            leaderboard.markReady();
+            if (initial) {
+                log.info("Leaderboard loaded with {} players", loaded);
+            } else {
+                log.debug("Leaderboard resynced with {} players", loaded);
+            }
+        } catch (RuntimeException e) {
+            leaderboard.abortReload();
+            log.error("Error loading leaderboard{}: {}",
+                    initial ? ", ranking stays on MySQL" : "", e.getMessage());
+        }
+    }
+
+    public Mono<Void> handlePlayerRegisteredEvent(PlayerRegisteredEvent event) {
+        return Mono.fromRunnable(() ->
+                leaderboard.register(new LeaderboardEntry(event.playerId(), event.name(), 0, 0, 0.0)));
+    }
+
+    public Mono<Void> handlePlayerRenamedEvent(PlayerRenamedEvent event) {
+        return Mono.fromRunnable(() -> leaderboard.rename(event.playerId(), event.newName()));
+    }
+
+    public Mono<Void> handlePlayerDeletedEvent(PlayerDeletedEvent event) {
+        return Mono.fromRunnable(() -> leaderboard.remove(event.playerId()));
+    }
+
+    public Mono<Void> handlePlayerStatsUpdatedEvent(PlayerStatsUpdatedEvent event) {
+        log.debug("Refreshing {} players in the leaderboard", event.playerIds().size());
+
+        return playerRepository.findAllByIds(event.playerIds())
+                .map(LeaderboardEntry::of)
+                .doOnNext(leaderboard::refresh)
+                .then();
+    }
+}
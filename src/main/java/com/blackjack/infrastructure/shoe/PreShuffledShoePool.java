@@ -0,0 +1,142 @@
+package com.blackjack.infrastructure.shoe;
+
+import com.blackjack.domain.model.valueobject.game.Deck;
+import com.blackjack.domain.model.valueobject.game.DeckCount;
+import com.blackjack.domain.service.ShoePool;
+import com.blackjack.domain.service.ShuffleStrategy;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Slf4j
+@Component
+public class PreShuffledShoePool implements ShoePool {
+
+    private final int capacity;
+    private final Duration refillInterval;
+    private final ShuffleStrategy shuffleStrategy;
+    private final Map<DeckCount, BlockingQueue<Deck>> shoes;
+    private final Map<DeckCount, Counter> hits;
+    private final Map<DeckCount, Counter> misses;
+    private final ScheduledExecutorService refillWorker;
+    private final AtomicBoolean refillRequested = new AtomicBoolean(false);
+
+    public PreShuffledShoePool(@Value("${blackjack.shoe-pool.capacity:16}") int capacity,
+                               @Value("${blackjack.shoe-pool.refill-interval:1s}") Duration refillInterval,
+                               ShuffleStrategy shuffleStrategy,
+                               MeterRegistry meterRegistry) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Shoe pool capacity must be positive");
+        }
+
+        this.capacity = capacity;
+        this.refillInterval = refillInterval;
+        this.shuffleStrategy = shuffleStrategy;
+
+        Map<DeckCount, BlockingQueue<Deck>> shoes = new HashMap<>();
+        Map<DeckCount, Counter> hits = new HashMap<>();
+        Map<DeckCount, Counter> misses = new HashMap<>();
+
+        for (int decks = DeckCount.MIN_DECKS; decks <= DeckCount.MAX_DECKS; decks++) {
+            DeckCount deckCount = new DeckCount(decks);
+            String tag = String.valueOf(decks);
+            BlockingQueue<Deck> queue = new ArrayBlockingQueue<>(capacity);
+
+            shoes.put(deckCount, queue);
+            Gauge.builder("blackjack.shoe.pool.depth", queue, BlockingQueue::size)
+                    .description("Pre-shuffled shoes waiting in the pool")
+                    .tag("decks", tag)
+                    .register(meterRegistry);
+            hits.put(deckCount, Counter.builder("blackjack.shoe.pool.hits")
+                    .description("Games created from a pre-shuffled shoe")
+                    .tag("decks", tag)
+                    .register(meterRegistry));
+            misses.put(deckCount, Counter.builder("blackjack.shoe.pool.misses")
+                    .description("Games that had to shuffle inline because the pool was empty")
+                    .tag("decks", tag)
+                    .register(meterRegistry));
+        }
+
+        this.shoes = Map.copyOf(shoes);
+        this.hits = Map.copyOf(hits);
+        this.misses = Map.copyOf(misses);
+        this.refillWorker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "shoe-pool-refill");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PostConstruct
+    public void start() {
+        log.info("Starting shoe pool with capacity {} per deck count, refill interval {}", capacity, refillInterval);
+
+        refillWorker.scheduleWithFixedDelay(this::refill, 0, refillInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        log.info("Stopping shoe pool");
+
+        refillWorker.shutdownNow();
+    }
+
+    @Override
+    public Optional<Deck> take(DeckCount deckCount) {
+        Deck shoe = shoes.get(deckCount).poll();
+
+        if (shoe == null) {
+            misses.get(deckCount).increment();
+            log.debug("Shoe pool empty for {} decks, shuffling inline", deckCount.value());
+            requestRefill();
+            return Optional.empty();
+        }
+
+        hits.get(deckCount).increment();
+        requestRefill();
+        return Optional.of(shoe);
+    }
+
+    private void requestRefill() {
+        if (!refillRequested.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            refillWorker.execute(this::refill);
+        } catch (RejectedExecutionException e) {
+            refillRequested.set(false);
+        }
+    }
+
+    void refill() {
+        refillRequested.set(false);
+
+        try {
+            shoes.forEach((deckCount, queue) -> {
+                while (queue.remainingCapacity() > 0 && !Thread.currentThread().isInterrupted()) {
+                    queue.offer(Deck.createAndShuffle(deckCount, shuffleStrategy));
+                }
+            });
+        } catch (RuntimeException e) {
+            log.error("Error refilling shoe pool: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.blackjack.infrastructure.web.cache;
+
+import com.blackjack.application.dto.response.GameResponse;
+import com.blackjack.domain.model.valueobject.game.GameStatus;
+import com.blackjack.domain.model.valueobject.player.PlayerId;
+import com.blackjack.domain.repository.PlayerRepository;
+import com.blackjack.infrastructure.cache.BoundedCache;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Serialized {@code GET /game/{id}} bodies with their ETag. A finished game never changes, so its
+ * bytes are kept in a small LRU and served without touching MongoDB; the only thing that can still
+ * change is the player name, so every hit checks it against the player's current name as the
+ * player cache reports it. That cache is evicted on renames made through this instance only, so a
+ * rename made elsewhere can keep an old body here until the player cache entry expires.
+ * <p>
+ * Bodies carry the player name, so none of them may sit in shared caches or be reused by a client
+ * without asking: finished games are private and revalidated against the ETag on every use.
+ */
+@Slf4j
+@Component
+public class GameResponseCache {
+
+    private final ObjectMapper objectMapper;
+    private final PlayerRepository playerRepository;
+    private final BoundedCache<String, CachedGame> finishedGames;
+
+    public GameResponseCache(ObjectMapper objectMapper,
+                             PlayerRepository playerRepository,
+                             @Value("${blackjack.game-cache.max-size:1000}") int maxSize,
+                             @Value("${blackjack.game-cache.ttl:1h}") Duration ttl,
+                             MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.playerRepository = playerRepository;
+        this.finishedGames = new BoundedCache<>("finished-games", maxSize, ttl, meterRegistry);
+    }
+
+    public Mono<CachedGame> get(String gameId, Function<String, Mono<GameResponse>> loader) {
+        return Mono.defer(() -> {
+            Optional<CachedGame> cached = finishedGames.get(gameId);
+            if (cached.isEmpty()) {
+                return load(gameId, loader);
+            }
+
+            CachedGame game = cached.get();
+            return hasCurrentName(game).flatMap(current -> {
+                if (current) {
+                    return Mono.just(game);
+                }
+                log.debug("Player of cached game {} was renamed or deleted, reloading it", gameId);
+                finishedGames.invalidate(gameId);
+                return load(gameId, loader);
+            });
+        });
+    }
+
+    public void evict(String gameId) {
+        finishedGames.invalidate(gameId);
+    }
+
+    private Mono<CachedGame> load(String gameId, Function<String, Mono<GameResponse>> loader) {
+        long epoch = finishedGames.epoch();
+        return loader.apply(gameId).map(response -> {
+            CachedGame game = serialize(response);
+            if (game.finished()) {
+                finishedGames.putIfCurrent(gameId, game, epoch);
+            }
+            return game;
+        });
+    }
+
+    private Mono<Boolean> hasCurrentName(CachedGame game) {
+        return playerRepository.findById(PlayerId.from(game.playerId()))
+                .map(player -> player.getName().value().equals(game.playerName()))
+                .defaultIfEmpty(false);
+    }
+
+    private CachedGame serialize(GameResponse response) {
+        boolean finished = GameStatus.valueOf(response.status()).isFinished();
+        CacheControl cacheControl = finished
+                ? CacheControl.noCache().cachePrivate()
+                : CacheControl.noCache();
+
+        try {
+            return new CachedGame(response.playerId(), response.playerName(), eTagOf(response), cacheControl,
+                    finished, objectMapper.writeValueAsBytes(response));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize game " + response.gameId(), e);
+        }
+    }
+
+    // updatedAt moves with every action; the name is part of the body but can change without it
+    static String eTagOf(GameResponse response) {
+        LocalDateTime updatedAt = response.updatedAt();
+        long updatedAtNanos = updatedAt == null ? 0
+                : updatedAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + updatedAt.getNano();
+
+        return "\"" + response.gameId()
+                + "-" + Long.toHexString(updatedAtNanos)
+                + "-" + Integer.toHexString(Objects.hashCode(response.playerName()))
+                + "\"";
+    }
+
+    public record CachedGame(String playerId, String playerName, String eTag, CacheControl cacheControl,
+                             boolean finished, byte[] body) {
+    }
+}
@@ -6,8 +6,11 @@ import com.blackjack.application.dto.response.GameResponse;
 import com.blackjack.application.dto.response.PageResponse;
 import com.blackjack.application.mapper.GameResponseMapper;
 import com.blackjack.application.usecase.game.*;
+import com.blackjack.infrastructure.web.cache.GameResponseCache;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
@@ -15,6 +18,7 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Flux;
@@ -32,6 +36,10 @@ public class GameController {
     private final DeleteGameUseCase deleteGameUseCase;
     private final GetAllGamesUseCase getAllGamesUseCase;
     private final GetGamesByPlayerUseCase getGamesByPlayerUseCase;
+    private final GameResponseCache gameResponseCache;
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_STREAM_SIZE = 10_000;
 
     @PostMapping("/new")
     @ResponseStatus(HttpStatus.CREATED)
@@ -45,16 +53,23 @@ public class GameController {
         return createGameUseCase.execute(request);
     }
 
-    @GetMapping("/{id}")
+    // WebFlux answers If-None-Match with 304 itself once the entity carries an ETag
+    @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "Get game by ID", description = "Retrieves a specific game by its unique identifier")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Game found"),
+            @ApiResponse(responseCode = "200", description = "Game found",
+                    content = @Content(schema = @Schema(implementation = GameResponse.class))),
+            @ApiResponse(responseCode = "304", description = "Game unchanged since the ETag in If-None-Match"),
             @ApiResponse(responseCode = "404", description = "Game not found"),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
-    public Mono<ResponseEntity<GameResponse>> getGameById(@PathVariable String id) {
-        return getGameByIdUseCase.execute(id)
-                .map(ResponseEntity::ok);
+    public Mono<ResponseEntity<byte[]>> getGameById(@PathVariable String id) {
+        return gameResponseCache.get(id, getGameByIdUseCase::execute)
+                .map(game -> ResponseEntity.ok()
+                        .eTag(game.eTag())
+                        .cacheControl(game.cacheControl())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(game.body()));
     }
 
     @PostMapping("/{id}/play")
@@ -66,6 +81,7 @@ public class GameController {
             @ApiResponse(responseCode = "200", description = "Play performed successfully"),
             @ApiResponse(responseCode = "400", description = "Invalid action or game already finished"),
             @ApiResponse(responseCode = "404", description = "Game not found"),
+            @ApiResponse(responseCode = "409", description = "Game was modified concurrently or turn number is stale"),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     public Mono<ResponseEntity<GameResponse>> playGame(
@@ -94,34 +110,79 @@ public class GameController {
     })
     public Mono<ResponseEntity<Void>> deleteGame(@PathVariable String id) {
         return deleteGameUseCase.execute(id)
+                .doOnSuccess(v -> gameResponseCache.evict(id))
                 .then(Mono.just(ResponseEntity.noContent().<Void>build()))
                 .doOnSuccess(response -> log.info("DELETE /game/{}/delete - Game deleted successfully", id));
     }
 
-    @GetMapping
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "Get all games", description = "Retrieves a paginated list of games")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Games retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid page, size or cursor"),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     public Mono<ResponseEntity<PageResponse<GameResponse>>> getAllGames(
             @Parameter(description = "Page number (0-based)")
             @RequestParam(defaultValue = "0") int page,
 
-            @Parameter(description = "Page size")
-            @RequestParam(defaultValue = "10") int size) {
+            @Parameter(description = "Page size (1-100)")
+            @RequestParam(defaultValue = "10") int size,
+
+            @Parameter(description = "Opaque cursor from a previous page's nextCursor; page is ignored when set")
+            @RequestParam(required = false) String after,
 
-        log.info("GET /game - Request to get games page: {}, size: {}", page, size);
+            @Parameter(description = "Count all games for a cursor page too; without it totalElements and totalPages are null when after is set")
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
 
-        return getAllGamesUseCase.execute(page, size)
+        log.info("GET /game - Request to get games page: {}, size: {}, after: {}", page, size, after);
+        validatePage(page, size, MAX_PAGE_SIZE);
+
+        Mono<PageResponse<GameResponse>> games = after != null
+                ? getAllGamesUseCase.executeAfter(after, size, includeTotal)
+                : getAllGamesUseCase.execute(page, size);
+
+        return games
                 .map(ResponseEntity::ok)
                 .doOnSuccess(r -> log.info("GET /game - Games page retrieved successfully"));
     }
 
-    @GetMapping("/player/{playerId}")
+    @GetMapping(produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    @Operation(summary = "Stream all games",
+            description = "Streams games newest first as NDJSON or server-sent events, one game per element")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Games streamed successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid page, size or cursor"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public Mono<ResponseEntity<Flux<GameResponse>>> streamAllGames(
+            @Parameter(description = "Page number (0-based)")
+            @RequestParam(defaultValue = "0") int page,
+
+            @Parameter(description = "Number of games to stream (1-10000)")
+            @RequestParam(defaultValue = "10") int size,
+
+            @Parameter(description = "Opaque cursor from a previous page's nextCursor; page is ignored when set")
+            @RequestParam(required = false) String after,
+
+            @Parameter(description = "Count all games and send the total in the X-Total-Count header")
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+
+        log.info("GET /game - Request to stream games page: {}, size: {}, after: {}", page, size, after);
+        validatePage(page, size, MAX_STREAM_SIZE);
+
+        Flux<GameResponse> games = after != null
+                ? getAllGamesUseCase.streamAfter(after, size)
+                : getAllGamesUseCase.stream(page, size);
+
+        return StreamingResponses.of(games, getAllGamesUseCase::count, includeTotal);
+    }
+
+    @GetMapping(value = "/player/{playerId}", produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "Get games by player", description = "Retrieves paginated games for a specific player")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Games retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid page or size"),
             @ApiResponse(responseCode = "404", description = "Player not found"),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
@@ -131,8 +192,42 @@ public class GameController {
             @RequestParam(defaultValue = "10") int size) {
 
         log.info("GET /game/player/{} - Request games page {}, size {}", playerId, page, size);
+        validatePage(page, size, MAX_PAGE_SIZE);
 
         return getGamesByPlayerUseCase.execute(playerId, page, size)
                 .map(ResponseEntity::ok);
     }
+
+    @GetMapping(value = "/player/{playerId}", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    @Operation(summary = "Stream games by player",
+            description = "Streams a player's games newest first as NDJSON or server-sent events")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Games streamed successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid page or size"),
+            @ApiResponse(responseCode = "404", description = "Player not found"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public Mono<ResponseEntity<Flux<GameResponse>>> streamGamesByPlayer(
+            @PathVariable String playerId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "Count the player's games and send the total in the X-Total-Count header")
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+
+        log.info("GET /game/player/{} - Request to stream games page {}, size {}", playerId, page, size);
+        validatePage(page, size, MAX_STREAM_SIZE);
+
+        return StreamingResponses.of(getGamesByPlayerUseCase.stream(playerId, page, size),
+                () -> getGamesByPlayerUseCase.count(playerId), includeTotal);
+    }
+
+    // the ranking endpoint's bounds; MongoDB paging rejects them deep in the repository otherwise
+    private static void validatePage(int page, int size, int maxSize) {
+        if (page < 0) {
+            throw new IllegalArgumentException("Page must not be negative, got " + page);
+        }
+        if (size < 1 || size > maxSize) {
+            throw new IllegalArgumentException("Size must be between 1 and " + maxSize + ", got " + size);
+        }
+    }
 }
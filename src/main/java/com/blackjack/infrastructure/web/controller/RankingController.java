@@ -1,7 +1,9 @@
 package com.blackjack.infrastructure.web.controller;
 
 import com.blackjack.application.dto.response.PageResponse;
+import com.blackjack.application.dto.response.PlayerRankResponse;
 import com.blackjack.application.dto.response.PlayerRankingResponse;
+import com.blackjack.application.usecase.ranking.GetPlayerRankUseCase;
 import com.blackjack.application.usecase.ranking.GetRankingUseCase;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -9,11 +11,14 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @Slf4j
@@ -23,29 +28,95 @@ import reactor.core.publisher.Mono;
 public class RankingController {
 
     private final GetRankingUseCase getRankingUseCase;
+    private final GetPlayerRankUseCase getPlayerRankUseCase;
 
-    @GetMapping
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(
             summary = "Get player ranking",
             description = "Returns the players ranking ordered by win rate"
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Ranking successfully retrieved"),
+            @ApiResponse(responseCode = "400", description = "Malformed cursor"),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     public Mono<ResponseEntity<PageResponse<PlayerRankingResponse>>> getRanking(
             @Parameter(description = "Page number (0-indexed)", example = "0")
             @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Page size (1-100)", example = "10")
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "Opaque cursor from a previous page's nextCursor; page is ignored when set")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Count all ranked players for a cursor page too; without it totalElements and totalPages are null when after is set")
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
 
-        log.info("GET /ranking - Request to get ranking (page: {}, size: {})", page, size);
+        log.info("GET /ranking - Request to get ranking (page: {}, size: {}, after: {})", page, size, after);
 
-        return getRankingUseCase.execute(page, size)
+        Mono<PageResponse<PlayerRankingResponse>> ranking = after != null
+                ? getRankingUseCase.executeAfter(after, size, includeTotal)
+                : getRankingUseCase.execute(page, size);
+
+        return ranking
                 .map(ResponseEntity::ok)
                 .doOnSuccess(response ->
                         log.info("GET /ranking - Ranking retrieved successfully (page: {}, totalElements: {})",
                                 page, response.getBody().totalElements())
                 );
     }
-}
\ No newline at end of file
+
+    @GetMapping(produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    @Operation(
+            summary = "Stream player ranking",
+            description = "Streams the players ranking ordered by win rate as NDJSON or server-sent events"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Ranking successfully streamed"),
+            @ApiResponse(responseCode = "400", description = "Malformed cursor"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public Mono<ResponseEntity<Flux<PlayerRankingResponse>>> streamRanking(
+            @Parameter(description = "Page number (0-indexed)", example = "0")
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Number of players to stream (1-10000)", example = "1000")
+            @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "Opaque cursor from a previous page's nextCursor; page is ignored when set")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Count all ranked players and send the total in the X-Total-Count header")
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+
+        log.info("GET /ranking - Request to stream ranking (page: {}, size: {}, after: {})", page, size, after);
+
+        Flux<PlayerRankingResponse> ranking = after != null
+                ? getRankingUseCase.streamAfter(after, size)
+                : getRankingUseCase.stream(page, size);
+
+        return StreamingResponses.of(ranking, getRankingUseCase::count, includeTotal);
+    }
+
+    @GetMapping("/player/{playerId}")
+    @Operation(
+            summary = "Get a player's rank",
+            description = "Returns the player's position in the ranking, their percentile (share of players ranked "
+                    + "at or below them) and the players directly ahead of and behind them"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Rank successfully retrieved"),
+            @ApiResponse(responseCode = "404", description = "Player not found"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public Mono<ResponseEntity<PlayerRankResponse>> getPlayerRank(
+            @Parameter(description = "Player ID", required = true)
+            @PathVariable String playerId,
+            @Parameter(description = "Players to return on each side (0-10)", example = "2")
+            @RequestParam(defaultValue = "2") int neighbours) {
+
+        log.info("GET /ranking/player/{} - Request to get player rank (neighbours: {})", playerId, neighbours);
+
+        return getPlayerRankUseCase.execute(playerId, neighbours)
+                .map(ResponseEntity::ok)
+                .doOnSuccess(response ->
+                        log.info("GET /ranking/player/{} - Rank retrieved successfully (rank: {})",
+                                playerId, response.getBody().rank())
+                );
+    }
+}
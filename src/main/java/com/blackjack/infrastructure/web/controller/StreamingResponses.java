@@ -0,0 +1,29 @@
+package com.blackjack.infrastructure.web.controller;
+
+import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Supplier;
+
+/**
+ * Builds the NDJSON and SSE variants of the list endpoints. The elements are written as they arrive
+ * from the repository; the total is only counted when asked for, and then travels in a header
+ * because it has to be known before the first element is written.
+ */
+final class StreamingResponses {
+
+    static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+
+    private StreamingResponses() {
+    }
+
+    static <T> Mono<ResponseEntity<Flux<T>>> of(Flux<T> body, Supplier<Mono<Long>> total, boolean includeTotal) {
+        if (!includeTotal) {
+            return Mono.just(ResponseEntity.ok(body));
+        }
+        return total.get().map(count -> ResponseEntity.ok()
+                .header(TOTAL_COUNT_HEADER, String.valueOf(count))
+                .body(body));
+    }
+}
@@ -1,6 +1,8 @@
 package com.blackjack.infrastructure.web.exception;
 
+import com.blackjack.application.exception.GameConflictException;
 import com.blackjack.application.exception.GameNotFoundException;
+import com.blackjack.application.exception.PlayerNameTakenException;
 import com.blackjack.application.exception.PlayerNotFoundException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -51,6 +53,34 @@ public class GlobalExceptionHandler {
         return Mono.just(ResponseEntity.status(HttpStatus.NOT_FOUND).body(error));
     }
 
+    @ExceptionHandler(GameConflictException.class)
+    public Mono<ResponseEntity<ErrorResponse>> handleGameConflictException(GameConflictException ex) {
+        log.warn("Game conflict: {}", ex.getMessage());
+
+        ErrorResponse error = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.CONFLICT.value())
+                .error("Conflict")
+                .message(ex.getMessage())
+                .build();
+
+        return Mono.just(ResponseEntity.status(HttpStatus.CONFLICT).body(error));
+    }
+
+    @ExceptionHandler(PlayerNameTakenException.class)
+    public Mono<ResponseEntity<ErrorResponse>> handlePlayerNameTakenException(PlayerNameTakenException ex) {
+        log.warn("Player name conflict: {}", ex.getMessage());
+
+        ErrorResponse error = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.CONFLICT.value())
+                .error("Conflict")
+                .message(ex.getMessage())
+                .build();
+
+        return Mono.just(ResponseEntity.status(HttpStatus.CONFLICT).body(error));
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public Mono<ResponseEntity<ErrorResponse>> handleIllegalArgumentException(IllegalArgumentException ex) {
         log.error("Illegal argument: {}", ex.getMessage());
@@ -1,8 +1,10 @@
+DROP TABLE IF EXISTS game_results;
 DROP TABLE IF EXISTS players;
 
 CREATE TABLE IF NOT EXISTS players (
     id VARCHAR(100) PRIMARY KEY,
-    name VARCHAR(50) NOT NULL UNIQUE,
+    name VARCHAR(50) NOT NULL,
+    name_key VARCHAR(50) AS (LOWER(name)) STORED,
     games_played INT DEFAULT 0,
     games_won INT DEFAULT 0,
     games_lost INT DEFAULT 0,
@@ -12,6 +14,14 @@ CREATE TABLE IF NOT EXISTS players (
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
     );
 
-CREATE INDEX idx_players_name ON players(name);
+CREATE UNIQUE INDEX uk_players_name_key ON players(name_key);
 
-CREATE INDEX idx_players_win_rate ON players(win_rate DESC);
\ No newline at end of file
+CREATE INDEX idx_players_ranking ON players(win_rate DESC, games_played DESC, id DESC);
+
+CREATE TABLE IF NOT EXISTS game_results (
+    game_id VARCHAR(100) PRIMARY KEY,
+    player_id VARCHAR(100) NOT NULL,
+    result VARCHAR(20) NOT NULL,
+    recorded_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    batch_id CHAR(36) NULL
+    );
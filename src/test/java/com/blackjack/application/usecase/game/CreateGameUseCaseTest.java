@@ -5,10 +5,18 @@ import com.blackjack.application.dto.response.GameResponse;
 import com.blackjack.application.mapper.GameResponseMapper;
 import com.blackjack.domain.model.aggregate.Game;
 import com.blackjack.domain.model.aggregate.Player;
+import com.blackjack.domain.model.aggregate.mother.DeckMother;
+import com.blackjack.domain.model.aggregate.mother.GameMother;
+import com.blackjack.domain.model.readmodel.GameSummary;
+import com.blackjack.domain.model.valueobject.game.Deck;
 import com.blackjack.domain.model.valueobject.game.DeckCount;
+import com.blackjack.domain.model.valueobject.player.PlayerId;
 import com.blackjack.domain.model.valueobject.player.PlayerName;
 import com.blackjack.domain.repository.GameRepository;
 import com.blackjack.domain.repository.PlayerRepository;
+import com.blackjack.domain.service.ActiveGameStore;
+import com.blackjack.domain.service.ShoePool;
+import com.blackjack.domain.service.ShuffleStrategy;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,15 +24,18 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -39,6 +50,15 @@ class CreateGameUseCaseTest {
     @Mock
     private GameResponseMapper mapper;
 
+    @Mock
+    private ShoePool shoePool;
+
+    @Mock
+    private ShuffleStrategy shuffleStrategy;
+
+    @Mock
+    private ActiveGameStore activeGameStore;
+
     @InjectMocks
     private CreateGameUseCase useCase;
 
@@ -50,7 +70,7 @@ class CreateGameUseCaseTest {
     @BeforeEach
     void setUp() {
         testPlayer = Player.create(new PlayerName("TestPlayer"));
-        testGame = Game.create(testPlayer.getId());
+        testGame = GameMother.withPlayer(testPlayer.getId());
 
         testResponse = new GameResponse(
                 testGame.getId().value(),
@@ -77,6 +97,8 @@ class CreateGameUseCaseTest {
                 .thenReturn(Mono.just(testPlayer));
         when(gameRepository.save(any(Game.class)))
                 .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(playerRepository.findById(any(PlayerId.class)))
+                .thenReturn(Mono.just(testPlayer));
         when(mapper.toResponse(any(Game.class), any(Player.class), any(DeckCount.class)))
                 .thenReturn(testResponse);
 
@@ -91,6 +113,38 @@ class CreateGameUseCaseTest {
 
         verify(playerRepository).findByName(any(PlayerName.class));
         verify(gameRepository).save(any(Game.class));
+        verify(activeGameStore).track(any(Game.class));
+        verify(gameRepository, never()).updatePlayerName(any(PlayerId.class), any(PlayerName.class));
+    }
+
+    @Test
+    @DisplayName("Should write the new name onto a game whose player was renamed while it was created")
+    void shouldWriteNewNameOntoGameCreatedDuringRename() {
+        PlayerName newName = new PlayerName("Renamed");
+        Player renamed = Player.reconstitute(testPlayer.getId(), newName, 0, 0, 0, 0, 0.0,
+                testPlayer.getCreatedAt(), LocalDateTime.now());
+        GameResponse renamedResponse = new GameResponse(
+                testGame.getId().value(), testPlayer.getId().value(), "Renamed",
+                Collections.emptyList(), Collections.emptyList(), 0, 0, "PLAYING",
+                Collections.emptyList(), LocalDateTime.now(), LocalDateTime.now(), DeckCount.of(1));
+
+        when(playerRepository.findByName(any(PlayerName.class)))
+                .thenReturn(Mono.just(testPlayer));
+        when(gameRepository.save(any(Game.class)))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(playerRepository.findById(testPlayer.getId()))
+                .thenReturn(Mono.just(renamed));
+        when(gameRepository.updatePlayerName(testPlayer.getId(), newName))
+                .thenReturn(Mono.just(1L));
+        when(mapper.toResponse(any(GameSummary.class), eq(newName)))
+                .thenReturn(renamedResponse);
+
+        StepVerifier.create(useCase.execute(request))
+                .assertNext(response -> assertThat(response.playerName()).isEqualTo("Renamed"))
+                .verifyComplete();
+
+        verify(gameRepository).updatePlayerName(testPlayer.getId(), newName);
+        verify(activeGameStore, never()).track(any(Game.class));
     }
 
     @Test
@@ -105,6 +159,8 @@ class CreateGameUseCaseTest {
 
         when(gameRepository.save(any(Game.class)))
                 .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(playerRepository.findById(any(PlayerId.class)))
+                .thenReturn(Mono.empty());
 
         when(mapper.toResponse(any(Game.class), any(Player.class), any(DeckCount.class)))
                 .thenReturn(testResponse);
@@ -119,6 +175,31 @@ class CreateGameUseCaseTest {
         verify(gameRepository).save(any(Game.class));
     }
 
+    @Test
+    @DisplayName("Should reuse the player created concurrently under the same name")
+    void shouldReusePlayerCreatedConcurrentlyUnderSameName() {
+        when(playerRepository.findByName(any(PlayerName.class)))
+                .thenReturn(Mono.empty())
+                .thenReturn(Mono.just(testPlayer));
+        when(playerRepository.save(any(Player.class)))
+                .thenReturn(Mono.error(new DataIntegrityViolationException("Duplicate entry 'TestPlayer'")));
+        when(gameRepository.save(any(Game.class)))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(playerRepository.findById(any(PlayerId.class)))
+                .thenReturn(Mono.just(testPlayer));
+        when(mapper.toResponse(any(Game.class), eq(testPlayer), any(DeckCount.class)))
+                .thenReturn(testResponse);
+
+        Mono<GameResponse> result = useCase.execute(request);
+
+        StepVerifier.create(result)
+                .expectNext(testResponse)
+                .verifyComplete();
+
+        verify(playerRepository, times(2)).findByName(any(PlayerName.class));
+        verify(gameRepository).save(argThat(game -> game.getPlayerId().equals(testPlayer.getId())));
+    }
+
     @Test
     @DisplayName("Should create game with configured decks (Multi-Deck)")
     void shouldCreateGameWithConfiguredDecks() {
@@ -130,6 +211,8 @@ class CreateGameUseCaseTest {
 
         when(gameRepository.save(any(Game.class)))
                 .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(playerRepository.findById(any(PlayerId.class)))
+                .thenReturn(Mono.just(proPlayer));
 
         when(mapper.toResponse(any(Game.class), any(Player.class), any(DeckCount.class)))
                 .thenReturn(testResponse);
@@ -143,4 +226,29 @@ class CreateGameUseCaseTest {
         verify(gameRepository).save(argThat(game ->
                 game.getDeck().size() == 312));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should deal from a pre-shuffled shoe when the pool has one")
+    void shouldDealFromPreShuffledShoeWhenPoolHasOne() {
+        Deck pooledShoe = DeckMother.shuffled(DeckCount.of(2));
+
+        when(playerRepository.findByName(any(PlayerName.class)))
+                .thenReturn(Mono.just(testPlayer));
+        when(shoePool.take(new DeckCount(2)))
+                .thenReturn(Optional.of(pooledShoe));
+        when(gameRepository.save(any(Game.class)))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(playerRepository.findById(any(PlayerId.class)))
+                .thenReturn(Mono.just(testPlayer));
+        when(mapper.toResponse(any(Game.class), any(Player.class), any(DeckCount.class)))
+                .thenReturn(testResponse);
+
+        Mono<GameResponse> result = useCase.execute(new CreateGameRequest("TestPlayer", 2));
+
+        StepVerifier.create(result)
+                .expectNextCount(1)
+                .verifyComplete();
+
+        verify(gameRepository).save(argThat(game -> game.getDeck() == pooledShoe));
+    }
+}
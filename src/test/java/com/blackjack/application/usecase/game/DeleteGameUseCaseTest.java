@@ -3,9 +3,11 @@ package com.blackjack.application.usecase.game;
 import com.blackjack.application.exception.GameNotFoundException;
 import com.blackjack.domain.model.aggregate.Game;
 import com.blackjack.domain.model.aggregate.Player;
+import com.blackjack.domain.model.aggregate.mother.GameMother;
 import com.blackjack.domain.model.valueobject.game.GameId;
 import com.blackjack.domain.model.valueobject.player.PlayerName;
 import com.blackjack.domain.repository.GameRepository;
+import com.blackjack.domain.service.ActiveGameStore;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -26,6 +28,9 @@ class DeleteGameUseCaseTest {
     @Mock
     private GameRepository gameRepository;
 
+    @Mock
+    private ActiveGameStore activeGameStore;
+
     @InjectMocks
     private DeleteGameUseCase useCase;
 
@@ -35,7 +40,7 @@ class DeleteGameUseCaseTest {
     @BeforeEach
     void setUp() {
         testPlayer = Player.create(new PlayerName("TestPlayer"));
-        testGame = Game.create(testPlayer.getId());
+        testGame = GameMother.withPlayer(testPlayer.getId());
     }
 
     @Test
@@ -43,6 +48,8 @@ class DeleteGameUseCaseTest {
     void shouldDeleteGameSuccessfully() {
         String gameId = testGame.getId().value();
 
+        when(activeGameStore.evict(any(GameId.class)))
+                .thenReturn(Mono.empty());
         when(gameRepository.findById(any(GameId.class)))
                 .thenReturn(Mono.just(testGame));
         when(gameRepository.deleteById(any(GameId.class)))
@@ -53,6 +60,7 @@ class DeleteGameUseCaseTest {
         StepVerifier.create(result)
                 .verifyComplete();
 
+        verify(activeGameStore).evict(testGame.getId());
         verify(gameRepository).findById(any(GameId.class));
         verify(gameRepository).deleteById(any(GameId.class));
     }
@@ -62,6 +70,8 @@ class DeleteGameUseCaseTest {
     void shouldThrowGameNotFoundExceptionWhenGameDoesNotExist() {
         String gameId = "non-existent-game";
 
+        when(activeGameStore.evict(any(GameId.class)))
+                .thenReturn(Mono.empty());
         when(gameRepository.findById(any(GameId.class)))
                 .thenReturn(Mono.empty());
 
@@ -1,16 +1,20 @@
 package com.blackjack.application.usecase.game;
 
+import com.blackjack.application.dto.request.GameCursor;
 import com.blackjack.application.dto.response.GameResponse;
 import com.blackjack.application.dto.response.PageResponse;
 import com.blackjack.application.mapper.GameResponseMapper;
 import com.blackjack.domain.model.aggregate.Game;
 import com.blackjack.domain.model.aggregate.Player;
 import com.blackjack.domain.model.aggregate.mother.GameMother;
+import com.blackjack.domain.model.readmodel.GameSummary;
 import com.blackjack.domain.model.valueobject.game.DeckCount;
+import com.blackjack.domain.model.valueobject.game.GameId;
 import com.blackjack.domain.model.valueobject.player.PlayerId;
 import com.blackjack.domain.model.valueobject.player.PlayerName;
 import com.blackjack.domain.repository.GameRepository;
 import com.blackjack.domain.repository.PlayerRepository;
+import com.blackjack.domain.service.FisherYatesShuffleStrategy;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -21,8 +25,13 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.Set;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
 
@@ -46,14 +55,14 @@ class GetAllGamesUseCaseTest {
     void shouldReturnPaginatedGames() {
                 int page = 0;
         int size = 10;
-        Game game = GameMother.defaultGame();
         Player player = Player.create(new PlayerName("TestPlayer"));
+        Game game = GameMother.withPlayer(player.getId());
                 GameResponse gameResponse = mock(GameResponse.class);
 
-                when(gameRepository.findAll(anyInt(), anyInt())).thenReturn(Flux.just(game));
+                when(gameRepository.findSummaries(anyInt(), anyInt())).thenReturn(Flux.just(GameSummary.of(game)));
         when(gameRepository.count()).thenReturn(Mono.just(1L));
-        when(playerRepository.findById(any(PlayerId.class))).thenReturn(Mono.just(player));
-        when(mapper.toResponse(any(Game.class), any(Player.class), any(DeckCount.class)))
+        when(playerRepository.findAllByIds(anyCollection())).thenReturn(Flux.just(player));
+        when(mapper.toResponse(any(GameSummary.class), any(PlayerName.class)))
                 .thenReturn(gameResponse);
 
                 Mono<PageResponse<GameResponse>> result = useCase.execute(page, size);
@@ -69,7 +78,153 @@ class GetAllGamesUseCaseTest {
                 })
                 .verifyComplete();
 
-                verify(gameRepository).findAll(page, size);
+                verify(gameRepository).findSummaries(page, size);
         verify(gameRepository).count();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should return games after cursor with next cursor when page is full")
+    void shouldReturnGamesAfterCursorWithNextCursorWhenPageIsFull() {
+        Player player = Player.create(new PlayerName("TestPlayer"));
+        Game game = GameMother.withPlayer(player.getId());
+        GameResponse gameResponse = mock(GameResponse.class);
+        LocalDateTime createdAt = LocalDateTime.of(2026, 10, 17, 12, 30, 15);
+
+        when(gameRepository.findSummariesAfter(any(LocalDateTime.class), any(GameId.class), anyInt()))
+                .thenReturn(Flux.just(GameSummary.of(game)));
+        when(gameRepository.count()).thenReturn(Mono.just(5L));
+        when(playerRepository.findAllByIds(anyCollection())).thenReturn(Flux.just(player));
+        when(mapper.toResponse(any(GameSummary.class), any(PlayerName.class)))
+                .thenReturn(gameResponse);
+
+        Mono<PageResponse<GameResponse>> result = useCase.executeAfter(new GameCursor(createdAt, GameId.from("game-42")).format(), 1, true);
+
+        StepVerifier.create(result)
+                .assertNext(response -> {
+                    assertThat(response.content()).containsExactly(gameResponse);
+                    assertThat(response.totalElements()).isEqualTo(5L);
+                    assertThat(response.first()).isFalse();
+                    assertThat(response.last()).isFalse();
+                    assertThat(response.nextCursor())
+                            .isEqualTo(GameCursor.of(GameSummary.of(game)).format())
+                            .doesNotContain(game.getId().value());
+                })
+                .verifyComplete();
+
+        verify(gameRepository).findSummariesAfter(createdAt, GameId.from("game-42"), 1);
+    }
+
+    @Test
+    @DisplayName("Should not count games for a cursor page unless the total is asked for")
+    void shouldNotCountGamesForCursorPageUnlessAsked() {
+        Player player = Player.create(new PlayerName("TestPlayer"));
+        Game game = GameMother.withPlayer(player.getId());
+        GameResponse gameResponse = mock(GameResponse.class);
+        LocalDateTime createdAt = LocalDateTime.of(2026, 10, 17, 12, 30, 15);
+
+        when(gameRepository.findSummariesAfter(any(LocalDateTime.class), any(GameId.class), anyInt()))
+                .thenReturn(Flux.just(GameSummary.of(game)));
+        when(playerRepository.findAllByIds(anyCollection())).thenReturn(Flux.just(player));
+        when(mapper.toResponse(any(GameSummary.class), any(PlayerName.class)))
+                .thenReturn(gameResponse);
+
+        StepVerifier.create(useCase.executeAfter(new GameCursor(createdAt, GameId.from("game-42")).format(), 10, false))
+                .assertNext(response -> {
+                    assertThat(response.content()).containsExactly(gameResponse);
+                    assertThat(response.totalElements()).isNull();
+                    assertThat(response.totalPages()).isNull();
+                    assertThat(response.last()).isTrue();
+                })
+                .verifyComplete();
+
+        verify(gameRepository, never()).count();
+    }
+
+    @Test
+    @DisplayName("Should reject malformed cursor")
+    void shouldRejectMalformedCursor() {
+        Mono<PageResponse<GameResponse>> result = useCase.executeAfter("not-a-cursor", 10, false);
+
+        StepVerifier.create(result)
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        verify(gameRepository, never()).findSummariesAfter(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should load page players in one batch and keep game order")
+    void shouldLoadPagePlayersInOneBatchAndKeepGameOrder() {
+        Player alice = Player.create(new PlayerName("Alice"));
+        Player bob = Player.create(new PlayerName("Bob"));
+        GameSummary first = GameSummary.of(GameMother.withPlayer(alice.getId()));
+        GameSummary second = GameSummary.of(GameMother.withPlayer(bob.getId()));
+        GameSummary third = GameSummary.of(GameMother.withPlayer(alice.getId()));
+        GameResponse firstResponse = mock(GameResponse.class);
+        GameResponse secondResponse = mock(GameResponse.class);
+        GameResponse thirdResponse = mock(GameResponse.class);
+
+        when(gameRepository.findSummaries(anyInt(), anyInt())).thenReturn(Flux.just(first, second, third));
+        when(gameRepository.count()).thenReturn(Mono.just(3L));
+        when(playerRepository.findAllByIds(anyCollection())).thenReturn(Flux.just(bob, alice));
+        when(mapper.toResponse(first, alice.getName())).thenReturn(firstResponse);
+        when(mapper.toResponse(second, bob.getName())).thenReturn(secondResponse);
+        when(mapper.toResponse(third, alice.getName())).thenReturn(thirdResponse);
+
+        Mono<PageResponse<GameResponse>> result = useCase.execute(0, 3);
+
+        StepVerifier.create(result)
+                .assertNext(response -> assertThat(response.content())
+                        .containsExactly(firstResponse, secondResponse, thirdResponse))
+                .verifyComplete();
+
+        verify(playerRepository).findAllByIds(Set.of(alice.getId(), bob.getId()));
+        verify(playerRepository, never()).findById(any(PlayerId.class));
+    }
+
+    @Test
+    @DisplayName("Should use the player name stored on the game without querying players")
+    void shouldUseStoredPlayerNameWithoutQueryingPlayers() {
+        PlayerName playerName = new PlayerName("Snapshot");
+        Game game = Game.create(PlayerId.generate(), playerName, DeckCount.standard(),
+                deckCount -> Optional.empty(), FisherYatesShuffleStrategy.fast());
+        GameSummary summary = GameSummary.of(game);
+        GameResponse gameResponse = mock(GameResponse.class);
+
+        when(gameRepository.findSummaries(anyInt(), anyInt())).thenReturn(Flux.just(summary));
+        when(gameRepository.count()).thenReturn(Mono.just(1L));
+        when(playerRepository.findAllByIds(Set.of())).thenReturn(Flux.empty());
+        when(mapper.toResponse(summary, playerName)).thenReturn(gameResponse);
+
+        Mono<PageResponse<GameResponse>> result = useCase.execute(0, 10);
+
+        StepVerifier.create(result)
+                .assertNext(response -> assertThat(response.content()).containsExactly(gameResponse))
+                .verifyComplete();
+
+        verify(playerRepository, never()).findById(any(PlayerId.class));
+    }
+
+    @Test
+    @DisplayName("Should stream games in order without counting them")
+    void shouldStreamGamesInOrderWithoutCounting() {
+        Player alice = Player.create(new PlayerName("Alice"));
+        Player bob = Player.create(new PlayerName("Bob"));
+        GameSummary first = GameSummary.of(GameMother.withPlayer(alice.getId()));
+        GameSummary second = GameSummary.of(GameMother.withPlayer(bob.getId()));
+        GameResponse firstResponse = mock(GameResponse.class);
+        GameResponse secondResponse = mock(GameResponse.class);
+
+        when(gameRepository.findSummaries(0, 500)).thenReturn(Flux.just(first, second));
+        when(playerRepository.findAllByIds(anyCollection())).thenReturn(Flux.just(bob, alice));
+        when(mapper.toResponse(first, alice.getName())).thenReturn(firstResponse);
+        when(mapper.toResponse(second, bob.getName())).thenReturn(secondResponse);
+
+        StepVerifier.create(useCase.stream(0, 500))
+                .expectNext(firstResponse, secondResponse)
+                .verifyComplete();
+
+        verify(playerRepository).findAllByIds(Set.of(alice.getId(), bob.getId()));
+        verify(gameRepository, never()).count();
+    }
+}
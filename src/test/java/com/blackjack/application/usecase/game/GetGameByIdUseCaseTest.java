@@ -4,12 +4,13 @@ import com.blackjack.application.dto.response.GameResponse;
 import com.blackjack.application.mapper.GameResponseMapper;
 import com.blackjack.domain.model.aggregate.Game;
 import com.blackjack.domain.model.aggregate.Player;
+import com.blackjack.domain.model.aggregate.mother.GameMother;
 import com.blackjack.domain.model.valueobject.game.DeckCount;
 import com.blackjack.domain.model.valueobject.game.GameId;
 import com.blackjack.domain.model.valueobject.player.PlayerId;
 import com.blackjack.domain.model.valueobject.player.PlayerName;
-import com.blackjack.domain.repository.GameRepository;
 import com.blackjack.domain.repository.PlayerRepository;
+import com.blackjack.domain.service.ActiveGameStore;
 import com.blackjack.application.exception.GameNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -23,6 +24,7 @@ import reactor.test.StepVerifier;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -33,7 +35,7 @@ import static org.mockito.Mockito.*;
 class GetGameByIdUseCaseTest {
 
     @Mock
-    private GameRepository gameRepository;
+    private ActiveGameStore activeGameStore;
 
     @Mock
     private PlayerRepository playerRepository;
@@ -52,7 +54,7 @@ class GetGameByIdUseCaseTest {
     @BeforeEach
     void setUp() {
         testPlayer = Player.create(new PlayerName("TestPlayer"));
-        testGame = Game.create(testPlayer.getId());
+        testGame = GameMother.withPlayer(testPlayer.getId());
 
         testResponse = new GameResponse(
                 testGame.getId().value(),
@@ -70,13 +72,18 @@ class GetGameByIdUseCaseTest {
         );
     }
 
+    @SuppressWarnings("unchecked")
+    private void givenActiveGame(Game game) {
+        when(activeGameStore.execute(any(GameId.class), any()))
+                .thenAnswer(invocation -> ((Function<Game, Mono<?>>) invocation.getArgument(1)).apply(game));
+    }
+
     @Test
     @DisplayName("Should return game when game exists")
     void shouldReturnGameWhenGameExists() {
         String gameId = testGame.getId().value();
 
-        when(gameRepository.findById(any(GameId.class)))
-                .thenReturn(Mono.just(testGame));
+        givenActiveGame(testGame);
         when(playerRepository.findById(any(PlayerId.class)))
                 .thenReturn(Mono.just(testPlayer));
         when(mapper.toResponse(any(Game.class), any(Player.class), any(DeckCount.class)))
@@ -92,7 +99,7 @@ class GetGameByIdUseCaseTest {
                 })
                 .verifyComplete();
 
-        verify(gameRepository).findById(any(GameId.class));
+        verify(activeGameStore).execute(any(GameId.class), any());
         verify(playerRepository).findById(any(PlayerId.class));
         verify(mapper).toResponse(any(Game.class), any(Player.class), any(DeckCount.class));
     }
@@ -102,7 +109,7 @@ class GetGameByIdUseCaseTest {
     void shouldThrowGameNotFoundExceptionWhenGameDoesNotExist() {
         String gameId = "non-existent-game-id";
 
-        when(gameRepository.findById(any(GameId.class)))
+        when(activeGameStore.execute(any(GameId.class), any()))
                 .thenReturn(Mono.empty());
 
         Mono<GameResponse> result = useCase.execute(gameId);
@@ -111,7 +118,7 @@ class GetGameByIdUseCaseTest {
                 .expectError(GameNotFoundException.class)
                 .verify();
 
-        verify(gameRepository).findById(any(GameId.class));
+        verify(activeGameStore).execute(any(GameId.class), any());
         verify(playerRepository, never()).findById(any(PlayerId.class));
         verify(mapper, never()).toResponse(any(Game.class), any(Player.class), any(DeckCount.class));
     }
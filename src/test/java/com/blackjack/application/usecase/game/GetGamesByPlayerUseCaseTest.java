@@ -6,6 +6,8 @@ import com.blackjack.application.exception.PlayerNotFoundException;
 import com.blackjack.application.mapper.GameResponseMapper;
 import com.blackjack.domain.model.aggregate.Game;
 import com.blackjack.domain.model.aggregate.Player;
+import com.blackjack.domain.model.aggregate.mother.GameMother;
+import com.blackjack.domain.model.readmodel.GameSummary;
 import com.blackjack.domain.model.valueobject.game.DeckCount;
 import com.blackjack.domain.model.valueobject.player.PlayerId;
 import com.blackjack.domain.model.valueobject.player.PlayerName;
@@ -51,7 +53,7 @@ public class GetGamesByPlayerUseCaseTest {
         String playerIdStr = "player-123";
         PlayerId playerId = PlayerId.from(playerIdStr);
         Player player = Player.create(new PlayerName("TestPlayer"));
-        Game game = Game.create(playerId);
+        Game game = GameMother.withPlayer(playerId);
 
         int page = 0;
         int size = 10;
@@ -64,12 +66,12 @@ public class GetGamesByPlayerUseCaseTest {
 
         Mockito.when(playerRepository.findById(any(PlayerId.class))).thenReturn(Mono.just(player));
 
-        Mockito.when(gameRepository.findByPlayerId(any(PlayerId.class), anyInt(), anyInt()))
-                .thenReturn(Flux.just(game));
+        Mockito.when(gameRepository.findSummariesByPlayerId(any(PlayerId.class), anyInt(), anyInt()))
+                .thenReturn(Flux.just(GameSummary.of(game)));
         Mockito.when(gameRepository.countByPlayerId(any(PlayerId.class)))
                 .thenReturn(Mono.just(1L));
 
-        Mockito.when(mapper.toResponse(any(), any(), any())).thenReturn(gameResponse);
+        Mockito.when(mapper.toResponse(any(GameSummary.class), any(Player.class))).thenReturn(gameResponse);
 
         Mono<PageResponse<GameResponse>> result = useCase.execute(playerIdStr, page, size);
 
@@ -81,7 +83,7 @@ public class GetGamesByPlayerUseCaseTest {
                 )
                 .verifyComplete();
 
-        verify(gameRepository).findByPlayerId(playerId, page, size);
+        verify(gameRepository).findSummariesByPlayerId(playerId, page, size);
         verify(gameRepository).countByPlayerId(playerId);
     }
 
@@ -98,6 +100,6 @@ public class GetGamesByPlayerUseCaseTest {
                 .expectError(PlayerNotFoundException.class)
                 .verify();
 
-        verify(gameRepository, never()).findByPlayerId(any(PlayerId.class), anyInt(), anyInt());
+        verify(gameRepository, never()).findSummariesByPlayerId(any(PlayerId.class), anyInt(), anyInt());
     }
 }
@@ -2,16 +2,19 @@ package com.blackjack.application.usecase.game;
 
 import com.blackjack.application.dto.request.PlayGameRequest;
 import com.blackjack.application.dto.response.GameResponse;
+import com.blackjack.application.exception.GameConflictException;
 import com.blackjack.application.exception.GameNotFoundException;
 import com.blackjack.application.mapper.GameResponseMapper;
 import com.blackjack.domain.model.aggregate.Game;
 import com.blackjack.domain.model.aggregate.Player;
+import com.blackjack.domain.model.aggregate.mother.GameMother;
 import com.blackjack.domain.model.valueobject.game.DeckCount;
 import com.blackjack.domain.model.valueobject.game.GameId;
 import com.blackjack.domain.model.valueobject.player.PlayerId;
 import com.blackjack.domain.model.valueobject.player.PlayerName;
-import com.blackjack.domain.repository.GameRepository;
 import com.blackjack.domain.repository.PlayerRepository;
+import com.blackjack.domain.service.ActiveGameStore;
+import com.blackjack.domain.service.FisherYatesShuffleStrategy;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -19,11 +22,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.Optional;
+import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -34,7 +40,7 @@ import static org.mockito.Mockito.*;
 class PlayGameUseCaseTest {
 
     @Mock
-    private GameRepository gameRepository;
+    private ActiveGameStore activeGameStore;
 
     @Mock
     private PlayerRepository playerRepository;
@@ -52,7 +58,7 @@ class PlayGameUseCaseTest {
     @BeforeEach
     void setUp() {
         testPlayer = Player.create(new PlayerName("TestPlayer"));
-        testGame = Game.create(testPlayer.getId());
+        testGame = GameMother.withPlayer(testPlayer.getId());
 
         testResponse = new GameResponse(
                 testGame.getId().value(),
@@ -70,16 +76,19 @@ class PlayGameUseCaseTest {
         );
     }
 
+    @SuppressWarnings("unchecked")
+    private void givenActiveGame(Game game) {
+        when(activeGameStore.execute(any(GameId.class), any()))
+                .thenAnswer(invocation -> ((Function<Game, Mono<?>>) invocation.getArgument(1)).apply(game));
+    }
+
     @Test
     @DisplayName("Should execute HIT action successfully")
     void shouldExecuteHitActionSuccessfully() {
         String gameId = testGame.getId().value();
         PlayGameRequest request = new PlayGameRequest("HIT");
 
-        when(gameRepository.findById(any(GameId.class)))
-                .thenReturn(Mono.just(testGame));
-        when(gameRepository.save(any(Game.class)))
-                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        givenActiveGame(testGame);
         when(playerRepository.findById(any(PlayerId.class)))
                 .thenReturn(Mono.just(testPlayer));
         when(mapper.toResponse(any(Game.class), any(Player.class), any(DeckCount.class)))
@@ -94,8 +103,7 @@ class PlayGameUseCaseTest {
                 })
                 .verifyComplete();
 
-        verify(gameRepository).findById(any(GameId.class));
-        verify(gameRepository).save(any(Game.class));
+        verify(activeGameStore).execute(any(GameId.class), any());
         verify(playerRepository).findById(any(PlayerId.class));
         verify(mapper).toResponse(any(Game.class), any(Player.class), any(DeckCount.class));
     }
@@ -106,10 +114,7 @@ class PlayGameUseCaseTest {
         String gameId = testGame.getId().value();
         PlayGameRequest request = new PlayGameRequest("STAND");
 
-        when(gameRepository.findById(any(GameId.class)))
-                .thenReturn(Mono.just(testGame));
-        when(gameRepository.save(any(Game.class)))
-                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        givenActiveGame(testGame);
         when(playerRepository.findById(any(PlayerId.class)))
                 .thenReturn(Mono.just(testPlayer));
         when(mapper.toResponse(any(Game.class), any(Player.class), any(DeckCount.class)))
@@ -124,8 +129,7 @@ class PlayGameUseCaseTest {
                 })
                 .verifyComplete();
 
-        verify(gameRepository).findById(any(GameId.class));
-        verify(gameRepository).save(any(Game.class));
+        verify(activeGameStore).execute(any(GameId.class), any());
     }
 
     @Test
@@ -134,8 +138,7 @@ class PlayGameUseCaseTest {
         String gameId = testGame.getId().value();
         PlayGameRequest request = new PlayGameRequest("INVALID_ACTION");
 
-        when(gameRepository.findById(any(GameId.class)))
-                .thenReturn(Mono.just(testGame));
+        givenActiveGame(testGame);
 
         Mono<GameResponse> result = useCase.execute(gameId, request);
 
@@ -143,8 +146,7 @@ class PlayGameUseCaseTest {
                 .expectError(IllegalArgumentException.class)
                 .verify();
 
-        verify(gameRepository).findById(any(GameId.class));
-        verify(gameRepository, never()).save(any(Game.class));
+        verify(activeGameStore).execute(any(GameId.class), any());
     }
 
     @Test
@@ -153,7 +155,7 @@ class PlayGameUseCaseTest {
         String gameId = "non-existent-game";
         PlayGameRequest request = new PlayGameRequest("HIT");
 
-        when(gameRepository.findById(any(GameId.class)))
+        when(activeGameStore.execute(any(GameId.class), any()))
                 .thenReturn(Mono.empty());
 
         Mono<GameResponse> result = useCase.execute(gameId, request);
@@ -162,7 +164,110 @@ class PlayGameUseCaseTest {
                 .expectError(GameNotFoundException.class)
                 .verify();
 
-        verify(gameRepository).findById(any(GameId.class));
-        verify(gameRepository, never()).save(any(Game.class));
+        verify(activeGameStore).execute(any(GameId.class), any());
+    }
+
+    @Test
+    @DisplayName("Should retry on a fresh game when the store reports a concurrent change")
+    @SuppressWarnings("unchecked")
+    void shouldRetryWhenStoreReportsConcurrentChange() {
+        String gameId = testGame.getId().value();
+        PlayGameRequest request = new PlayGameRequest("HIT");
+
+        when(activeGameStore.execute(any(GameId.class), any()))
+                .thenReturn(Mono.error(new OptimisticLockingFailureException("changed")))
+                .thenAnswer(invocation -> ((Function<Game, Mono<?>>) invocation.getArgument(1)).apply(testGame));
+        when(playerRepository.findById(any(PlayerId.class)))
+                .thenReturn(Mono.just(testPlayer));
+        when(mapper.toResponse(any(Game.class), any(Player.class), any(DeckCount.class)))
+                .thenReturn(testResponse);
+
+        Mono<GameResponse> result = useCase.execute(gameId, request);
+
+        StepVerifier.create(result)
+                .expectNext(testResponse)
+                .verifyComplete();
+
+        verify(activeGameStore, times(2)).execute(any(GameId.class), any());
+        assertThat(testGame.getTurnHistory()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should throw GameConflictException when retries are exhausted")
+    void shouldThrowGameConflictExceptionWhenRetriesAreExhausted() {
+        String gameId = testGame.getId().value();
+        PlayGameRequest request = new PlayGameRequest("HIT");
+
+        when(activeGameStore.execute(any(GameId.class), any()))
+                .thenReturn(Mono.error(new OptimisticLockingFailureException("changed")));
+
+        Mono<GameResponse> result = useCase.execute(gameId, request);
+
+        StepVerifier.create(result)
+                .expectError(GameConflictException.class)
+                .verify();
+
+        verify(activeGameStore, times(4)).execute(any(GameId.class), any());
+        verify(playerRepository, never()).findById(any(PlayerId.class));
+    }
+
+    @Test
+    @DisplayName("Should return current state without applying the action when turn was already applied")
+    void shouldReturnCurrentStateWithoutSavingWhenTurnWasAlreadyApplied() {
+        String gameId = testGame.getId().value();
+        testGame.hit();
+        PlayGameRequest request = new PlayGameRequest("HIT", 1);
+
+        givenActiveGame(testGame);
+        when(playerRepository.findById(any(PlayerId.class)))
+                .thenReturn(Mono.just(testPlayer));
+        when(mapper.toResponse(any(Game.class), any(Player.class), any(DeckCount.class)))
+                .thenReturn(testResponse);
+
+        Mono<GameResponse> result = useCase.execute(gameId, request);
+
+        StepVerifier.create(result)
+                .expectNext(testResponse)
+                .verifyComplete();
+
+        assertThat(testGame.getTurnHistory()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should throw GameConflictException when turn number is stale")
+    void shouldThrowGameConflictExceptionWhenTurnNumberIsStale() {
+        String gameId = testGame.getId().value();
+        testGame.hit();
+        PlayGameRequest request = new PlayGameRequest("STAND", 1);
+
+        givenActiveGame(testGame);
+
+        Mono<GameResponse> result = useCase.execute(gameId, request);
+
+        StepVerifier.create(result)
+                .expectError(GameConflictException.class)
+                .verify();
+
+        verify(activeGameStore).execute(any(GameId.class), any());
+    }
+
+    @Test
+    @DisplayName("Should build response from stored player name without querying players")
+    void shouldBuildResponseFromStoredPlayerNameWithoutQueryingPlayers() {
+        Game namedGame = Game.create(testPlayer.getId(), testPlayer.getName(), DeckCount.standard(),
+                deckCount -> Optional.empty(), FisherYatesShuffleStrategy.fast());
+        PlayGameRequest request = new PlayGameRequest("STAND");
+
+        givenActiveGame(namedGame);
+        when(mapper.toResponse(namedGame, testPlayer.getName()))
+                .thenReturn(testResponse);
+
+        Mono<GameResponse> result = useCase.execute(namedGame.getId().value(), request);
+
+        StepVerifier.create(result)
+                .expectNext(testResponse)
+                .verifyComplete();
+
+        verify(playerRepository, never()).findById(any(PlayerId.class));
     }
 }
@@ -4,6 +4,7 @@ import com.blackjack.application.exception.PlayerNotFoundException;
 import com.blackjack.domain.model.valueobject.player.PlayerId;
 import com.blackjack.domain.repository.GameRepository;
 import com.blackjack.domain.repository.PlayerRepository;
+import com.blackjack.domain.service.ActiveGameStore;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -25,6 +26,9 @@ class DeletePlayerUseCaseTest {
     @Mock
     private GameRepository gameRepository;
 
+    @Mock
+    private ActiveGameStore activeGameStore;
+
     @InjectMocks
     private DeletePlayerUseCase useCase;
 
@@ -36,6 +40,8 @@ class DeletePlayerUseCaseTest {
         when(playerRepository.existsById(any(PlayerId.class)))
                 .thenReturn(Mono.just(true));
 
+        when(activeGameStore.evictPlayer(any(PlayerId.class)))
+                .thenReturn(Mono.empty());
         when(gameRepository.deleteByPlayerId(any(PlayerId.class)))
                 .thenReturn(Mono.empty());
         when(playerRepository.deleteById(any(PlayerId.class)))
@@ -45,6 +51,7 @@ class DeletePlayerUseCaseTest {
         StepVerifier.create(result)
                 .verifyComplete();
 
+        verify(activeGameStore).evictPlayer(PlayerId.from(playerId));
         verify(gameRepository).deleteByPlayerId(any(PlayerId.class));
         verify(playerRepository).deleteById(any(PlayerId.class));
     }
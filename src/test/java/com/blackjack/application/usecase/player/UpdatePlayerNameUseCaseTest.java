@@ -2,7 +2,9 @@ package com.blackjack.application.usecase.player;
 
 import com.blackjack.application.dto.request.UpdatePlayerRequest;
 import com.blackjack.application.dto.response.PlayerResponse;
+import com.blackjack.application.exception.PlayerNameTakenException;
 import com.blackjack.application.exception.PlayerNotFoundException;
+import com.blackjack.domain.event.PlayerRenamedEvent;
 import com.blackjack.domain.model.aggregate.Player;
 import com.blackjack.domain.model.valueobject.player.PlayerId;
 import com.blackjack.domain.model.valueobject.player.PlayerName;
@@ -14,6 +16,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.EmptyResultDataAccessException;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -46,6 +50,8 @@ class UpdatePlayerNameUseCaseTest {
 
         when(playerRepository.findById(any(PlayerId.class)))
                 .thenReturn(Mono.just(testPlayer));
+        when(playerRepository.findByName(any(PlayerName.class)))
+                .thenReturn(Mono.empty());
         when(playerRepository.save(any(Player.class)))
                 .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
 
@@ -61,6 +67,67 @@ class UpdatePlayerNameUseCaseTest {
 
         verify(playerRepository).findById(any(PlayerId.class));
         verify(playerRepository).save(any(Player.class));
+        assertThat(testPlayer.getDomainEvents())
+                .filteredOn(PlayerRenamedEvent.class::isInstance)
+                .singleElement()
+                .satisfies(event -> assertThat(((PlayerRenamedEvent) event).newName().value()).isEqualTo("NewName"));
+    }
+
+    @Test
+    @DisplayName("Should reject a name already held by another player")
+    void shouldRejectNameHeldByAnotherPlayer() {
+        String playerId = testPlayer.getId().value();
+        UpdatePlayerRequest request = new UpdatePlayerRequest("taken");
+
+        when(playerRepository.findById(any(PlayerId.class)))
+                .thenReturn(Mono.just(testPlayer));
+        when(playerRepository.findByName(any(PlayerName.class)))
+                .thenReturn(Mono.just(Player.create(new PlayerName("Taken"))));
+
+        StepVerifier.create(useCase.execute(playerId, request))
+                .expectError(PlayerNameTakenException.class)
+                .verify();
+
+        assertThat(testPlayer.getName().value()).isEqualTo("OldName");
+        verify(playerRepository, never()).save(any(Player.class));
+    }
+
+    @Test
+    @DisplayName("Should reject a name another player took between the check and the write")
+    void shouldRejectNameTakenConcurrently() {
+        String playerId = testPlayer.getId().value();
+        UpdatePlayerRequest request = new UpdatePlayerRequest("Contested");
+
+        when(playerRepository.findById(any(PlayerId.class)))
+                .thenReturn(Mono.just(testPlayer));
+        when(playerRepository.findByName(any(PlayerName.class)))
+                .thenReturn(Mono.empty());
+        when(playerRepository.save(any(Player.class)))
+                .thenReturn(Mono.error(new DataIntegrityViolationException("Duplicate entry 'contested' for key 'uk_players_name_key'")));
+
+        StepVerifier.create(useCase.execute(playerId, request))
+                .expectErrorSatisfies(error -> assertThat(error)
+                        .isInstanceOf(PlayerNameTakenException.class)
+                        .hasMessageContaining("Contested"))
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Should allow a player to change the casing of their own name")
+    void shouldAllowCaseOnlyRenameOfOwnName() {
+        String playerId = testPlayer.getId().value();
+        UpdatePlayerRequest request = new UpdatePlayerRequest("OLDNAME");
+
+        when(playerRepository.findById(any(PlayerId.class)))
+                .thenReturn(Mono.just(testPlayer));
+        when(playerRepository.findByName(any(PlayerName.class)))
+                .thenReturn(Mono.just(testPlayer));
+        when(playerRepository.save(any(Player.class)))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        StepVerifier.create(useCase.execute(playerId, request))
+                .assertNext(response -> assertThat(response.playerName()).isEqualTo("OLDNAME"))
+                .verifyComplete();
     }
 
     @Test
@@ -82,6 +149,24 @@ class UpdatePlayerNameUseCaseTest {
         verify(playerRepository, never()).save(any(Player.class));
     }
 
+    @Test
+    @DisplayName("Should throw PlayerNotFoundException when the player is deleted before the rename is written")
+    void shouldThrowPlayerNotFoundExceptionWhenPlayerIsDeletedBeforeTheWrite() {
+        String playerId = testPlayer.getId().value();
+        UpdatePlayerRequest request = new UpdatePlayerRequest("NewName");
+
+        when(playerRepository.findById(any(PlayerId.class)))
+                .thenReturn(Mono.just(testPlayer));
+        when(playerRepository.findByName(any(PlayerName.class)))
+                .thenReturn(Mono.empty());
+        when(playerRepository.save(any(Player.class)))
+                .thenReturn(Mono.error(new EmptyResultDataAccessException("Player " + playerId + " no longer exists", 1)));
+
+        StepVerifier.create(useCase.execute(playerId, request))
+                .expectError(PlayerNotFoundException.class)
+                .verify();
+    }
+
     @Test
     @DisplayName("Should reject empty player name")
     void shouldRejectEmptyPlayerName() {
@@ -0,0 +1,115 @@
+package com.blackjack.application.usecase.ranking;
+
+import com.blackjack.application.exception.PlayerNotFoundException;
+import com.blackjack.domain.model.aggregate.Player;
+import com.blackjack.domain.model.readmodel.LeaderboardEntry;
+import com.blackjack.domain.model.valueobject.player.PlayerName;
+import com.blackjack.domain.repository.PlayerRepository;
+import com.blackjack.domain.service.Leaderboard;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.OptionalInt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GetPlayerRankUseCase Tests")
+class GetPlayerRankUseCaseTest {
+
+    @Mock
+    private PlayerRepository playerRepository;
+
+    @Mock
+    private Leaderboard leaderboard;
+
+    @InjectMocks
+    private GetPlayerRankUseCase useCase;
+
+    private Player alice;
+    private Player bob;
+    private Player carol;
+
+    @BeforeEach
+    void setUp() {
+        alice = Player.create(new PlayerName("Alice"));
+        alice.recordWin();
+
+        bob = Player.create(new PlayerName("Bob"));
+        bob.recordWin();
+        bob.recordLoss();
+
+        carol = Player.create(new PlayerName("Carol"));
+        carol.recordLoss();
+    }
+
+    @Test
+    @DisplayName("Should answer from the leaderboard once it is loaded")
+    void shouldAnswerFromTheLeaderboardOnceItIsLoaded() {
+        when(leaderboard.isReady()).thenReturn(true);
+        when(leaderboard.rank(bob.getId())).thenReturn(OptionalInt.of(1));
+        when(leaderboard.page(0, 1)).thenReturn(List.of(LeaderboardEntry.of(alice)));
+        when(leaderboard.page(1, 2)).thenReturn(List.of(LeaderboardEntry.of(bob), LeaderboardEntry.of(carol)));
+        when(leaderboard.size()).thenReturn(3);
+
+        StepVerifier.create(useCase.execute(bob.getId().value(), 1))
+                .assertNext(response -> {
+                    assertThat(response.player().playerName()).isEqualTo("Bob");
+                    assertThat(response.rank()).isEqualTo(2);
+                    assertThat(response.totalPlayers()).isEqualTo(3);
+                    assertThat(response.percentile()).isCloseTo(66.67, offset(0.01));
+                    assertThat(response.ahead()).extracting("playerName").containsExactly("Alice");
+                    assertThat(response.behind()).extracting("playerName").containsExactly("Carol");
+                })
+                .verifyComplete();
+
+        verifyNoInteractions(playerRepository);
+    }
+
+    @Test
+    @DisplayName("Should count ranked players in the database while the leaderboard loads")
+    void shouldCountRankedPlayersInTheDatabaseWhileTheLeaderboardLoads() {
+        when(leaderboard.isReady()).thenReturn(false);
+        when(playerRepository.findById(bob.getId())).thenReturn(Mono.just(bob));
+        when(playerRepository.countRankedAhead(LeaderboardEntry.of(bob).position())).thenReturn(Mono.just(1L));
+        when(playerRepository.count()).thenReturn(Mono.just(3L));
+        when(playerRepository.findRankedAhead(any(), eq(2))).thenReturn(Flux.just(alice));
+        when(playerRepository.findRankedBehind(any(), eq(2))).thenReturn(Flux.just(carol));
+
+        StepVerifier.create(useCase.execute(bob.getId().value(), 2))
+                .assertNext(response -> {
+                    assertThat(response.rank()).isEqualTo(2);
+                    assertThat(response.totalPlayers()).isEqualTo(3);
+                    assertThat(response.ahead()).extracting("playerName").containsExactly("Alice");
+                    assertThat(response.behind()).extracting("playerName").containsExactly("Carol");
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should fail with PlayerNotFoundException for an unknown player")
+    void shouldFailForAnUnknownPlayer() {
+        Player ghost = Player.create(new PlayerName("Ghost"));
+        when(leaderboard.isReady()).thenReturn(true);
+        when(leaderboard.rank(ghost.getId())).thenReturn(OptionalInt.empty());
+        when(playerRepository.findById(ghost.getId())).thenReturn(Mono.empty());
+
+        StepVerifier.create(useCase.execute(ghost.getId().value(), 2))
+                .expectError(PlayerNotFoundException.class)
+                .verify();
+    }
+}
@@ -1,10 +1,13 @@
 package com.blackjack.application.usecase.ranking;
 
+import com.blackjack.application.dto.request.RankingCursor;
 import com.blackjack.application.dto.response.PageResponse;
 import com.blackjack.application.dto.response.PlayerRankingResponse;
 import com.blackjack.domain.model.aggregate.Player;
+import com.blackjack.domain.model.readmodel.LeaderboardEntry;
 import com.blackjack.domain.model.valueobject.player.PlayerName;
 import com.blackjack.domain.repository.PlayerRepository;
+import com.blackjack.domain.service.Leaderboard;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -19,8 +22,12 @@ import reactor.test.StepVerifier;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,6 +37,9 @@ class GetRankingUseCaseTest {
     @Mock
     private PlayerRepository playerRepository;
 
+    @Mock
+    private Leaderboard leaderboard;
+
     @InjectMocks
     private GetRankingUseCase useCase;
 
@@ -146,4 +156,102 @@ class GetRankingUseCaseTest {
                 })
                 .verifyComplete();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should serve the ranking from the leaderboard once it is loaded")
+    void shouldServeTheRankingFromTheLeaderboardOnceItIsLoaded() {
+        when(leaderboard.isReady()).thenReturn(true);
+        when(leaderboard.page(2, 2)).thenReturn(List.of(LeaderboardEntry.of(player3)));
+        when(leaderboard.size()).thenReturn(3);
+
+        StepVerifier.create(useCase.execute(1, 2))
+                .assertNext(response -> {
+                    assertThat(response.content()).hasSize(1);
+                    assertThat(response.content().get(0).playerName()).isEqualTo("Charlie");
+                    assertThat(response.content().get(0).gamesPlayed()).isEqualTo(1);
+                    assertThat(response.totalElements()).isEqualTo(3L);
+                    assertThat(response.last()).isTrue();
+                })
+                .verifyComplete();
+
+        verifyNoInteractions(playerRepository);
+    }
+
+    @Test
+    @DisplayName("Should hand out a cursor for the next page when the page is full")
+    void shouldHandOutACursorForTheNextPageWhenThePageIsFull() {
+        when(leaderboard.isReady()).thenReturn(true);
+        when(leaderboard.page(0, 2)).thenReturn(List.of(LeaderboardEntry.of(player2), LeaderboardEntry.of(player1)));
+        when(leaderboard.size()).thenReturn(3);
+
+        StepVerifier.create(useCase.execute(0, 2))
+                .assertNext(response -> assertThat(RankingCursor.parse(response.nextCursor()).position())
+                        .isEqualTo(LeaderboardEntry.of(player1).position()))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should continue after a cursor from the leaderboard")
+    void shouldContinueAfterACursorFromTheLeaderboard() {
+        String cursor = RankingCursor.of(LeaderboardEntry.of(player1)).format();
+        when(leaderboard.isReady()).thenReturn(true);
+        when(leaderboard.pageAfter(LeaderboardEntry.of(player1).position(), 2))
+                .thenReturn(List.of(LeaderboardEntry.of(player3)));
+        when(leaderboard.size()).thenReturn(3);
+
+        StepVerifier.create(useCase.executeAfter(cursor, 2, true))
+                .assertNext(response -> {
+                    assertThat(response.content()).extracting(PlayerRankingResponse::playerName).containsExactly("Charlie");
+                    assertThat(response.totalElements()).isEqualTo(3L);
+                    assertThat(response.nextCursor()).isNull();
+                    assertThat(response.last()).isTrue();
+                })
+                .verifyComplete();
+
+        verifyNoInteractions(playerRepository);
+    }
+
+    @Test
+    @DisplayName("Should seek past the cursor in the database while the leaderboard loads")
+    void shouldSeekPastTheCursorInTheDatabaseWhileTheLeaderboardLoads() {
+        String cursor = RankingCursor.of(LeaderboardEntry.of(player2)).format();
+        when(leaderboard.isReady()).thenReturn(false);
+        when(playerRepository.findRankedBehind(eq(LeaderboardEntry.of(player2).position()), eq(1)))
+                .thenReturn(Flux.just(player1));
+
+        StepVerifier.create(useCase.executeAfter(cursor, 1, false))
+                .assertNext(response -> {
+                    assertThat(response.content()).extracting(PlayerRankingResponse::playerName).containsExactly("Alice");
+                    assertThat(response.nextCursor()).isNotNull();
+                    assertThat(response.last()).isFalse();
+                    assertThat(response.totalElements()).isNull();
+                })
+                .verifyComplete();
+
+        verify(playerRepository, never()).count();
+    }
+
+    @Test
+    @DisplayName("Should reject a malformed cursor")
+    void shouldRejectAMalformedCursor() {
+        StepVerifier.create(useCase.executeAfter("not-a-cursor!", 10, false))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        verifyNoInteractions(playerRepository, leaderboard);
+    }
+
+    @Test
+    @DisplayName("Should stream ranking pages larger than the JSON page limit without counting players")
+    void shouldStreamLargeRankingPagesWithoutCounting() {
+        when(leaderboard.isReady()).thenReturn(false);
+        when(playerRepository.findAllByOrderByWinRateDesc(5000, 5000))
+                .thenReturn(Flux.just(player2, player1, player3));
+
+        StepVerifier.create(useCase.stream(1, 5000).map(PlayerRankingResponse::playerName))
+                .expectNext("Bob", "Alice", "Charlie")
+                .verifyComplete();
+
+        verify(playerRepository, never()).count();
+    }
+}
@@ -0,0 +1,110 @@
+package com.blackjack.benchmark;
+
+import com.blackjack.domain.model.valueobject.card.Card;
+import com.blackjack.domain.model.valueobject.card.Rank;
+import com.blackjack.domain.model.valueobject.card.Suit;
+import com.blackjack.domain.model.valueobject.game.Hand;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the running hand total against a full rescan of the cards on every draw,
+ * which is what the dealer loop in {@code Game.stand} paid before scoring became incremental.
+ * <p>
+ * Not part of the test suite, and only compiled with the {@code benchmark} profile: run {@link #main}
+ * with {@code java -cp} over {@code target/test-classes} and the test classpath after
+ * {@code ./mvnw -Pbenchmark test-compile}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HandScoringBenchmark {
+
+    private static final Rank[] LOW_RANKS = {Rank.ACE, Rank.TWO, Rank.ACE, Rank.THREE, Rank.ACE, Rank.TWO};
+
+    @Param({"5", "10", "20"})
+    private int drawLength;
+
+    private List<Card> draws;
+
+    @Setup
+    public void setUp() {
+        draws = new ArrayList<>(drawLength);
+        for (int i = 0; i < drawLength; i++) {
+            draws.add(Card.of(LOW_RANKS[i % LOW_RANKS.length], Suit.values()[i % Suit.values().length]));
+        }
+    }
+
+    @Benchmark
+    public int incrementalScoring() {
+        Hand hand = new Hand();
+        int total = 0;
+        for (Card card : draws) {
+            hand.addCard(card);
+            total += hand.calculateValue();
+            if (hand.isBusted()) {
+                total++;
+            }
+        }
+        return total;
+    }
+
+    @Benchmark
+    public int fullRescanScoring() {
+        List<Card> cards = new ArrayList<>();
+        int total = 0;
+        for (Card card : draws) {
+            cards.add(card);
+            total += rescan(cards);
+            if (rescan(cards) > 21) {
+                total++;
+            }
+        }
+        return total;
+    }
+
+    private static int rescan(List<Card> cards) {
+        int value = 0;
+        int aceCount = 0;
+
+        for (Card card : cards) {
+            value += card.getValue();
+            if (card.isAce()) {
+                aceCount++;
+            }
+        }
+
+        while (aceCount > 0 && value > 21) {
+            value -= 10;
+            aceCount--;
+        }
+
+        return value;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(HandScoringBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
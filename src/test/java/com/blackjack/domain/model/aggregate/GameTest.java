@@ -1,14 +1,18 @@
 package com.blackjack.domain.model.aggregate;
 
+import com.blackjack.domain.model.aggregate.mother.DeckMother;
 import com.blackjack.domain.model.aggregate.mother.GameMother;
+import com.blackjack.domain.model.valueobject.game.Deck;
 import com.blackjack.domain.model.valueobject.game.DeckCount;
 import com.blackjack.domain.model.valueobject.game.GameStatus;
 import com.blackjack.domain.model.valueobject.player.PlayerId;
 import com.blackjack.domain.model.valueobject.turn.Turn;
+import com.blackjack.domain.service.FisherYatesShuffleStrategy;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -174,8 +178,53 @@ class GameTest {
         PlayerId playerId = PlayerId.generate();
         DeckCount numberOfDecks = DeckCount.of(6);
 
-        Game game = Game.create(playerId, numberOfDecks);
+        Game game = GameMother.withPlayer(playerId, numberOfDecks);
 
         assertThat(game.getDeck().remainingCards()).isEqualTo(309);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should deal from pooled shoe when available")
+    void shouldDealFromPooledShoeWhenAvailable() {
+        Deck pooledShoe = DeckMother.playerBlackjack();
+
+        Game game = Game.create(PlayerId.generate(), null, DeckCount.standard(),
+                deckCount -> Optional.of(pooledShoe), FisherYatesShuffleStrategy.fast());
+
+        assertThat(game.getDeck()).isSameAs(pooledShoe);
+        assertThat(game.getPlayerHand().isBlackjack()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should shuffle inline when shoe pool is empty")
+    void shouldShuffleInlineWhenShoePoolIsEmpty() {
+        Game game = Game.create(PlayerId.generate(), null, DeckCount.of(4),
+                deckCount -> Optional.empty(), FisherYatesShuffleStrategy.fast());
+
+        assertThat(game.getDeck().size()).isEqualTo(208);
+        assertThat(game.getDeck().remainingCards()).isEqualTo(205);
+    }
+
+    @Test
+    @DisplayName("Should start at version 0 and advance when persisted")
+    void shouldStartAtVersionZeroAndAdvanceWhenPersisted() {
+        Game game = GameMother.withPlayer(PlayerId.generate());
+
+        assertThat(game.getVersion()).isZero();
+
+        game.markPersisted();
+
+        assertThat(game.getVersion()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should find turns by turn number")
+    void shouldFindTurnsByTurnNumber() {
+        Game game = GameMother.defaultGame();
+        Turn turn = game.hit();
+
+        assertThat(game.findTurn(1)).contains(turn);
+        assertThat(game.findTurn(0)).isEmpty();
+        assertThat(game.findTurn(2)).isEmpty();
+    }
+}
@@ -143,4 +143,39 @@ class CardTest {
                 .isInstanceOf(NullPointerException.class)
                 .hasMessageContaining("Suit cannot be null");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should return canonical instance from factory")
+    void shouldReturnCanonicalInstanceFromFactory() {
+        Card first = Card.of(Rank.QUEEN, Suit.CLUBS);
+        Card second = Card.of(Rank.QUEEN, Suit.CLUBS);
+
+        assertThat(first).isSameAs(second);
+        assertThat(first).isEqualTo(new Card(Rank.QUEEN, Suit.CLUBS));
+    }
+
+    @Test
+    @DisplayName("Should provide a distinct canonical card for every rank and suit")
+    void shouldProvideDistinctCanonicalCardForEveryRankAndSuit() {
+        for (Rank rank : Rank.values()) {
+            for (Suit suit : Suit.values()) {
+                Card card = Card.of(rank, suit);
+
+                assertThat(card.rank()).isEqualTo(rank);
+                assertThat(card.suit()).isEqualTo(suit);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should throw exception when factory receives null rank or suit")
+    void shouldThrowExceptionWhenFactoryReceivesNull() {
+        assertThatThrownBy(() -> Card.of(null, Suit.HEARTS))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessageContaining("Rank cannot be null");
+
+        assertThatThrownBy(() -> Card.of(Rank.ACE, null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessageContaining("Suit cannot be null");
+    }
+}
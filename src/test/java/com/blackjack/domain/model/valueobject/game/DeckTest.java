@@ -1,8 +1,11 @@
 package com.blackjack.domain.model.valueobject.game;
 
+import com.blackjack.domain.model.aggregate.mother.DeckMother;
 import com.blackjack.domain.model.valueobject.card.Card;
 import com.blackjack.domain.model.valueobject.card.Rank;
 import com.blackjack.domain.model.valueobject.card.Suit;
+import com.blackjack.domain.service.DeterministicShuffleStrategy;
+import com.blackjack.domain.service.FisherYatesShuffleStrategy;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -20,7 +23,7 @@ class DeckTest {
     @Test
     @DisplayName("Should create deck with 52 cards")
     void shouldCreateDeckWith52Cards() {
-        Deck deck = Deck.createAndShuffle();
+        Deck deck = DeckMother.shuffled();
 
         assertThat(deck.size()).isEqualTo(52);
         assertThat(deck.remainingCards()).isEqualTo(52);
@@ -42,7 +45,7 @@ class DeckTest {
     @Test
     @DisplayName("Should have all 52 unique cards")
     void shouldHaveAll52UniqueCards() {
-        Deck deck = Deck.createAndShuffle();
+        Deck deck = DeckMother.shuffled();
         Set<Card> uniqueCards = new HashSet<>();
 
         while (!deck.isEmpty()) {
@@ -55,7 +58,7 @@ class DeckTest {
     @Test
     @DisplayName("Should draw cards and advance index")
     void shouldDrawCardsAndAdvanceIndex() {
-        Deck deck = Deck.createAndShuffle();
+        Deck deck = DeckMother.shuffled();
 
         deck.draw();
         deck.draw();
@@ -68,7 +71,7 @@ class DeckTest {
     @Test
     @DisplayName("Should throw exception when drawing from empty deck")
     void shouldThrowExceptionWhenDrawingFromEmptyDeck() {
-        Deck deck = Deck.createAndShuffle();
+        Deck deck = DeckMother.shuffled();
 
         for (int i = 0; i < 52; i++) {
             deck.draw();
@@ -82,7 +85,7 @@ class DeckTest {
     @Test
     @DisplayName("Should be empty after drawing all cards")
     void shouldBeEmptyAfterDrawingAllCards() {
-        Deck deck = Deck.createAndShuffle();
+        Deck deck = DeckMother.shuffled();
 
         for (int i = 0; i < 52; i++) {
             deck.draw();
@@ -95,7 +98,7 @@ class DeckTest {
     @Test
     @DisplayName("Should not be empty initially")
     void shouldNotBeEmptyInitially() {
-        Deck deck = Deck.createAndShuffle();
+        Deck deck = DeckMother.shuffled();
 
         assertThat(deck.isEmpty()).isFalse();
     }
@@ -103,7 +106,7 @@ class DeckTest {
     @Test
     @DisplayName("Should reconstitute deck from cards and index")
     void shouldReconstituteDeckFromCardsAndIndex() {
-        Deck originalDeck = Deck.createAndShuffle();
+        Deck originalDeck = DeckMother.shuffled();
         List<Card> originalCards = originalDeck.getCards();
 
         originalDeck.draw();
@@ -133,7 +136,7 @@ class DeckTest {
     @Test
     @DisplayName("Should throw exception when reconstituting with invalid index")
     void shouldThrowExceptionWhenReconstitutingWithInvalidIndex() {
-        Deck deck = Deck.createAndShuffle();
+        Deck deck = DeckMother.shuffled();
         List<Card> cards = deck.getCards();
 
         assertThatThrownBy(() -> Deck.reconstitute(cards, -1))
@@ -148,7 +151,7 @@ class DeckTest {
     @Test
     @DisplayName("Should return immutable list of cards")
     void shouldReturnImmutableListOfCards() {
-        Deck deck = Deck.createAndShuffle();
+        Deck deck = DeckMother.shuffled();
 
         List<Card> cards = deck.getCards();
 
@@ -159,8 +162,8 @@ class DeckTest {
     @Test
     @DisplayName("Shuffled decks should be different")
     void shuffledDecksShouldBeDifferent() {
-        Deck deck1 = Deck.createAndShuffle();
-        Deck deck2 = Deck.createAndShuffle();
+        Deck deck1 = DeckMother.shuffled();
+        Deck deck2 = DeckMother.shuffled();
 
         assertThat(deck1.getCards()).isNotEqualTo(deck2.getCards());
     }
@@ -168,7 +171,7 @@ class DeckTest {
     @Test
     @DisplayName("Should have all ranks and suits")
     void shouldHaveAllRanksAndSuits() {
-        Deck deck = Deck.createAndShuffle();
+        Deck deck = DeckMother.shuffled();
         Set<Rank> ranks = new HashSet<>();
         Set<Suit> suits = new HashSet<>();
 
@@ -197,7 +200,7 @@ class DeckTest {
     @DisplayName("Should create deck with multiple packs (e.g., 6 decks)")
     void shouldCreateDeckWithMultiplePacks() {
         DeckCount numberOfDecks = DeckCount.of(6);
-        Deck deck = Deck.createAndShuffle(numberOfDecks);
+        Deck deck = DeckMother.shuffled(numberOfDecks);
         assertThat(deck.size()).isEqualTo(52 * numberOfDecks.value());
         assertThat(deck.remainingCards()).isEqualTo(312);
     }
@@ -211,4 +214,95 @@ class DeckTest {
 
         assertThat(deck.size()).isEqualTo(104);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should preserve card order when reconstituting a multi-deck shoe")
+    void shouldPreserveCardOrderWhenReconstitutingMultiDeckShoe() {
+        Deck original = DeckMother.shuffled(DeckCount.of(8));
+
+        Deck reconstituted = Deck.reconstitute(original.getCards(), 0);
+
+        assertThat(reconstituted.getCards()).containsExactlyElementsOf(original.getCards());
+        for (int i = 0; i < original.size(); i++) {
+            assertThat(reconstituted.draw()).isEqualTo(original.draw());
+        }
+    }
+
+    @Test
+    @DisplayName("Drawn cards should be shared canonical instances")
+    void drawnCardsShouldBeSharedCanonicalInstances() {
+        Deck deck1 = Deck.createUnshuffled();
+        Deck deck2 = Deck.createUnshuffled();
+
+        assertThat(deck1.draw()).isSameAs(deck2.draw());
+    }
+
+    @Test
+    @DisplayName("Should shuffle with the given strategy")
+    void shouldShuffleWithGivenStrategy() {
+        Deck deck1 = Deck.createAndShuffle(DeckCount.of(2), FisherYatesShuffleStrategy.seeded(7L));
+        Deck deck2 = Deck.createAndShuffle(DeckCount.of(2), FisherYatesShuffleStrategy.seeded(7L));
+        Deck unshuffled = Deck.createAndShuffle(DeckCount.of(1), cards -> { });
+
+        assertThat(deck1).isEqualTo(deck2);
+        assertThat(unshuffled).isEqualTo(Deck.createUnshuffled());
+    }
+
+    @Test
+    @DisplayName("Should regenerate seeded shoe in a stable order")
+    void shouldRegenerateSeededShoeInStableOrder() {
+        Deck deck = Deck.createFromSeed(DeckCount.standard(), 20261017L);
+
+        assertThat(deck.isSeeded()).isTrue();
+        assertThat(deck.getCards().subList(0, 6)).containsExactly(
+                Card.of(Rank.SIX, Suit.HEARTS),
+                Card.of(Rank.TEN, Suit.SPADES),
+                Card.of(Rank.KING, Suit.HEARTS),
+                Card.of(Rank.TWO, Suit.SPADES),
+                Card.of(Rank.ACE, Suit.HEARTS),
+                Card.of(Rank.THREE, Suit.HEARTS)
+        );
+    }
+
+    @Test
+    @DisplayName("Should reconstitute seeded shoe at the stored position")
+    void shouldReconstituteSeededShoeAtStoredPosition() {
+        Deck original = Deck.createAndShuffle(DeckCount.of(6), new DeterministicShuffleStrategy());
+        original.draw();
+        original.draw();
+        original.draw();
+
+        Deck reconstituted = Deck.reconstituteFromSeed(
+                original.getDeckCount(),
+                original.getSeed().getAsLong(),
+                DeterministicShuffleStrategy.ALGORITHM_VERSION,
+                original.getCurrentIndex());
+
+        assertThat(reconstituted).isEqualTo(original);
+        assertThat(reconstituted.size()).isEqualTo(312);
+        assertThat(reconstituted.remainingCards()).isEqualTo(309);
+        assertThat(reconstituted.draw()).isEqualTo(original.draw());
+    }
+
+    @Test
+    @DisplayName("Should throw exception when reconstituting seeded shoe with invalid data")
+    void shouldThrowExceptionWhenReconstitutingSeededShoeWithInvalidData() {
+        assertThatThrownBy(() -> Deck.reconstituteFromSeed(DeckCount.standard(), 1L, 0, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unsupported shuffle algorithm version");
+
+        assertThatThrownBy(() -> Deck.reconstituteFromSeed(DeckCount.standard(), 1L,
+                DeterministicShuffleStrategy.ALGORITHM_VERSION, 53))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("must be between 0 and");
+    }
+
+    @Test
+    @DisplayName("Shuffled shoes should not carry a seed")
+    void shuffledShoesShouldNotCarrySeed() {
+        Deck deck = Deck.createAndShuffle(DeckCount.standard(), FisherYatesShuffleStrategy.fast());
+
+        assertThat(deck.isSeeded()).isFalse();
+        assertThat(deck.getSeed()).isEmpty();
+    }
+}
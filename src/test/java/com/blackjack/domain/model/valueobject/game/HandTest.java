@@ -215,4 +215,37 @@ class HandTest {
         assertThat(hand1).isEqualTo(hand2);
         assertThat(hand1.hashCode()).isEqualTo(hand2.hashCode());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should report soft hand while an Ace can count as 11")
+    void shouldReportSoftHandWhileAceCanCountAs11() {
+        Hand hand = new Hand();
+        hand.addCard(new Card(Rank.ACE, Suit.HEARTS));
+        hand.addCard(new Card(Rank.SIX, Suit.SPADES));
+
+        assertThat(hand.isSoft()).isTrue();
+        assertThat(hand.calculateValue()).isEqualTo(17);
+
+        hand.addCard(new Card(Rank.NINE, Suit.CLUBS));
+
+        assertThat(hand.isSoft()).isFalse();
+        assertThat(hand.calculateValue()).isEqualTo(16);
+    }
+
+    @Test
+    @DisplayName("Should keep running value consistent on long draws")
+    void shouldKeepRunningValueConsistentOnLongDraws() {
+        Hand hand = new Hand();
+        int[] expectedValues = {11, 12, 13, 14, 16, 18, 20, 12, 15, 18, 21, 24};
+        Rank[] draws = {Rank.ACE, Rank.ACE, Rank.ACE, Rank.ACE, Rank.TWO, Rank.TWO,
+                Rank.TWO, Rank.TWO, Rank.THREE, Rank.THREE, Rank.THREE, Rank.THREE};
+
+        for (int i = 0; i < draws.length; i++) {
+            hand.addCard(new Card(draws[i], Suit.CLUBS));
+            assertThat(hand.calculateValue()).isEqualTo(expectedValues[i]);
+        }
+
+        assertThat(hand.isBusted()).isTrue();
+        assertThat(Hand.from(hand.getCards()).calculateValue()).isEqualTo(24);
+    }
+}
@@ -0,0 +1,74 @@
+package com.blackjack.domain.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("DeterministicShuffleStrategy Tests")
+class DeterministicShuffleStrategyTest {
+
+    @Test
+    @DisplayName("Same seed should always produce the same order")
+    void sameSeedShouldAlwaysProduceSameOrder() {
+        byte[] first = orderedCards(312);
+        byte[] second = orderedCards(312);
+
+        DeterministicShuffleStrategy.shuffle(first, 123L, DeterministicShuffleStrategy.ALGORITHM_VERSION);
+        DeterministicShuffleStrategy.shuffle(second, 123L, DeterministicShuffleStrategy.ALGORITHM_VERSION);
+
+        assertThat(first).isEqualTo(second);
+        assertThat(first).isNotEqualTo(orderedCards(312));
+    }
+
+    @Test
+    @DisplayName("Different seeds should produce different orders")
+    void differentSeedsShouldProduceDifferentOrders() {
+        byte[] first = orderedCards(52);
+        byte[] second = orderedCards(52);
+
+        DeterministicShuffleStrategy.shuffle(first, 1L, DeterministicShuffleStrategy.ALGORITHM_VERSION);
+        DeterministicShuffleStrategy.shuffle(second, 2L, DeterministicShuffleStrategy.ALGORITHM_VERSION);
+
+        assertThat(first).isNotEqualTo(second);
+    }
+
+    @Test
+    @DisplayName("Should keep every card when shuffling")
+    void shouldKeepEveryCardWhenShuffling() {
+        byte[] cards = orderedCards(52);
+
+        new DeterministicShuffleStrategy().shuffle(cards);
+
+        byte[] sorted = cards.clone();
+        Arrays.sort(sorted);
+        assertThat(sorted).isEqualTo(orderedCards(52));
+    }
+
+    @Test
+    @DisplayName("Should always provide a seed")
+    void shouldAlwaysProvideSeed() {
+        assertThat(new DeterministicShuffleStrategy().nextSeed()).isPresent();
+        assertThat(FisherYatesShuffleStrategy.fast().nextSeed()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject unknown algorithm versions")
+    void shouldRejectUnknownAlgorithmVersions() {
+        assertThatThrownBy(() -> DeterministicShuffleStrategy.shuffle(orderedCards(52), 1L, 99))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unsupported shuffle algorithm version");
+    }
+
+    private static byte[] orderedCards(int size) {
+        byte[] cards = new byte[size];
+        for (int i = 0; i < size; i++) {
+            cards[i] = (byte) (i % 52);
+        }
+        Arrays.sort(cards);
+        return cards;
+    }
+}
@@ -0,0 +1,88 @@
+package com.blackjack.domain.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("FisherYatesShuffleStrategy Tests")
+class FisherYatesShuffleStrategyTest {
+
+    @Test
+    @DisplayName("Should keep every card when shuffling")
+    void shouldKeepEveryCardWhenShuffling() {
+        byte[] cards = orderedCards(416);
+
+        FisherYatesShuffleStrategy.fast().shuffle(cards);
+
+        byte[] sorted = cards.clone();
+        Arrays.sort(sorted);
+        assertThat(sorted).isEqualTo(orderedCards(416));
+        assertThat(cards).isNotEqualTo(orderedCards(416));
+    }
+
+    @Test
+    @DisplayName("Seeded strategies with the same seed should shuffle identically")
+    void seededStrategiesWithSameSeedShouldShuffleIdentically() {
+        byte[] first = orderedCards(52);
+        byte[] second = orderedCards(52);
+
+        FisherYatesShuffleStrategy.seeded(42L).shuffle(first);
+        FisherYatesShuffleStrategy.seeded(42L).shuffle(second);
+
+        assertThat(first).isEqualTo(second);
+    }
+
+    @Test
+    @DisplayName("Secure strategy should keep every card when shuffling")
+    void secureStrategyShouldKeepEveryCard() {
+        byte[] cards = orderedCards(52);
+
+        FisherYatesShuffleStrategy.secure().shuffle(cards);
+
+        byte[] sorted = cards.clone();
+        Arrays.sort(sorted);
+        assertThat(sorted).isEqualTo(orderedCards(52));
+    }
+
+    @Test
+    @DisplayName("Should shuffle concurrently from several threads")
+    void shouldShuffleConcurrentlyFromSeveralThreads() {
+        ShuffleStrategy strategy = FisherYatesShuffleStrategy.fast();
+
+        CompletableFuture<?>[] shuffles = new CompletableFuture<?>[8];
+        for (int i = 0; i < shuffles.length; i++) {
+            shuffles[i] = CompletableFuture.runAsync(() -> {
+                for (int n = 0; n < 1_000; n++) {
+                    byte[] cards = orderedCards(52);
+                    strategy.shuffle(cards);
+                    Arrays.sort(cards);
+                    assertThat(cards).isEqualTo(orderedCards(52));
+                }
+            });
+        }
+
+        CompletableFuture.allOf(shuffles).join();
+    }
+
+    @Test
+    @DisplayName("Should throw exception when cards are null")
+    void shouldThrowExceptionWhenCardsAreNull() {
+        assertThatThrownBy(() -> FisherYatesShuffleStrategy.fast().shuffle(null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessageContaining("Cards cannot be null");
+    }
+
+    private static byte[] orderedCards(int size) {
+        byte[] cards = new byte[size];
+        for (int i = 0; i < size; i++) {
+            cards[i] = (byte) (i % 52);
+        }
+        Arrays.sort(cards);
+        return cards;
+    }
+}
@@ -0,0 +1,111 @@
+package com.blackjack.infrastructure.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BoundedCache Tests")
+class BoundedCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private MeterRegistry meterRegistry;
+    private BoundedCache<String, Integer> cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new BoundedCache<>("test", 2, Duration.ofSeconds(10), meterRegistry, now::get);
+    }
+
+    private double count(String name, String tag, String value) {
+        return meterRegistry.get(name).tag("cache", "test").tag(tag, value).counter().count();
+    }
+
+    @Test
+    @DisplayName("Should evict the least recently used entry when full")
+    void shouldEvictLeastRecentlyUsedEntryWhenFull() {
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.get("a");
+        cache.put("c", 3);
+
+        assertThat(cache.get("a")).contains(1);
+        assertThat(cache.get("b")).isEmpty();
+        assertThat(cache.get("c")).contains(3);
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(count("blackjack.cache.evictions", "cause", "size")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should expire entries once their TTL has passed")
+    void shouldExpireEntriesOnceTtlHasPassed() {
+        cache.put("a", 1);
+
+        now.addAndGet(Duration.ofSeconds(9).toNanos());
+        assertThat(cache.get("a")).contains(1);
+
+        now.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertThat(cache.get("a")).isEmpty();
+        assertThat(cache.size()).isZero();
+        assertThat(count("blackjack.cache.evictions", "cause", "expired")).isEqualTo(1);
+        assertThat(count("blackjack.cache.gets", "result", "hit")).isEqualTo(1);
+        assertThat(count("blackjack.cache.gets", "result", "miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should discard a read-through value loaded across an invalidation")
+    void shouldDiscardValueLoadedAcrossInvalidation() {
+        long epoch = cache.epoch();
+        cache.invalidate("a");
+
+        assertThat(cache.putIfCurrent("a", 1, epoch)).isFalse();
+        assertThat(cache.get("a")).isEmpty();
+
+        assertThat(cache.putIfCurrent("a", 2, cache.epoch())).isTrue();
+        assertThat(cache.get("a")).contains(2);
+    }
+
+    @Test
+    @DisplayName("Should keep a read-through value loaded while another key was invalidated")
+    void shouldKeepValueLoadedAcrossInvalidationOfAnotherKey() {
+        long epoch = cache.epoch();
+        cache.invalidate("b");
+
+        assertThat(cache.putIfCurrent("a", 1, epoch)).isTrue();
+        assertThat(cache.get("a")).contains(1);
+    }
+
+    @Test
+    @DisplayName("Should discard a value loaded before an invalidation it no longer remembers")
+    void shouldDiscardValueLoadedBeforeForgottenInvalidation() {
+        long epoch = cache.epoch();
+        cache.invalidate("a");
+        cache.invalidate("b");
+        cache.invalidate("c");
+
+        assertThat(cache.putIfCurrent("d", 4, epoch)).isFalse();
+        assertThat(cache.putIfCurrent("d", 4, cache.epoch())).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should spread a large cache over stripes without exceeding its bound")
+    void shouldStayWithinBoundAcrossStripes() {
+        BoundedCache<Integer, Integer> large = new BoundedCache<>("large", 1_000, Duration.ofSeconds(10),
+                new SimpleMeterRegistry(), now::get);
+
+        for (int i = 0; i < 5_000; i++) {
+            large.put(i, i);
+        }
+
+        assertThat(large.size()).isEqualTo(1_000);
+        assertThat(large.get(4_999)).contains(4_999);
+        assertThat(large.get(0)).isEmpty();
+    }
+}
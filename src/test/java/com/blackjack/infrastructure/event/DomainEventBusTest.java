@@ -0,0 +1,158 @@
+package com.blackjack.infrastructure.event;
+
+import com.blackjack.domain.event.GameFinishedEvent;
+import com.blackjack.domain.event.PlayerRenamedEvent;
+import com.blackjack.domain.model.valueobject.game.GameId;
+import com.blackjack.domain.model.valueobject.game.GameStatus;
+import com.blackjack.domain.model.valueobject.player.PlayerId;
+import com.blackjack.domain.model.valueobject.player.PlayerName;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("DomainEventBus Tests")
+class DomainEventBusTest {
+
+    private MeterRegistry meterRegistry;
+    private DomainEventBus bus;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (bus != null) {
+            bus.stop();
+        }
+    }
+
+    private DomainEventBus startBus(int capacity, int concurrency, DomainEventBus.OverflowPolicy policy) {
+        bus = new DomainEventBus(capacity, concurrency, policy, meterRegistry);
+        bus.start();
+        return bus;
+    }
+
+    private GameFinishedEvent gameFinished() {
+        return GameFinishedEvent.of(GameId.generate(), PlayerId.generate(), GameStatus.PLAYER_WIN);
+    }
+
+    @Test
+    @DisplayName("Should deliver events only to subscribers of their type")
+    void shouldDeliverEventsOnlyToSubscribersOfTheirType() throws InterruptedException {
+        startBus(16, 2, DomainEventBus.OverflowPolicy.DROP);
+        List<Object> finished = new CopyOnWriteArrayList<>();
+        List<Object> renamed = new CopyOnWriteArrayList<>();
+        CountDownLatch handled = new CountDownLatch(2);
+        bus.subscribe(GameFinishedEvent.class, event -> Mono.fromRunnable(() -> {
+            finished.add(event);
+            handled.countDown();
+        }));
+        bus.subscribe(PlayerRenamedEvent.class, event -> Mono.fromRunnable(() -> {
+            renamed.add(event);
+            handled.countDown();
+        }));
+
+        GameFinishedEvent finishedEvent = gameFinished();
+        PlayerRenamedEvent renamedEvent = PlayerRenamedEvent.of(PlayerId.generate(), new PlayerName("Alice"));
+        bus.publish(finishedEvent);
+        bus.publish(renamedEvent);
+
+        assertThat(handled.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(finished).containsExactly(finishedEvent);
+        assertThat(renamed).containsExactly(renamedEvent);
+        assertThat(meterRegistry.get("blackjack.events.lag").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should never run more handlers at once than the configured concurrency")
+    void shouldNeverRunMoreHandlersAtOnceThanTheConfiguredConcurrency() throws InterruptedException {
+        startBus(64, 2, DomainEventBus.OverflowPolicy.DROP);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch handled = new CountDownLatch(20);
+        bus.subscribe(GameFinishedEvent.class, event -> Mono.fromRunnable(() ->
+                        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max))
+                .then(Mono.delay(Duration.ofMillis(5)))
+                .doOnSuccess(tick -> {
+                    running.decrementAndGet();
+                    handled.countDown();
+                })
+                .then());
+
+        for (int i = 0; i < 20; i++) {
+            bus.publish(gameFinished());
+        }
+
+        assertThat(handled.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should drop and count events once the queue is full")
+    void shouldDropAndCountEventsOnceTheQueueIsFull() {
+        startBus(8, 1, DomainEventBus.OverflowPolicy.DROP);
+        Sinks.Empty<Void> blocker = Sinks.empty();
+        bus.subscribe(GameFinishedEvent.class, event -> blocker.asMono());
+
+        for (int i = 0; i < 50; i++) {
+            bus.publish(gameFinished());
+        }
+
+        double dropped = meterRegistry.get("blackjack.events.dropped").tag("type", "GameFinishedEvent").counter().count();
+        assertThat(dropped).isPositive();
+        assertThat(bus.depth()).isLessThanOrEqualTo(50 - (int) dropped);
+        blocker.tryEmitEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject the publisher once the queue is full under the fail policy")
+    void shouldRejectThePublisherOnceTheQueueIsFullUnderTheFailPolicy() {
+        startBus(8, 1, DomainEventBus.OverflowPolicy.FAIL);
+        Sinks.Empty<Void> blocker = Sinks.empty();
+        bus.subscribe(GameFinishedEvent.class, event -> blocker.asMono());
+
+        assertThatThrownBy(() -> {
+            for (int i = 0; i < 50; i++) {
+                bus.publish(gameFinished());
+            }
+        }).isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("GameFinishedEvent");
+        blocker.tryEmitEmpty();
+    }
+
+    @Test
+    @DisplayName("Should keep delivering after a handler fails")
+    void shouldKeepDeliveringAfterAHandlerFails() throws InterruptedException {
+        startBus(16, 1, DomainEventBus.OverflowPolicy.DROP);
+        CountDownLatch handled = new CountDownLatch(2);
+        AtomicInteger calls = new AtomicInteger();
+        bus.subscribe(GameFinishedEvent.class, event -> Mono.defer(() -> {
+            handled.countDown();
+            return calls.incrementAndGet() == 1
+                    ? Mono.error(new IllegalStateException("boom"))
+                    : Mono.empty();
+        }));
+
+        bus.publish(gameFinished());
+        bus.publish(gameFinished());
+
+        assertThat(handled.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+}
@@ -0,0 +1,78 @@
+package com.blackjack.infrastructure.event;
+
+import com.blackjack.domain.event.GameFinishedEvent;
+import com.blackjack.domain.model.valueobject.game.GameId;
+import com.blackjack.domain.model.valueobject.game.GameStatus;
+import com.blackjack.domain.model.valueobject.player.PlayerId;
+import com.blackjack.domain.repository.GameRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GameEventOutboxRelay Tests")
+class GameEventOutboxRelayTest {
+
+    @Mock
+    private GameRepository gameRepository;
+
+    @Mock
+    private DomainEventPublisher eventPublisher;
+
+    private MeterRegistry meterRegistry;
+    private GameEventOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        relay = new GameEventOutboxRelay(gameRepository, eventPublisher,
+                Duration.ofHours(1), Duration.ofSeconds(30), 50, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should republish events that were not acknowledged within the redelivery delay")
+    void shouldRepublishEventsThatWereNotAcknowledgedWithinTheRedeliveryDelay() {
+        GameFinishedEvent first = GameFinishedEvent.of(GameId.generate(), PlayerId.generate(), GameStatus.PLAYER_WIN);
+        GameFinishedEvent second = GameFinishedEvent.of(GameId.generate(), PlayerId.generate(), GameStatus.TIE);
+        when(gameRepository.claimPendingEvents(any(LocalDateTime.class), eq(50)))
+                .thenReturn(Flux.just(first, second));
+
+        LocalDateTime before = LocalDateTime.now();
+        relay.relay();
+
+        ArgumentCaptor<LocalDateTime> dispatchedBefore = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(gameRepository).claimPendingEvents(dispatchedBefore.capture(), eq(50));
+        assertThat(dispatchedBefore.getValue()).isBeforeOrEqualTo(LocalDateTime.now().minusSeconds(30))
+                .isAfterOrEqualTo(before.minusSeconds(30));
+        verify(eventPublisher).publishGameFinishedEvent(first);
+        verify(eventPublisher).publishGameFinishedEvent(second);
+        assertThat(meterRegistry.get("blackjack.outbox.relayed").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should count a failed poll and keep running")
+    void shouldCountAFailedPollAndKeepRunning() {
+        when(gameRepository.claimPendingEvents(any(LocalDateTime.class), eq(50)))
+                .thenReturn(Flux.error(new IllegalStateException("connection refused")));
+
+        relay.relay();
+
+        verifyNoInteractions(eventPublisher);
+        assertThat(meterRegistry.get("blackjack.outbox.relay.failures").counter().count()).isEqualTo(1);
+    }
+}
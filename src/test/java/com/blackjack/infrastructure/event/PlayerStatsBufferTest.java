@@ -0,0 +1,157 @@
+package com.blackjack.infrastructure.event;
+
+import com.blackjack.domain.event.GameFinishedEvent;
+import com.blackjack.domain.model.valueobject.game.GameId;
+import com.blackjack.domain.model.valueobject.game.GameStatus;
+import com.blackjack.domain.model.valueobject.player.PlayerId;
+import com.blackjack.domain.repository.GameRepository;
+import com.blackjack.domain.repository.PlayerRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PlayerStatsBuffer Tests")
+class PlayerStatsBufferTest {
+
+    @Mock
+    private PlayerRepository playerRepository;
+
+    @Mock
+    private GameRepository gameRepository;
+
+    @Mock
+    private DomainEventPublisher eventPublisher;
+
+    private MeterRegistry meterRegistry;
+    private PlayerStatsBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        buffer = new PlayerStatsBuffer(playerRepository, gameRepository, eventPublisher, Duration.ofHours(1), 100, meterRegistry);
+    }
+
+    private static GameFinishedEvent finished(PlayerId playerId, GameStatus status) {
+        return GameFinishedEvent.of(GameId.generate(), playerId, status);
+    }
+
+    @Test
+    @DisplayName("Should record pending games in one batched write and acknowledge them")
+    @SuppressWarnings("unchecked")
+    void shouldRecordPendingGamesInOneBatchedWriteAndAcknowledgeThem() {
+        PlayerId alice = PlayerId.generate();
+        GameFinishedEvent first = finished(alice, GameStatus.PLAYER_WIN);
+        GameFinishedEvent second = finished(alice, GameStatus.DEALER_WIN);
+        GameFinishedEvent third = finished(PlayerId.generate(), GameStatus.TIE);
+        when(playerRepository.recordGameResults(anyCollection())).thenReturn(Mono.just(3));
+        when(gameRepository.acknowledgeEvents(anyCollection())).thenReturn(Mono.empty());
+
+        buffer.record(first);
+        buffer.record(second);
+        buffer.record(third);
+        buffer.flush();
+
+        ArgumentCaptor<Collection<GameFinishedEvent>> batch = ArgumentCaptor.forClass(Collection.class);
+        verify(playerRepository).recordGameResults(batch.capture());
+        assertThat(batch.getValue()).containsExactlyInAnyOrder(first, second, third);
+
+        ArgumentCaptor<Collection<GameId>> acknowledged = ArgumentCaptor.forClass(Collection.class);
+        verify(gameRepository).acknowledgeEvents(acknowledged.capture());
+        assertThat(acknowledged.getValue()).containsExactlyInAnyOrder(first.gameId(), second.gameId(), third.gameId());
+        verify(eventPublisher).publishPlayerStatsUpdatedEvent(
+                argThat(event -> event.playerIds().equals(Set.of(alice, third.playerId()))));
+
+        assertThat(meterRegistry.get("blackjack.stats.buffer.size").gauge().value()).isZero();
+        assertThat(meterRegistry.get("blackjack.stats.buffer.flushed.games").counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should hold a game delivered twice only once")
+    @SuppressWarnings("unchecked")
+    void shouldHoldAGameDeliveredTwiceOnlyOnce() {
+        GameFinishedEvent event = finished(PlayerId.generate(), GameStatus.PLAYER_WIN);
+        when(playerRepository.recordGameResults(anyCollection())).thenReturn(Mono.just(1));
+        when(gameRepository.acknowledgeEvents(anyCollection())).thenReturn(Mono.empty());
+
+        buffer.record(event);
+        buffer.record(event);
+        buffer.flush();
+
+        ArgumentCaptor<Collection<GameFinishedEvent>> batch = ArgumentCaptor.forClass(Collection.class);
+        verify(playerRepository).recordGameResults(batch.capture());
+        assertThat(batch.getValue()).containsExactly(event);
+    }
+
+    @Test
+    @DisplayName("Should not write when nothing is pending")
+    void shouldNotWriteWhenNothingIsPending() {
+        buffer.flush();
+
+        verifyNoInteractions(playerRepository, gameRepository, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Should requeue games and skip the acknowledgement when the write fails")
+    @SuppressWarnings("unchecked")
+    void shouldRequeueGamesAndSkipTheAcknowledgementWhenTheWriteFails() {
+        PlayerId playerId = PlayerId.generate();
+        GameFinishedEvent first = finished(playerId, GameStatus.PLAYER_WIN);
+        GameFinishedEvent second = finished(playerId, GameStatus.TIE);
+        when(playerRepository.recordGameResults(anyCollection()))
+                .thenReturn(Mono.error(new IllegalStateException("connection reset")))
+                .thenReturn(Mono.just(2));
+        when(gameRepository.acknowledgeEvents(anyCollection())).thenReturn(Mono.empty());
+
+        buffer.record(first);
+        buffer.flush();
+        verifyNoInteractions(gameRepository, eventPublisher);
+
+        buffer.record(second);
+        buffer.flush();
+
+        ArgumentCaptor<Collection<GameFinishedEvent>> batch = ArgumentCaptor.forClass(Collection.class);
+        verify(playerRepository, times(2)).recordGameResults(batch.capture());
+        assertThat(batch.getAllValues().get(1)).containsExactlyInAnyOrder(first, second);
+        assertThat(meterRegistry.get("blackjack.stats.buffer.flush.failures").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should keep recorded results when the acknowledgement fails")
+    void shouldKeepRecordedResultsWhenTheAcknowledgementFails() {
+        when(playerRepository.recordGameResults(anyCollection())).thenReturn(Mono.just(1));
+        when(gameRepository.acknowledgeEvents(anyCollection()))
+                .thenReturn(Mono.error(new IllegalStateException("primary stepped down")));
+
+        buffer.record(finished(PlayerId.generate(), GameStatus.DEALER_WIN));
+        buffer.flush();
+        buffer.flush();
+
+        verify(playerRepository, times(1)).recordGameResults(anyCollection());
+        assertThat(meterRegistry.get("blackjack.stats.buffer.flush.failures").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should reject results of games still in progress")
+    void shouldRejectResultsOfGamesStillInProgress() {
+        assertThatThrownBy(() -> buffer.record(finished(PlayerId.generate(), GameStatus.PLAYING)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,110 @@
+package com.blackjack.infrastructure.event.listener;
+
+import com.blackjack.domain.event.PlayerRenamedEvent;
+import com.blackjack.domain.model.aggregate.Player;
+import com.blackjack.domain.model.valueobject.player.PlayerId;
+import com.blackjack.domain.model.valueobject.player.PlayerName;
+import com.blackjack.domain.repository.GameRepository;
+import com.blackjack.domain.repository.PlayerRepository;
+import com.blackjack.domain.service.ActiveGameStore;
+import com.blackjack.infrastructure.event.DomainEventBus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PlayerRenamedEventListener Tests")
+class PlayerRenamedEventListenerTest {
+
+    @Mock
+    private DomainEventBus eventBus;
+
+    @Mock
+    private GameRepository gameRepository;
+
+    @Mock
+    private PlayerRepository playerRepository;
+
+    @Mock
+    private ActiveGameStore activeGameStore;
+
+    @InjectMocks
+    private PlayerRenamedEventListener listener;
+
+    private static Player player(PlayerId id, String name) {
+        return Player.reconstitute(id, new PlayerName(name), 0, 0, 0, 0, 0.0,
+                LocalDateTime.now(), LocalDateTime.now());
+    }
+
+    @Test
+    @DisplayName("Should subscribe to rename events on the bus")
+    void shouldSubscribeToRenameEvents() {
+        listener.register();
+
+        verify(eventBus).subscribe(eq(PlayerRenamedEvent.class), any());
+    }
+
+    @Test
+    @DisplayName("Should write the new name onto the player's games, then evict their active games")
+    void shouldWriteNewNameThenEvictActiveGames() {
+        PlayerId playerId = PlayerId.generate();
+        PlayerName newName = new PlayerName("Alicia");
+        when(gameRepository.updatePlayerName(playerId, newName)).thenReturn(Mono.just(3L));
+        when(playerRepository.findById(playerId)).thenReturn(Mono.just(player(playerId, "Alicia")));
+        when(activeGameStore.evictPlayer(playerId)).thenReturn(Mono.empty());
+
+        StepVerifier.create(listener.handlePlayerRenamedEvent(PlayerRenamedEvent.of(playerId, newName)))
+                .verifyComplete();
+
+        InOrder inOrder = inOrder(gameRepository, activeGameStore);
+        inOrder.verify(gameRepository).updatePlayerName(playerId, newName);
+        inOrder.verify(activeGameStore).evictPlayer(playerId);
+        verifyNoMoreInteractions(gameRepository);
+    }
+
+    @Test
+    @DisplayName("Should settle on the player's current name when a newer rename was handled first")
+    void shouldSettleOnCurrentNameWhenEventIsStale() {
+        PlayerId playerId = PlayerId.generate();
+        PlayerName staleName = new PlayerName("Alicia");
+        PlayerName currentName = new PlayerName("Ali");
+        when(gameRepository.updatePlayerName(eq(playerId), any(PlayerName.class))).thenReturn(Mono.just(3L));
+        when(playerRepository.findById(playerId)).thenReturn(Mono.just(player(playerId, "Ali")));
+        when(activeGameStore.evictPlayer(playerId)).thenReturn(Mono.empty());
+
+        StepVerifier.create(listener.handlePlayerRenamedEvent(PlayerRenamedEvent.of(playerId, staleName)))
+                .verifyComplete();
+
+        InOrder inOrder = inOrder(gameRepository, activeGameStore);
+        inOrder.verify(gameRepository).updatePlayerName(playerId, staleName);
+        inOrder.verify(gameRepository).updatePlayerName(playerId, currentName);
+        inOrder.verify(activeGameStore).evictPlayer(playerId);
+    }
+
+    @Test
+    @DisplayName("Should still evict active games when the player has been deleted since")
+    void shouldStillEvictWhenPlayerWasDeleted() {
+        PlayerId playerId = PlayerId.generate();
+        PlayerName newName = new PlayerName("Alicia");
+        when(gameRepository.updatePlayerName(playerId, newName)).thenReturn(Mono.just(0L));
+        when(playerRepository.findById(playerId)).thenReturn(Mono.empty());
+        when(activeGameStore.evictPlayer(playerId)).thenReturn(Mono.empty());
+
+        StepVerifier.create(listener.handlePlayerRenamedEvent(PlayerRenamedEvent.of(playerId, newName)))
+                .verifyComplete();
+
+        verify(activeGameStore).evictPlayer(playerId);
+    }
+}
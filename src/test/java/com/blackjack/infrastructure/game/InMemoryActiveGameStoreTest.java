@@ -0,0 +1,338 @@
+package com.blackjack.infrastructure.game;
+
+import com.blackjack.domain.model.aggregate.Game;
+import com.blackjack.domain.model.valueobject.game.Deck;
+import com.blackjack.domain.model.valueobject.game.GameId;
+import com.blackjack.domain.model.valueobject.player.PlayerId;
+import com.blackjack.domain.repository.GameRepository;
+import com.blackjack.infrastructure.game.InMemoryActiveGameStore.DurabilityMode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("InMemoryActiveGameStore Tests")
+class InMemoryActiveGameStoreTest {
+
+    private static final Duration IDLE_TIMEOUT = Duration.ofMinutes(10);
+
+    @Mock
+    private GameRepository gameRepository;
+
+    private final AtomicLong now = new AtomicLong();
+    private Game game;
+
+    @BeforeEach
+    void setUp() {
+        game = Game.createWithDeck(PlayerId.generate(), Deck.createUnshuffled());
+    }
+
+    private InMemoryActiveGameStore store(DurabilityMode durabilityMode) {
+        return store(durabilityMode, 100);
+    }
+
+    private InMemoryActiveGameStore store(DurabilityMode durabilityMode, int maxSize) {
+        return new InMemoryActiveGameStore(gameRepository, durabilityMode, Duration.ofSeconds(1), IDLE_TIMEOUT,
+                maxSize, new SimpleMeterRegistry(), now::get);
+    }
+
+    private void givenWritesSucceed() {
+        when(gameRepository.saveAction(any(Game.class), anyInt())).thenAnswer(invocation -> {
+            Game saved = invocation.getArgument(0);
+            saved.markPersisted();
+            saved.clearDomainEvents();
+            return Mono.just(saved);
+        });
+    }
+
+    private static Mono<Integer> hit(Game game) {
+        game.hit();
+        return Mono.just(game.getTurnHistory().size());
+    }
+
+    private static Mono<Integer> stand(Game game) {
+        game.stand();
+        return Mono.just(game.getTurnHistory().size());
+    }
+
+    @Test
+    @DisplayName("Should apply actions on a tracked game without reading it and write them once the game finishes")
+    void shouldCoalesceActionsUntilGameFinishes() {
+        InMemoryActiveGameStore store = store(DurabilityMode.SYNC_ON_FINISH);
+        givenWritesSucceed();
+        store.track(game);
+
+        StepVerifier.create(store.execute(game.getId(), InMemoryActiveGameStoreTest::hit))
+                .expectNext(1)
+                .verifyComplete();
+        verify(gameRepository, never()).saveAction(any(Game.class), anyInt());
+
+        StepVerifier.create(store.execute(game.getId(), InMemoryActiveGameStoreTest::stand))
+                .assertNext(turns -> assertThat(turns).isGreaterThan(2))
+                .verifyComplete();
+
+        verify(gameRepository, never()).findById(any(GameId.class));
+        verify(gameRepository, times(1)).saveAction(game, 0);
+        assertThat(game.getVersion()).isEqualTo(1);
+        assertThat(store.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should write every action that adds turns before answering in sync mode")
+    void shouldWriteEveryActionInSyncMode() {
+        InMemoryActiveGameStore store = store(DurabilityMode.SYNC);
+        givenWritesSucceed();
+        store.track(game);
+
+        StepVerifier.create(store.execute(game.getId(), InMemoryActiveGameStoreTest::hit))
+                .expectNext(1)
+                .verifyComplete();
+        verify(gameRepository).saveAction(game, 0);
+
+        StepVerifier.create(store.execute(game.getId(), current -> Mono.just(current.getVersion())))
+                .expectNext(1L)
+                .verifyComplete();
+        verify(gameRepository, times(1)).saveAction(any(Game.class), anyInt());
+
+        StepVerifier.create(store.execute(game.getId(), InMemoryActiveGameStoreTest::hit))
+                .expectNext(2)
+                .verifyComplete();
+        verify(gameRepository).saveAction(game, 1);
+        verify(gameRepository, never()).findById(any(GameId.class));
+    }
+
+    @Test
+    @DisplayName("Should reject an action on a copy another writer moved past and reload the stored game")
+    void shouldRejectActionOnStaleCopyInSyncMode() {
+        InMemoryActiveGameStore store = store(DurabilityMode.SYNC);
+        Game stored = Game.createWithDeck(game.getPlayerId(), Deck.createUnshuffled());
+        when(gameRepository.saveAction(any(Game.class), anyInt())).thenReturn(Mono.empty());
+        when(gameRepository.findById(stored.getId())).thenReturn(Mono.just(stored));
+        store.track(game);
+
+        StepVerifier.create(store.execute(game.getId(), InMemoryActiveGameStoreTest::hit))
+                .expectError(OptimisticLockingFailureException.class)
+                .verify();
+        assertThat(store.size()).isZero();
+
+        StepVerifier.create(store.execute(stored.getId(), current -> Mono.just(current.getTurnHistory().size())))
+                .expectNext(0)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should leave the finishing write to the background flush in async mode")
+    void shouldWriteBehindFinishedGamesInAsyncMode() {
+        InMemoryActiveGameStore store = store(DurabilityMode.ASYNC);
+        givenWritesSucceed();
+        store.track(game);
+
+        store.execute(game.getId(), InMemoryActiveGameStoreTest::stand).block();
+        verify(gameRepository, never()).saveAction(any(Game.class), anyInt());
+        assertThat(store.size()).isEqualTo(1);
+
+        store.flush(false);
+
+        verify(gameRepository).saveAction(game, 0);
+        assertThat(store.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should write a game an action finished before failing and pass the failure on")
+    void shouldWriteGameFinishedByFailingAction() {
+        InMemoryActiveGameStore store = store(DurabilityMode.SYNC_ON_FINISH);
+        givenWritesSucceed();
+        store.track(game);
+
+        StepVerifier.create(store.execute(game.getId(), current -> {
+                    current.stand();
+                    return Mono.error(new IllegalStateException("MySQL is down"));
+                }))
+                .expectErrorMessage("MySQL is down")
+                .verify();
+
+        verify(gameRepository).saveAction(game, 0);
+        assertThat(store.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should keep the turns of a failed action for the background flush")
+    void shouldFlushTurnsOfFailedAction() {
+        InMemoryActiveGameStore store = store(DurabilityMode.ASYNC);
+        givenWritesSucceed();
+        store.track(game);
+
+        StepVerifier.create(store.execute(game.getId(), current -> {
+                    current.hit();
+                    return Mono.error(new IllegalStateException("MySQL is down"));
+                }))
+                .expectError(IllegalStateException.class)
+                .verify();
+        now.addAndGet(IDLE_TIMEOUT.toNanos());
+        store.flush(false);
+
+        verify(gameRepository).saveAction(game, 0);
+        assertThat(store.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should drop a game whose finishing write finds a newer version and reload it next time")
+    void shouldDropGameOnWriteConflict() {
+        InMemoryActiveGameStore store = store(DurabilityMode.SYNC_ON_FINISH);
+        Game stored = Game.createWithDeck(game.getPlayerId(), Deck.createUnshuffled());
+        when(gameRepository.saveAction(any(Game.class), anyInt())).thenReturn(Mono.empty());
+        when(gameRepository.findById(stored.getId())).thenReturn(Mono.just(stored));
+        store.track(game);
+
+        StepVerifier.create(store.execute(game.getId(), InMemoryActiveGameStoreTest::stand))
+                .expectError(OptimisticLockingFailureException.class)
+                .verify();
+        assertThat(store.size()).isZero();
+
+        StepVerifier.create(store.execute(stored.getId(), current -> Mono.just(current.getTurnHistory().size())))
+                .expectNext(0)
+                .verifyComplete();
+        verify(gameRepository).findById(stored.getId());
+    }
+
+    @Test
+    @DisplayName("Should run actions on one game one at a time")
+    void shouldSerializeActionsPerGame() {
+        InMemoryActiveGameStore store = store(DurabilityMode.SYNC_ON_FINISH);
+        store.track(game);
+        Sinks.One<Integer> firstDone = Sinks.one();
+        List<String> order = new ArrayList<>();
+
+        Mono<Integer> first = store.execute(game.getId(), current -> {
+            order.add("first started");
+            return firstDone.asMono().doOnNext(value -> order.add("first finished"));
+        });
+        Mono<Integer> second = store.execute(game.getId(), current -> {
+            order.add("second started");
+            return Mono.just(2);
+        });
+
+        first.subscribe();
+        second.subscribe();
+        assertThat(order).containsExactly("first started");
+
+        firstDone.tryEmitValue(1);
+
+        assertThat(order).containsExactly("first started", "first finished", "second started");
+    }
+
+    @Test
+    @DisplayName("Should run thousands of queued actions on one game without growing the stack")
+    void shouldDrainDeepQueueWithoutRecursion() {
+        InMemoryActiveGameStore store = store(DurabilityMode.SYNC_ON_FINISH);
+        store.track(game);
+        Sinks.One<Integer> firstDone = Sinks.one();
+        AtomicInteger completed = new AtomicInteger();
+
+        store.execute(game.getId(), current -> firstDone.asMono()).subscribe();
+        for (int i = 0; i < 20_000; i++) {
+            store.execute(game.getId(), current -> Mono.just(1))
+                    .subscribe(value -> completed.incrementAndGet());
+        }
+        assertThat(completed).hasValue(0);
+
+        firstDone.tryEmitValue(0);
+
+        assertThat(completed).hasValue(20_000);
+    }
+
+    @Test
+    @DisplayName("Should write back and drop the least recently used games beyond the max size")
+    void shouldEvictLeastRecentlyUsedGamesBeyondMaxSize() {
+        InMemoryActiveGameStore store = store(DurabilityMode.SYNC_ON_FINISH, 2);
+        givenWritesSucceed();
+        Game second = Game.createWithDeck(PlayerId.generate(), Deck.createUnshuffled());
+        Game third = Game.createWithDeck(PlayerId.generate(), Deck.createUnshuffled());
+
+        store.track(game);
+        now.incrementAndGet();
+        store.track(second);
+        now.incrementAndGet();
+        store.execute(game.getId(), InMemoryActiveGameStoreTest::hit).block();
+        now.incrementAndGet();
+        store.track(third);
+
+        assertThat(store.size()).isEqualTo(2);
+        verify(gameRepository, never()).saveAction(any(Game.class), anyInt());
+
+        now.incrementAndGet();
+        store.execute(third.getId(), InMemoryActiveGameStoreTest::hit).block();
+        store.track(Game.createWithDeck(PlayerId.generate(), Deck.createUnshuffled()));
+
+        verify(gameRepository).saveAction(game, 0);
+        assertThat(store.size()).isEqualTo(2);
+        verify(gameRepository, never()).findById(any(GameId.class));
+    }
+
+    @Test
+    @DisplayName("Should write back and drop games left idle")
+    void shouldWriteBackAndDropIdleGames() {
+        InMemoryActiveGameStore store = store(DurabilityMode.SYNC_ON_FINISH);
+        givenWritesSucceed();
+        store.track(game);
+        store.execute(game.getId(), InMemoryActiveGameStoreTest::hit).block();
+
+        store.flush(false);
+        verify(gameRepository).saveAction(game, 0);
+        assertThat(store.size()).isEqualTo(1);
+
+        now.addAndGet(IDLE_TIMEOUT.toNanos());
+        store.flush(false);
+
+        verify(gameRepository, times(1)).saveAction(any(Game.class), anyInt());
+        assertThat(store.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should write back unflushed turns before evicting a player's games")
+    void shouldWriteBackBeforeEvictingPlayerGames() {
+        InMemoryActiveGameStore store = store(DurabilityMode.SYNC_ON_FINISH);
+        givenWritesSucceed();
+        store.track(game);
+        store.execute(game.getId(), InMemoryActiveGameStoreTest::hit).block();
+
+        StepVerifier.create(store.evictPlayer(game.getPlayerId()))
+                .verifyComplete();
+
+        verify(gameRepository).saveAction(eq(game), eq(0));
+        assertThat(store.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should complete empty and keep nothing for an unknown game")
+    void shouldCompleteEmptyForUnknownGame() {
+        InMemoryActiveGameStore store = store(DurabilityMode.SYNC_ON_FINISH);
+        GameId unknown = GameId.generate();
+        when(gameRepository.findById(unknown)).thenReturn(Mono.empty());
+
+        StepVerifier.create(store.execute(unknown, current -> Mono.just(1)))
+                .verifyComplete();
+
+        assertThat(store.size()).isZero();
+    }
+}
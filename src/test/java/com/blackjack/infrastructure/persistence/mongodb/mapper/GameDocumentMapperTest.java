@@ -0,0 +1,110 @@
+package com.blackjack.infrastructure.persistence.mongodb.mapper;
+
+import com.blackjack.domain.model.aggregate.Game;
+import com.blackjack.domain.model.readmodel.GameSummary;
+import com.blackjack.domain.model.valueobject.game.Deck;
+import com.blackjack.domain.model.valueobject.game.DeckCount;
+import com.blackjack.domain.model.valueobject.player.PlayerId;
+import com.blackjack.domain.service.DeterministicShuffleStrategy;
+import com.blackjack.domain.service.FisherYatesShuffleStrategy;
+import com.blackjack.infrastructure.persistence.mongodb.document.GameDocument;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("GameDocumentMapper Tests")
+class GameDocumentMapperTest {
+
+    private final GameDocumentMapper mapper = new GameDocumentMapper();
+
+    private static Game seededGame() {
+        return Game.createWithDeck(PlayerId.generate(), Deck.createFromSeed(DeckCount.of(2), 20261017L));
+    }
+
+    @Test
+    @DisplayName("Should store a seeded shoe as seed, deck count and algorithm and restore it at the same position")
+    void shouldRoundTripSeededShoe() {
+        Game game = seededGame();
+
+        GameDocument document = mapper.toDocument(game);
+
+        assertThat(document.getDeck().getCards()).isNull();
+        assertThat(document.getDeck().getSeed()).isEqualTo(20261017L);
+        assertThat(document.getDeck().getDeckCount()).isEqualTo(2);
+        assertThat(document.getDeck().getShuffleAlgorithm()).isEqualTo(DeterministicShuffleStrategy.ALGORITHM_VERSION);
+
+        Game restored = mapper.toDomain(document);
+
+        assertThat(restored.getDeck()).isEqualTo(game.getDeck());
+        assertThat(restored.getDeck().getCurrentIndex()).isEqualTo(game.getDeck().getCurrentIndex());
+        assertThat(restored.getDeck().draw()).isEqualTo(game.getDeck().draw());
+        assertThat(restored.getPlayerHand().getCards()).isEqualTo(game.getPlayerHand().getCards());
+    }
+
+    @Test
+    @DisplayName("Should read a legacy document that stores the card list and no deck count")
+    void shouldReadLegacyCardListDocument() {
+        Game game = Game.createWithDeck(PlayerId.generate(),
+                Deck.createAndShuffle(DeckCount.of(2), FisherYatesShuffleStrategy.seeded(7L)));
+        GameDocument document = mapper.toDocument(game);
+        document.setDeckCount(null);
+
+        assertThat(document.getDeck().getSeed()).isNull();
+        assertThat(document.getDeck().getCards()).hasSize(104);
+
+        Game restored = mapper.toDomain(document);
+        GameSummary summary = mapper.toSummary(document);
+
+        assertThat(restored.getDeck().getCards()).isEqualTo(game.getDeck().getCards());
+        assertThat(restored.getDeck().getCurrentIndex()).isEqualTo(game.getDeck().getCurrentIndex());
+        assertThat(summary.deckCount()).isEqualTo(DeckCount.of(2));
+    }
+
+    @Test
+    @DisplayName("Should fall back to the game's deck count when the seeded deck lacks its own")
+    void shouldFallBackToGameDeckCountForSeededDeck() {
+        Game game = seededGame();
+        GameDocument document = mapper.toDocument(game);
+        document.getDeck().setDeckCount(null);
+
+        Game restored = mapper.toDomain(document);
+
+        assertThat(restored.getDeck()).isEqualTo(game.getDeck());
+    }
+
+    @Test
+    @DisplayName("Should reject a seeded deck without a deck count or shuffle algorithm")
+    void shouldRejectIncompleteSeededDeck() {
+        GameDocument withoutDeckCount = mapper.toDocument(seededGame());
+        withoutDeckCount.getDeck().setDeckCount(null);
+        withoutDeckCount.setDeckCount(null);
+
+        GameDocument withoutAlgorithm = mapper.toDocument(seededGame());
+        withoutAlgorithm.getDeck().setShuffleAlgorithm(null);
+
+        assertThatThrownBy(() -> mapper.toDomain(withoutDeckCount))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining(withoutDeckCount.getId());
+        assertThatThrownBy(() -> mapper.toDomain(withoutAlgorithm))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining(withoutAlgorithm.getId());
+    }
+
+    @Test
+    @DisplayName("Should take a legacy summary's deck count from the projected card list size")
+    void shouldReadLegacySummaryFromProjectedCardCount() {
+        Game game = Game.createWithDeck(PlayerId.generate(),
+                Deck.createAndShuffle(DeckCount.of(3), FisherYatesShuffleStrategy.seeded(7L)));
+        GameDocument document = mapper.toDocument(game);
+        document.setDeckCount(null);
+        document.setDeck(null);
+        document.setDeckCardCount(156);
+
+        GameSummary summary = mapper.toSummary(document);
+
+        assertThat(summary.deckCount()).isEqualTo(DeckCount.of(3));
+        assertThat(summary.playerHand().getCards()).isEqualTo(game.getPlayerHand().getCards());
+    }
+}
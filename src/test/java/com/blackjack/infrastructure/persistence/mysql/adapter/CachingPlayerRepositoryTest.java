@@ -0,0 +1,108 @@
+package com.blackjack.infrastructure.persistence.mysql.adapter;
+
+import com.blackjack.domain.event.GameFinishedEvent;
+import com.blackjack.domain.model.aggregate.Player;
+import com.blackjack.domain.model.valueobject.game.GameId;
+import com.blackjack.domain.model.valueobject.game.GameStatus;
+import com.blackjack.domain.model.valueobject.player.PlayerId;
+import com.blackjack.domain.model.valueobject.player.PlayerName;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CachingPlayerRepository Tests")
+class CachingPlayerRepositoryTest {
+
+    @Mock
+    private PlayerRepositoryAdapter delegate;
+
+    private CachingPlayerRepository repository;
+    private Player alice;
+
+    @BeforeEach
+    void setUp() {
+        repository = new CachingPlayerRepository(delegate, 100, Duration.ofMinutes(5), new SimpleMeterRegistry());
+        alice = Player.create(new PlayerName("Alice"));
+        alice.clearDomainEvents();
+    }
+
+    @Test
+    @DisplayName("Should serve repeated id lookups from the cache with independent copies")
+    void shouldServeRepeatedIdLookupsFromCache() {
+        when(delegate.findById(alice.getId())).thenReturn(Mono.just(alice));
+
+        Player first = repository.findById(alice.getId()).block();
+        Player second = repository.findById(alice.getId()).block();
+
+        assertThat(second).isNotSameAs(first).isEqualTo(first);
+        assertThat(second.getName()).isEqualTo(alice.getName());
+        verify(delegate, times(1)).findById(alice.getId());
+    }
+
+    @Test
+    @DisplayName("Should resolve names case-insensitively from the cache")
+    void shouldResolveNamesCaseInsensitivelyFromCache() {
+        when(delegate.findByName(new PlayerName("Alice"))).thenReturn(Mono.just(alice));
+
+        repository.findByName(new PlayerName("Alice")).block();
+
+        StepVerifier.create(repository.findByName(new PlayerName("ALICE")))
+                .assertNext(player -> assertThat(player.getId()).isEqualTo(alice.getId()))
+                .verifyComplete();
+        StepVerifier.create(repository.findById(alice.getId()))
+                .expectNextCount(1)
+                .verifyComplete();
+        verify(delegate, times(1)).findByName(any(PlayerName.class));
+        verify(delegate, never()).findById(any(PlayerId.class));
+    }
+
+    @Test
+    @DisplayName("Should reload a player after a save and stop resolving its old name")
+    void shouldReloadPlayerAfterSave() {
+        when(delegate.findByName(new PlayerName("Alice"))).thenReturn(Mono.just(alice), Mono.empty());
+        when(delegate.save(any(Player.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        repository.findByName(new PlayerName("Alice")).block();
+
+        Player renamed = Player.reconstitute(alice.getId(), new PlayerName("Bob"), 0, 0, 0, 0, 0.0,
+                alice.getCreatedAt(), alice.getUpdatedAt());
+        repository.save(renamed).block();
+        when(delegate.findById(alice.getId())).thenReturn(Mono.just(renamed));
+
+        StepVerifier.create(repository.findById(alice.getId()))
+                .assertNext(player -> assertThat(player.getName().value()).isEqualTo("Bob"))
+                .verifyComplete();
+        StepVerifier.create(repository.findByName(new PlayerName("Alice")))
+                .verifyComplete();
+        verify(delegate, times(2)).findByName(new PlayerName("Alice"));
+    }
+
+    @Test
+    @DisplayName("Should evict players whose stats were recorded or who were deleted")
+    void shouldEvictPlayersOnStatsAndDelete() {
+        when(delegate.findById(alice.getId())).thenReturn(Mono.just(alice));
+        when(delegate.recordGameResults(any())).thenReturn(Mono.just(1));
+        when(delegate.deleteById(alice.getId())).thenReturn(Mono.empty());
+
+        repository.findById(alice.getId()).block();
+        repository.recordGameResults(List.of(GameFinishedEvent.of(GameId.generate(), alice.getId(), GameStatus.PLAYER_WIN))).block();
+        repository.findById(alice.getId()).block();
+        repository.deleteById(alice.getId()).block();
+        repository.findById(alice.getId()).block();
+
+        verify(delegate, times(3)).findById(alice.getId());
+    }
+}
@@ -0,0 +1,200 @@
+package com.blackjack.infrastructure.ranking;
+
+import com.blackjack.domain.model.readmodel.LeaderboardEntry;
+import com.blackjack.domain.model.readmodel.RankingPosition;
+import com.blackjack.domain.model.valueobject.player.PlayerId;
+import com.blackjack.domain.model.valueobject.player.PlayerName;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("InMemoryLeaderboard Tests")
+class InMemoryLeaderboardTest {
+
+    private InMemoryLeaderboard leaderboard;
+
+    @BeforeEach
+    void setUp() {
+        leaderboard = new InMemoryLeaderboard(new SimpleMeterRegistry());
+    }
+
+    private static LeaderboardEntry entry(String name, int played, int won) {
+        double winRate = played == 0 ? 0.0 : won * 100.0 / played;
+        return new LeaderboardEntry(PlayerId.generate(), new PlayerName(name), played, won, winRate);
+    }
+
+    @Test
+    @DisplayName("Should order by win rate, then games played")
+    void shouldOrderByWinRateThenGamesPlayed() {
+        LeaderboardEntry alice = entry("Alice", 4, 2);
+        LeaderboardEntry bob = entry("Bob", 1, 1);
+        LeaderboardEntry carol = entry("Carol", 10, 5);
+        leaderboard.update(alice);
+        leaderboard.update(bob);
+        leaderboard.update(carol);
+
+        assertThat(leaderboard.page(0, 10)).containsExactly(bob, carol, alice);
+    }
+
+    @Test
+    @DisplayName("Should move a player when their stats change")
+    void shouldMoveAPlayerWhenTheirStatsChange() {
+        LeaderboardEntry alice = entry("Alice", 2, 2);
+        LeaderboardEntry bob = entry("Bob", 2, 1);
+        leaderboard.update(alice);
+        leaderboard.update(bob);
+
+        LeaderboardEntry aliceLost = new LeaderboardEntry(alice.playerId(), alice.playerName(), 4, 2, 50.0);
+        leaderboard.update(aliceLost);
+
+        assertThat(leaderboard.page(0, 10)).containsExactly(aliceLost, bob);
+        assertThat(leaderboard.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should rename and remove players")
+    void shouldRenameAndRemovePlayers() {
+        LeaderboardEntry alice = entry("Alice", 1, 1);
+        LeaderboardEntry bob = entry("Bob", 1, 0);
+        leaderboard.update(alice);
+        leaderboard.update(bob);
+
+        leaderboard.rename(alice.playerId(), new PlayerName("Alicia"));
+        leaderboard.remove(bob.playerId());
+
+        assertThat(leaderboard.page(0, 10))
+                .extracting(e -> e.playerName().value())
+                .containsExactly("Alicia");
+    }
+
+    @Test
+    @DisplayName("Should not let the bootstrap load overwrite live updates")
+    void shouldNotLetTheBootstrapLoadOverwriteLiveUpdates() {
+        LeaderboardEntry stale = entry("Alice", 1, 0);
+        LeaderboardEntry live = new LeaderboardEntry(stale.playerId(), stale.playerName(), 2, 1, 50.0);
+        LeaderboardEntry deleted = entry("Bob", 1, 1);
+
+        leaderboard.update(live);
+        leaderboard.remove(deleted.playerId());
+        leaderboard.load(stale);
+        leaderboard.load(deleted);
+        leaderboard.markReady();
+
+        assertThat(leaderboard.isReady()).isTrue();
+        assertThat(leaderboard.page(0, 10)).containsExactly(live);
+    }
+
+    @Test
+    @DisplayName("Should drop players a reload did not see unless they changed during it")
+    void shouldDropPlayersAReloadDidNotSeeUnlessTheyChangedDuringIt() {
+        LeaderboardEntry alice = entry("Alice", 1, 1);
+        LeaderboardEntry bob = entry("Bob", 1, 0);
+        LeaderboardEntry carol = entry("Carol", 0, 0);
+        leaderboard.load(alice);
+        leaderboard.load(bob);
+        leaderboard.markReady();
+
+        leaderboard.beginReload();
+        leaderboard.register(carol);
+        leaderboard.load(alice);
+        leaderboard.markReady();
+
+        assertThat(leaderboard.page(0, 10)).containsExactly(alice, carol);
+    }
+
+    @Test
+    @DisplayName("Should report a player's zero-based position")
+    void shouldReportAPlayersZeroBasedPosition() {
+        LeaderboardEntry alice = entry("Alice", 4, 2);
+        LeaderboardEntry bob = entry("Bob", 1, 1);
+        LeaderboardEntry carol = entry("Carol", 10, 5);
+        leaderboard.update(alice);
+        leaderboard.update(bob);
+        leaderboard.update(carol);
+
+        assertThat(leaderboard.rank(bob.playerId())).hasValue(0);
+        assertThat(leaderboard.rank(carol.playerId())).hasValue(1);
+        assertThat(leaderboard.rank(alice.playerId())).hasValue(2);
+        assertThat(leaderboard.rank(PlayerId.generate())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should continue after a position whose player has since moved")
+    void shouldContinueAfterAPositionWhosePlayerHasSinceMoved() {
+        LeaderboardEntry alice = entry("Alice", 4, 2);
+        LeaderboardEntry bob = entry("Bob", 1, 1);
+        LeaderboardEntry carol = entry("Carol", 10, 5);
+        leaderboard.update(alice);
+        leaderboard.update(bob);
+        leaderboard.update(carol);
+        RankingPosition afterBob = bob.position();
+
+        LeaderboardEntry bobLost = new LeaderboardEntry(bob.playerId(), bob.playerName(), 2, 1, 50.0);
+        leaderboard.update(bobLost);
+
+        assertThat(leaderboard.pageAfter(afterBob, 10)).containsExactly(carol, alice, bobLost);
+        assertThat(leaderboard.pageAfter(carol.position(), 10)).containsExactly(alice, bobLost);
+        assertThat(leaderboard.pageAfter(bobLost.position(), 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should page through the same order as a full sort")
+    void shouldPageThroughTheSameOrderAsAFullSort() {
+        Random random = new Random(42);
+        Map<PlayerId, LeaderboardEntry> current = new HashMap<>();
+        List<PlayerId> ids = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            LeaderboardEntry e = entry("P" + i, random.nextInt(20), 0);
+            int played = e.gamesPlayed();
+            int won = played == 0 ? 0 : random.nextInt(played + 1);
+            LeaderboardEntry scored = new LeaderboardEntry(e.playerId(), e.playerName(), played, won,
+                    played == 0 ? 0.0 : won * 100.0 / played);
+            leaderboard.update(scored);
+            current.put(scored.playerId(), scored);
+            ids.add(scored.playerId());
+        }
+        for (int i = 0; i < 500; i++) {
+            PlayerId id = ids.get(random.nextInt(ids.size()));
+            if (i % 5 == 0) {
+                leaderboard.remove(id);
+                current.remove(id);
+            } else if (current.containsKey(id)) {
+                LeaderboardEntry before = current.get(id);
+                LeaderboardEntry after = new LeaderboardEntry(id, before.playerName(),
+                        before.gamesPlayed() + 1, before.gamesWon() + 1,
+                        (before.gamesWon() + 1) * 100.0 / (before.gamesPlayed() + 1));
+                leaderboard.update(after);
+                current.put(id, after);
+            }
+        }
+
+        List<LeaderboardEntry> expected = current.values().stream()
+                .sorted(LeaderboardEntry.RANKING_ORDER)
+                .toList();
+        List<LeaderboardEntry> paged = new ArrayList<>();
+        for (int offset = 0; offset < expected.size(); offset += 37) {
+            paged.addAll(leaderboard.page(offset, 37));
+        }
+        List<LeaderboardEntry> seeked = new ArrayList<>(leaderboard.page(0, 37));
+        while (seeked.size() < expected.size()) {
+            seeked.addAll(leaderboard.pageAfter(seeked.get(seeked.size() - 1).position(), 37));
+        }
+
+        assertThat(leaderboard.size()).isEqualTo(expected.size());
+        assertThat(paged).containsExactlyElementsOf(expected);
+        assertThat(seeked).containsExactlyElementsOf(expected);
+        assertThat(leaderboard.page(expected.size(), 10)).isEmpty();
+        for (int i = 0; i < expected.size(); i += 101) {
+            assertThat(leaderboard.rank(expected.get(i).playerId())).hasValue(i);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.blackjack.infrastructure.ranking;
+
+import com.blackjack.domain.event.PlayerDeletedEvent;
+import com.blackjack.domain.event.PlayerRegisteredEvent;
+import com.blackjack.domain.event.PlayerStatsUpdatedEvent;
+import com.blackjack.domain.model.aggregate.Player;
+import com.blackjack.domain.model.readmodel.LeaderboardEntry;
+import com.blackjack.domain.model.valueobject.player.PlayerId;
+import com.blackjack.domain.model.valueobject.player.PlayerName;
+import com.blackjack.domain.repository.PlayerRepository;
+import com.blackjack.infrastructure.event.DomainEventBus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LeaderboardProjection Tests")
+class LeaderboardProjectionTest {
+
+    @Mock
+    private PlayerRepository playerRepository;
+
+    @Mock
+    private DomainEventBus eventBus;
+
+    private InMemoryLeaderboard leaderboard;
+    private LeaderboardProjection projection;
+
+    @BeforeEach
+    void setUp() {
+        leaderboard = new InMemoryLeaderboard(new SimpleMeterRegistry());
+        projection = new LeaderboardProjection(leaderboard, playerRepository, eventBus, Duration.ofHours(1));
+    }
+
+    private static Player player(PlayerId id, String name, int played, int won) {
+        double winRate = played == 0 ? 0.0 : won * 100.0 / played;
+        return Player.reconstitute(id, new PlayerName(name), played, won, played - won, 0, winRate,
+                LocalDateTime.now(), LocalDateTime.now());
+    }
+
+    @Test
+    @DisplayName("Should ignore a stats refresh older than the entry already held")
+    void shouldIgnoreAStatsRefreshOlderThanTheEntryAlreadyHeld() {
+        PlayerId alice = PlayerId.generate();
+        Player newer = player(alice, "Alice", 3, 2);
+        Player stale = player(alice, "Alice", 2, 1);
+        when(playerRepository.findAll()).thenReturn(Flux.just(newer));
+        projection.resync();
+        when(playerRepository.findAllByIds(Set.of(alice))).thenReturn(Flux.just(stale));
+
+        StepVerifier.create(projection.handlePlayerStatsUpdatedEvent(PlayerStatsUpdatedEvent.of(Set.of(alice))))
+                .verifyComplete();
+
+        assertThat(leaderboard.page(0, 10)).containsExactly(LeaderboardEntry.of(newer));
+    }
+
+    @Test
+    @DisplayName("Should not bring back a player deleted while their stats were being read")
+    void shouldNotBringBackAPlayerDeletedWhileTheirStatsWereBeingRead() {
+        PlayerId alice = PlayerId.generate();
+        when(playerRepository.findAll()).thenReturn(Flux.just(player(alice, "Alice", 1, 1)));
+        projection.resync();
+        when(playerRepository.findAllByIds(Set.of(alice))).thenReturn(Flux.just(player(alice, "Alice", 2, 1)));
+
+        StepVerifier.create(projection.handlePlayerDeletedEvent(PlayerDeletedEvent.of(alice))).verifyComplete();
+        StepVerifier.create(projection.handlePlayerStatsUpdatedEvent(PlayerStatsUpdatedEvent.of(Set.of(alice))))
+                .verifyComplete();
+
+        assertThat(leaderboard.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should not reset a player's stats when their registration arrives late")
+    void shouldNotResetAPlayersStatsWhenTheirRegistrationArrivesLate() {
+        PlayerId alice = PlayerId.generate();
+        Player played = player(alice, "Alice", 2, 2);
+        when(playerRepository.findAll()).thenReturn(Flux.just(played));
+        projection.resync();
+
+        StepVerifier.create(projection.handlePlayerRegisteredEvent(PlayerRegisteredEvent.of(alice, new PlayerName("Alice"))))
+                .verifyComplete();
+
+        assertThat(leaderboard.page(0, 10)).containsExactly(LeaderboardEntry.of(played));
+    }
+
+    @Test
+    @DisplayName("Should reconcile missed registrations and deletions on resync")
+    void shouldReconcileMissedRegistrationsAndDeletionsOnResync() {
+        Player alice = player(PlayerId.generate(), "Alice", 1, 1);
+        Player bob = player(PlayerId.generate(), "Bob", 1, 0);
+        Player carol = player(PlayerId.generate(), "Carol", 0, 0);
+        when(playerRepository.findAll()).thenReturn(Flux.just(alice, bob));
+        projection.resync();
+
+        when(playerRepository.findAll()).thenReturn(Flux.just(alice, carol));
+        projection.resync();
+
+        assertThat(leaderboard.isReady()).isTrue();
+        assertThat(leaderboard.page(0, 10))
+                .containsExactly(LeaderboardEntry.of(alice), LeaderboardEntry.of(carol));
+    }
+
+    @Test
+    @DisplayName("Should stay on MySQL after a failed load and retry on the next resync")
+    void shouldStayOnMySqlAfterAFailedLoadAndRetryOnTheNextResync() {
+        Player alice = player(PlayerId.generate(), "Alice", 1, 1);
+        when(playerRepository.findAll())
+                .thenReturn(Flux.error(new IllegalStateException("connection refused")))
+                .thenReturn(Flux.just(alice));
+
+        projection.resync();
+        assertThat(leaderboard.isReady()).isFalse();
+
+        projection.resync();
+        assertThat(leaderboard.isReady()).isTrue();
+        assertThat(leaderboard.page(0, 10)).containsExactly(LeaderboardEntry.of(alice));
+    }
+}
@@ -0,0 +1,147 @@
+package com.blackjack.infrastructure.shoe;
+
+import com.blackjack.domain.model.aggregate.Game;
+import com.blackjack.domain.model.valueobject.game.Deck;
+import com.blackjack.domain.model.valueobject.game.DeckCount;
+import com.blackjack.domain.model.valueobject.player.PlayerId;
+import com.blackjack.domain.service.FisherYatesShuffleStrategy;
+import com.blackjack.domain.service.ShuffleStrategy;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PreShuffledShoePool Tests")
+class PreShuffledShoePoolTest {
+
+    private static final int CAPACITY = 3;
+    private static final int DECK_COUNTS = DeckCount.MAX_DECKS - DeckCount.MIN_DECKS + 1;
+
+    private MeterRegistry meterRegistry;
+    private CountingShuffleStrategy shuffleStrategy;
+    private PreShuffledShoePool pool;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        shuffleStrategy = new CountingShuffleStrategy(CAPACITY * DECK_COUNTS);
+        pool = new PreShuffledShoePool(CAPACITY, Duration.ofHours(1), shuffleStrategy, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.stop();
+    }
+
+    private double depth(int decks) {
+        return meterRegistry.get("blackjack.shoe.pool.depth").tag("decks", String.valueOf(decks)).gauge().value();
+    }
+
+    private double hits(int decks) {
+        return meterRegistry.get("blackjack.shoe.pool.hits").tag("decks", String.valueOf(decks)).counter().count();
+    }
+
+    private double misses(int decks) {
+        return meterRegistry.get("blackjack.shoe.pool.misses").tag("decks", String.valueOf(decks)).counter().count();
+    }
+
+    @Test
+    @DisplayName("Should fill every deck count up to capacity and no further")
+    void shouldFillEveryDeckCountUpToCapacity() {
+        pool.refill();
+        pool.refill();
+
+        for (int decks = DeckCount.MIN_DECKS; decks <= DeckCount.MAX_DECKS; decks++) {
+            assertThat(depth(decks)).isEqualTo(CAPACITY);
+        }
+        assertThat(shuffleStrategy.shuffles()).isEqualTo(CAPACITY * DECK_COUNTS);
+    }
+
+    @Test
+    @DisplayName("Should hand out shoes of the requested size and count hits per deck count")
+    void shouldHandOutShoesOfTheRequestedSize() {
+        pool.refill();
+
+        Optional<Deck> shoe = pool.take(DeckCount.of(6));
+
+        assertThat(shoe).hasValueSatisfying(deck -> assertThat(deck.size()).isEqualTo(6 * 52));
+        assertThat(hits(6)).isEqualTo(1);
+        assertThat(misses(6)).isZero();
+        assertThat(hits(1)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should report a miss and let the caller shuffle inline when the pool is empty")
+    void shouldReportAMissWhenThePoolIsEmpty() {
+        CountingShuffleStrategy inline = new CountingShuffleStrategy(1);
+
+        Game game = Game.create(PlayerId.generate(), null, DeckCount.of(2), pool, inline);
+
+        assertThat(inline.shuffles()).isEqualTo(1);
+        assertThat(game.getDeck().size()).isEqualTo(2 * 52);
+        assertThat(misses(2)).isEqualTo(1);
+        assertThat(hits(2)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should refill in the background after a miss")
+    void shouldRefillInTheBackgroundAfterAMiss() throws InterruptedException {
+        assertThat(pool.take(DeckCount.of(1))).isEmpty();
+
+        assertThat(shuffleStrategy.await(5, TimeUnit.SECONDS)).isTrue();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (depth(1) < CAPACITY && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertThat(pool.take(DeckCount.of(1))).isPresent();
+        assertThat(hits(1)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should keep answering from the caller's thread once the worker is stopped")
+    void shouldKeepAnsweringOnceTheWorkerIsStopped() {
+        pool.stop();
+
+        assertThat(pool.take(DeckCount.of(4))).isEmpty();
+        assertThat(pool.take(DeckCount.of(4))).isEmpty();
+
+        assertThat(misses(4)).isEqualTo(2);
+        assertThat(shuffleStrategy.shuffles()).isZero();
+    }
+
+    private static final class CountingShuffleStrategy implements ShuffleStrategy {
+
+        private final ShuffleStrategy delegate = FisherYatesShuffleStrategy.seeded(42L);
+        private final AtomicInteger shuffles = new AtomicInteger();
+        private final CountDownLatch done;
+
+        private CountingShuffleStrategy(int expected) {
+            this.done = new CountDownLatch(expected);
+        }
+
+        @Override
+        public void shuffle(byte[] cards) {
+            delegate.shuffle(cards);
+            shuffles.incrementAndGet();
+            done.countDown();
+        }
+
+        int shuffles() {
+            return shuffles.get();
+        }
+
+        boolean await(long timeout, TimeUnit unit) throws InterruptedException {
+            return done.await(timeout, unit);
+        }
+    }
+}
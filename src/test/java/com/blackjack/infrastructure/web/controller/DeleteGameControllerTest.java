@@ -5,6 +5,7 @@ import com.blackjack.application.usecase.game.*;
 import com.blackjack.application.usecase.player.DeletePlayerUseCase;
 import com.blackjack.application.usecase.player.UpdatePlayerNameUseCase;
 import com.blackjack.application.usecase.ranking.GetRankingUseCase;
+import com.blackjack.infrastructure.web.cache.GameResponseCache;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -50,6 +51,9 @@ class DeleteGameControllerTest {
     @MockBean
     private GetGamesByPlayerUseCase getGamesByPlayerUseCase;
 
+    @MockBean
+    private GameResponseCache gameResponseCache;
+
     @Test
     @DisplayName("DELETE /game/{id}/delete - Should delete game successfully")
     void shouldDeleteGameSuccessfully() {
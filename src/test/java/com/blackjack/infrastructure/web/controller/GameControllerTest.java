@@ -7,6 +7,7 @@ import com.blackjack.application.usecase.player.DeletePlayerUseCase;
 import com.blackjack.application.usecase.player.UpdatePlayerNameUseCase;
 import com.blackjack.application.usecase.ranking.GetRankingUseCase;
 import com.blackjack.domain.model.valueobject.game.DeckCount;
+import com.blackjack.infrastructure.web.cache.GameResponseCache;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -57,6 +58,9 @@ class GameControllerTest {
     @MockBean
     private GetGamesByPlayerUseCase getGamesByPlayerUseCase;
 
+    @MockBean
+    private GameResponseCache gameResponseCache;
+
     @Test
     @DisplayName("POST /game/new - Should create a new game and return 201 Created")
     void shouldCreateNewGame() {
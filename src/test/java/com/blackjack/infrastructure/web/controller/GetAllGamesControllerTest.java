@@ -6,6 +6,7 @@ import com.blackjack.application.usecase.game.*;
 import com.blackjack.application.usecase.player.DeletePlayerUseCase;
 import com.blackjack.application.usecase.player.UpdatePlayerNameUseCase;
 import com.blackjack.application.usecase.ranking.GetRankingUseCase;
+import com.blackjack.infrastructure.web.cache.GameResponseCache;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -16,8 +17,11 @@ import reactor.core.publisher.Mono;
 
 import java.util.List;
 
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 @WebFluxTest(GameController.class)
 class GetAllGamesControllerTest {
 
@@ -51,6 +55,9 @@ class GetAllGamesControllerTest {
     @MockBean
     private GetGamesByPlayerUseCase getGamesByPlayerUseCase;
 
+    @MockBean
+    private GameResponseCache gameResponseCache;
+
     @Test
     @DisplayName("GET /game - Should return paginated games")
     void shouldReturnPaginatedGames() {
@@ -76,4 +83,49 @@ class GetAllGamesControllerTest {
                 .jsonPath("$.totalElements").isEqualTo(1)
                 .jsonPath("$.totalPages").isEqualTo(1);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("GET /game?after - Should page by cursor")
+    void shouldPageByCursor() {
+        String cursor = "2026-10-17T12:30:15,game-1";
+        PageResponse<GameResponse> pageResponse = PageResponse.afterCursor(
+                List.of(), 10, null, null
+        );
+
+        when(getAllGamesUseCase.executeAfter(eq(cursor), anyInt(), eq(false)))
+                .thenReturn(Mono.just(pageResponse));
+
+        webTestClient.get()
+                .uri(uriBuilder -> uriBuilder.path("/game")
+                        .queryParam("after", cursor)
+                        .queryParam("size", "10")
+                        .build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content.length()").isEqualTo(0)
+                .jsonPath("$.last").isEqualTo(true);
+
+        verify(getAllGamesUseCase, never()).execute(anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("GET /game - Should answer 400 for a negative page or an empty size")
+    void shouldRejectInvalidPageOrSize() {
+        webTestClient.get()
+                .uri("/game?page=-1&size=10")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Page must not be negative, got -1");
+
+        webTestClient.get()
+                .uri("/game?page=0&size=0")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Size must be between 1 and 100, got 0");
+
+        verify(getAllGamesUseCase, never()).execute(anyInt(), anyInt());
+    }
+}
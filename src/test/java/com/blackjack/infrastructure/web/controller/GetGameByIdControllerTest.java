@@ -7,21 +7,33 @@ import com.blackjack.application.usecase.player.DeletePlayerUseCase;
 import com.blackjack.application.usecase.player.UpdatePlayerNameUseCase;
 import com.blackjack.application.usecase.ranking.GetRankingUseCase;
 import com.blackjack.domain.model.valueobject.game.DeckCount;
+import com.blackjack.domain.model.aggregate.Player;
+import com.blackjack.domain.model.valueobject.player.PlayerId;
+import com.blackjack.domain.model.valueobject.player.PlayerName;
+import com.blackjack.domain.repository.PlayerRepository;
+import com.blackjack.infrastructure.web.cache.GameResponseCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.web.reactive.server.WebTestClient;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @WebFluxTest(GameController.class)
+@Import({GameResponseCache.class, SimpleMeterRegistry.class})
 @DisplayName("GameController - Get Game By Id Tests")
 class GetGameByIdControllerTest {
 
@@ -55,6 +67,31 @@ class GetGameByIdControllerTest {
     @MockBean
     private GetGamesByPlayerUseCase getGamesByPlayerUseCase;
 
+    @MockBean
+    private PlayerRepository playerRepository;
+
+    private static Player player(String name) {
+        return Player.reconstitute(PlayerId.from("player-456"), new PlayerName(name),
+                1, 1, 0, 0, 100.0, LocalDateTime.now(), LocalDateTime.now());
+    }
+
+    private static GameResponse gameResponse(String gameId, String status) {
+        return new GameResponse(
+                gameId,
+                "player-456",
+                "TestPlayer",
+                Collections.emptyList(),
+                Collections.emptyList(),
+                20,
+                18,
+                status,
+                Collections.emptyList(),
+                LocalDateTime.now(),
+                LocalDateTime.now(),
+                DeckCount.of(1)
+        );
+    }
+
     @Test
     @DisplayName("GET /game/{id} - Should return 200 OK when game exists")
     void shouldReturn200WhenGameExists() {
@@ -87,6 +124,104 @@ class GetGameByIdControllerTest {
                 .jsonPath("$.status").isEqualTo("PLAYING");
     }
 
+    @Test
+    @DisplayName("GET /game/{id} - Should tag a game in progress with an ETag and require revalidation")
+    void shouldRequireRevalidationForGameInProgress() {
+        String gameId = "game-in-progress";
+        when(getGameByIdUseCase.execute(gameId))
+                .thenReturn(Mono.just(gameResponse(gameId, "PLAYING")));
+
+        webTestClient.get()
+                .uri("/game/{id}", gameId)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueMatches(HttpHeaders.ETAG, "\"game-in-progress-.+\"")
+                .expectHeader().cacheControl(org.springframework.http.CacheControl.noCache());
+
+        webTestClient.get()
+                .uri("/game/{id}", gameId)
+                .exchange()
+                .expectStatus().isOk();
+
+        verify(getGameByIdUseCase, times(2)).execute(gameId);
+    }
+
+    @Test
+    @DisplayName("GET /game/{id} - Should serve a finished game from the cache as private and answer 304 on a matching ETag")
+    void shouldServeFinishedGameFromCache() {
+        String gameId = "game-finished";
+        when(getGameByIdUseCase.execute(gameId))
+                .thenReturn(Mono.just(gameResponse(gameId, "PLAYER_WIN")));
+        when(playerRepository.findById(PlayerId.from("player-456")))
+                .thenReturn(Mono.just(player("TestPlayer")));
+
+        String eTag = webTestClient.get()
+                .uri("/game/{id}", gameId)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().value(HttpHeaders.CACHE_CONTROL, value -> assertThat(value)
+                        .contains("private", "no-cache")
+                        .doesNotContain("public", "max-age"))
+                .expectBody()
+                .jsonPath("$.status").isEqualTo("PLAYER_WIN")
+                .returnResult()
+                .getResponseHeaders()
+                .getETag();
+
+        webTestClient.get()
+                .uri("/game/{id}", gameId)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, eTag)
+                .expectBody()
+                .jsonPath("$.gameId").isEqualTo(gameId);
+
+        webTestClient.get()
+                .uri("/game/{id}", gameId)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectBody().isEmpty();
+
+        verify(getGameByIdUseCase, times(1)).execute(gameId);
+    }
+
+    @Test
+    @DisplayName("GET /game/{id} - Should reload a cached finished game once its player has been renamed")
+    void shouldReloadCachedGameAfterRename() {
+        String gameId = "game-renamed";
+        GameResponse renamed = new GameResponse(gameId, "player-456", "NewName",
+                Collections.emptyList(), Collections.emptyList(), 20, 18, "PLAYER_WIN",
+                Collections.emptyList(), LocalDateTime.now(), LocalDateTime.now(), DeckCount.of(1));
+        when(getGameByIdUseCase.execute(gameId))
+                .thenReturn(Mono.just(gameResponse(gameId, "PLAYER_WIN")), Mono.just(renamed));
+        when(playerRepository.findById(PlayerId.from("player-456")))
+                .thenReturn(Mono.just(player("NewName")));
+
+        webTestClient.get()
+                .uri("/game/{id}", gameId)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.playerName").isEqualTo("TestPlayer");
+
+        webTestClient.get()
+                .uri("/game/{id}", gameId)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.playerName").isEqualTo("NewName");
+
+        webTestClient.get()
+                .uri("/game/{id}", gameId)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.playerName").isEqualTo("NewName");
+
+        verify(getGameByIdUseCase, times(2)).execute(gameId);
+    }
+
     @Test
     @DisplayName("GET /game/{id} - Should return 404 when game does not exist")
     void shouldReturn404WhenGameDoesNotExist() {
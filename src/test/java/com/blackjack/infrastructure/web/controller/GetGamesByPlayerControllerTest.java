@@ -2,24 +2,31 @@ package com.blackjack.infrastructure.web.controller;
 
 import com.blackjack.application.dto.response.GameResponse;
 import com.blackjack.application.dto.response.PageResponse;
+import com.blackjack.application.exception.PlayerNotFoundException;
 import com.blackjack.application.usecase.game.*;
 import com.blackjack.application.usecase.player.DeletePlayerUseCase;
 import com.blackjack.application.usecase.player.UpdatePlayerNameUseCase;
 import com.blackjack.application.usecase.ranking.GetRankingUseCase;
 import com.blackjack.domain.model.valueobject.game.DeckCount;
+import com.blackjack.infrastructure.web.cache.GameResponseCache;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @WebFluxTest(GameController.class)
@@ -41,6 +48,9 @@ class GetGamesByPlayerControllerTest {
     @MockBean
     private GetGamesByPlayerUseCase getGamesByPlayerUseCase;
 
+    @MockBean
+    private GameResponseCache gameResponseCache;
+
     @Test
     @DisplayName("GET /game/player/{playerId} - Should return paginated games")
     void shouldReturnPaginatedGamesForPlayer() {
@@ -76,4 +86,52 @@ class GetGamesByPlayerControllerTest {
                 .jsonPath("$.size").isEqualTo(size)
                 .jsonPath("$.totalElements").isEqualTo(1);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("GET /game/player/{playerId} - Should stream games as NDJSON without counting them")
+    void shouldStreamGamesAsNdjson() {
+        String playerId = "player-123";
+        GameResponse first = new GameResponse(
+                "game-1", playerId, "TestPlayer",
+                List.of(), List.of(), 0, 0, "PLAYING",
+                List.of(), LocalDateTime.now(), LocalDateTime.now(), DeckCount.of(1)
+        );
+        GameResponse second = new GameResponse(
+                "game-2", playerId, "TestPlayer",
+                List.of(), List.of(), 21, 18, "PLAYER_WIN",
+                List.of(), LocalDateTime.now(), LocalDateTime.now(), DeckCount.of(1)
+        );
+
+        when(getGamesByPlayerUseCase.stream(playerId, 0, 500))
+                .thenReturn(Flux.just(first, second));
+
+        webTestClient.get()
+                .uri("/game/player/{playerId}?size=500", playerId)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectHeader().doesNotExist(StreamingResponses.TOTAL_COUNT_HEADER)
+                .returnResult(GameResponse.class)
+                .getResponseBody()
+                .map(GameResponse::gameId)
+                .as(StepVerifier::create)
+                .expectNext("game-1", "game-2")
+                .verifyComplete();
+
+        verify(getGamesByPlayerUseCase, never()).count(anyString());
+    }
+
+    @Test
+    @DisplayName("GET /game/player/{playerId} - Should answer 404 when streaming games of an unknown player")
+    void shouldReturnNotFoundWhenStreamingUnknownPlayer() {
+        when(getGamesByPlayerUseCase.stream(anyString(), anyInt(), anyInt()))
+                .thenReturn(Flux.error(new PlayerNotFoundException("missing")));
+
+        webTestClient.get()
+                .uri("/game/player/{playerId}", "missing")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+}
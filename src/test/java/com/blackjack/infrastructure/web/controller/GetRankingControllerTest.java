@@ -1,22 +1,31 @@
 package com.blackjack.infrastructure.web.controller;
 
 import com.blackjack.application.dto.response.PageResponse;
+import com.blackjack.application.dto.response.PlayerRankResponse;
 import com.blackjack.application.dto.response.PlayerRankingResponse;
+import com.blackjack.application.exception.PlayerNotFoundException;
 import com.blackjack.application.usecase.game.*;
 import com.blackjack.application.usecase.player.DeletePlayerUseCase;
 import com.blackjack.application.usecase.player.UpdatePlayerNameUseCase;
+import com.blackjack.application.usecase.ranking.GetPlayerRankUseCase;
 import com.blackjack.application.usecase.ranking.GetRankingUseCase;
+import com.blackjack.infrastructure.web.cache.GameResponseCache;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
 
 import java.util.List;
 
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -30,6 +39,9 @@ class GetRankingControllerTest {
     @MockBean
     private GetRankingUseCase getRankingUseCase;
 
+    @MockBean
+    private GetPlayerRankUseCase getPlayerRankUseCase;
+
     @MockBean
     private CreateGameUseCase createGameUseCase;
 
@@ -54,6 +66,9 @@ class GetRankingControllerTest {
     @MockBean
     private GetGamesByPlayerUseCase getGamesByPlayerUseCase;
 
+    @MockBean
+    private GameResponseCache gameResponseCache;
+
     @Test
     @DisplayName("GET /ranking - Should return first page with default parameters")
     void shouldReturnFirstPageWithDefaultParameters() {
@@ -151,4 +166,96 @@ class GetRankingControllerTest {
 
         verify(getRankingUseCase).execute(0, 10);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("GET /ranking?after - Should continue from a cursor")
+    void shouldContinueFromACursor() {
+        PageResponse<PlayerRankingResponse> pageResponse = PageResponse.afterCursor(
+                List.of(new PlayerRankingResponse("player-3", "Charlie", 8, 2, 0.25)),
+                10,
+                11L,
+                null
+        );
+
+        when(getRankingUseCase.executeAfter(anyString(), anyInt(), anyBoolean())).thenReturn(Mono.just(pageResponse));
+
+        webTestClient.get()
+                .uri("/ranking?after=MC41LDIscGxheWVyLTI&size=10&includeTotal=true")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content[0].playerName").isEqualTo("Charlie")
+                .jsonPath("$.last").isEqualTo(true)
+                .jsonPath("$.nextCursor").doesNotExist()
+                .jsonPath("$.totalElements").isEqualTo(11);
+
+        verify(getRankingUseCase).executeAfter("MC41LDIscGxheWVyLTI", 10, true);
+    }
+
+    @Test
+    @DisplayName("GET /ranking/player/{id} - Should return the player's rank and neighbours")
+    void shouldReturnThePlayersRankAndNeighbours() {
+        PlayerRankingResponse ahead = new PlayerRankingResponse("player-1", "Alice", 10, 7, 0.70);
+        PlayerRankingResponse player = new PlayerRankingResponse("player-2", "Bob", 10, 5, 0.50);
+        PlayerRankResponse rank = new PlayerRankResponse(player, 2, 4, 75.0, List.of(ahead), List.of());
+
+        when(getPlayerRankUseCase.execute(anyString(), anyInt())).thenReturn(Mono.just(rank));
+
+        webTestClient.get()
+                .uri("/ranking/player/player-2?neighbours=1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.player.playerName").isEqualTo("Bob")
+                .jsonPath("$.rank").isEqualTo(2)
+                .jsonPath("$.totalPlayers").isEqualTo(4)
+                .jsonPath("$.percentile").isEqualTo(75.0)
+                .jsonPath("$.ahead[0].playerName").isEqualTo("Alice")
+                .jsonPath("$.behind").isEmpty();
+
+        verify(getPlayerRankUseCase).execute("player-2", 1);
+    }
+
+    @Test
+    @DisplayName("GET /ranking/player/{id} - Should return 404 for an unknown player")
+    void shouldReturn404ForAnUnknownPlayer() {
+        when(getPlayerRankUseCase.execute(anyString(), anyInt()))
+                .thenReturn(Mono.error(new PlayerNotFoundException("missing")));
+
+        webTestClient.get()
+                .uri("/ranking/player/missing")
+                .exchange()
+                .expectStatus().isNotFound();
+
+        verify(getPlayerRankUseCase).execute("missing", 2);
+    }
+
+    @Test
+    @DisplayName("GET /ranking - Should stream the ranking as server-sent events with the total in a header")
+    void shouldStreamRankingAsServerSentEvents() {
+        PlayerRankingResponse player1 = new PlayerRankingResponse(
+                "player-1", "Alice", 10, 7, 0.70
+        );
+        PlayerRankingResponse player2 = new PlayerRankingResponse(
+                "player-2", "Bob", 5, 5, 1.0
+        );
+
+        when(getRankingUseCase.stream(0, 2000)).thenReturn(Flux.just(player2, player1));
+        when(getRankingUseCase.count()).thenReturn(Mono.just(2500L));
+
+        webTestClient.get()
+                .uri("/ranking?size=2000&includeTotal=true")
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.TEXT_EVENT_STREAM)
+                .expectHeader().valueEquals(StreamingResponses.TOTAL_COUNT_HEADER, "2500")
+                .returnResult(PlayerRankingResponse.class)
+                .getResponseBody()
+                .map(PlayerRankingResponse::playerName)
+                .collectList()
+                .as(StepVerifier::create)
+                .expectNext(List.of("Bob", "Alice"))
+                .verifyComplete();
+    }
+}
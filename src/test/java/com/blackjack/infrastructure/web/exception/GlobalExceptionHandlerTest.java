@@ -1,8 +1,13 @@
 package com.blackjack.infrastructure.web.exception;
 
+import com.blackjack.application.dto.request.PlayGameRequest;
+import com.blackjack.application.exception.GameConflictException;
 import com.blackjack.application.exception.GameNotFoundException;
 import com.blackjack.application.usecase.game.*;
+import com.blackjack.domain.repository.PlayerRepository;
+import com.blackjack.infrastructure.web.cache.GameResponseCache;
 import com.blackjack.infrastructure.web.controller.GameController;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -12,11 +17,12 @@ import org.springframework.context.annotation.Import;
 import org.springframework.test.web.reactive.server.WebTestClient;
 import reactor.core.publisher.Mono;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
 
 @WebFluxTest(GameController.class)
-@Import(GlobalExceptionHandler.class)
+@Import({GlobalExceptionHandler.class, GameResponseCache.class, SimpleMeterRegistry.class})
 @DisplayName("GlobalExceptionHandler Tests")
 class GlobalExceptionHandlerTest {
 
@@ -42,6 +48,9 @@ class GlobalExceptionHandlerTest {
     @MockBean
     private GetGamesByPlayerUseCase getGamesByPlayerUseCase;
 
+    @MockBean
+    private PlayerRepository playerRepository;
+
 
     @Test
     @DisplayName("Should handle GameNotFoundException and return 404")
@@ -60,4 +69,23 @@ class GlobalExceptionHandlerTest {
                 .jsonPath("$.error").isEqualTo("Not Found")
                 .jsonPath("$.message").value(msg -> msg.toString().contains(gameId));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should handle GameConflictException and return 409")
+    void shouldHandleGameConflictExceptionAndReturn409() {
+        String gameId = "busy-game";
+
+        when(playGameUseCase.execute(anyString(), any(PlayGameRequest.class)))
+                .thenReturn(Mono.error(new GameConflictException(gameId)));
+
+        webTestClient.post()
+                .uri("/game/{id}/play", gameId)
+                .bodyValue(new PlayGameRequest("HIT"))
+                .exchange()
+                .expectStatus().isEqualTo(409)
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(409)
+                .jsonPath("$.error").isEqualTo("Conflict")
+                .jsonPath("$.message").value(msg -> msg.toString().contains(gameId));
+    }
+}
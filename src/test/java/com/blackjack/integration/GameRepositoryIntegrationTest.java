@@ -0,0 +1,125 @@
+package com.blackjack.integration;
+
+import com.blackjack.config.TestcontainersConfiguration;
+import com.blackjack.domain.event.GameFinishedEvent;
+import com.blackjack.domain.model.aggregate.Game;
+import com.blackjack.domain.model.aggregate.mother.GameMother;
+import com.blackjack.domain.model.valueobject.game.Deck;
+import com.blackjack.domain.model.valueobject.game.DeckCount;
+import com.blackjack.domain.model.valueobject.game.GameId;
+import com.blackjack.domain.model.valueobject.player.PlayerId;
+import com.blackjack.domain.model.valueobject.player.PlayerName;
+import com.blackjack.domain.repository.GameRepository;
+import com.blackjack.domain.service.FisherYatesShuffleStrategy;
+import com.blackjack.infrastructure.persistence.mongodb.document.GameDocument;
+import com.blackjack.infrastructure.persistence.mongodb.mapper.GameDocumentMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// the outbox relay would race the claims made here
+@SpringBootTest(properties = "blackjack.outbox.poll-interval=1h")
+@Import(TestcontainersConfiguration.class)
+@DisplayName("Game Repository Integration Tests")
+class GameRepositoryIntegrationTest {
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private GameDocumentMapper mapper;
+
+    @Autowired
+    private ReactiveMongoTemplate mongoTemplate;
+
+    @Test
+    @DisplayName("Should list a legacy game that only stores its card list with the right deck count")
+    void shouldListLegacyGameWithDeckCountFromCardList() {
+        PlayerId playerId = PlayerId.generate();
+        Game game = Game.createWithDeck(playerId,
+                Deck.createAndShuffle(DeckCount.of(2), FisherYatesShuffleStrategy.seeded(11L)));
+        GameDocument legacy = mapper.toDocument(game);
+        legacy.setDeckCount(null);
+        mongoTemplate.save(legacy).block();
+
+        StepVerifier.create(gameRepository.findSummariesByPlayerId(playerId, 0, 10))
+                .assertNext(summary -> {
+                    assertThat(summary.id()).isEqualTo(game.getId());
+                    assertThat(summary.deckCount()).isEqualTo(DeckCount.of(2));
+                    assertThat(summary.playerHand().getCards()).isEqualTo(game.getPlayerHand().getCards());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should claim a pending game event once per redelivery window until it is acknowledged")
+    void shouldClaimPendingEventsUntilAcknowledged() {
+        Game game = GameMother.withPlayer(PlayerId.generate());
+        game.stand();
+        GameDocument document = mapper.toDocument(game);
+        document.setOutboxDispatchedAt(LocalDateTime.now().minusMinutes(5));
+        mongoTemplate.save(document).block();
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(1);
+
+        StepVerifier.create(claimed(cutoff, game.getId()))
+                .assertNext(event -> {
+                    assertThat(event.playerId()).isEqualTo(game.getPlayerId());
+                    assertThat(event.finalStatus()).isEqualTo(game.getStatus());
+                })
+                .verifyComplete();
+        StepVerifier.create(claimed(cutoff, game.getId()))
+                .verifyComplete();
+
+        StepVerifier.create(gameRepository.acknowledgeEvents(List.of(game.getId())))
+                .verifyComplete();
+
+        StepVerifier.create(claimed(LocalDateTime.now().plusMinutes(1), game.getId()))
+                .verifyComplete();
+        StepVerifier.create(mongoTemplate.findById(game.getId().value(), GameDocument.class))
+                .assertNext(acknowledged -> {
+                    assertThat(acknowledged.getOutbox()).isNull();
+                    assertThat(acknowledged.getOutboxDispatchedAt()).isNull();
+                })
+                .verifyComplete();
+    }
+
+    private Flux<GameFinishedEvent> claimed(LocalDateTime dispatchedBefore, GameId gameId) {
+        return gameRepository.claimPendingEvents(dispatchedBefore, 100)
+                .filter(event -> event.gameId().equals(gameId));
+    }
+
+    @Test
+    @DisplayName("Should write a new player name onto every game of that player and no other")
+    void shouldUpdatePlayerNameOnAllGamesOfThePlayer() {
+        PlayerId playerId = PlayerId.generate();
+        PlayerId otherId = PlayerId.generate();
+        Game first = Game.createWithDeck(playerId, Deck.createAndShuffle(DeckCount.of(1), FisherYatesShuffleStrategy.seeded(1L)));
+        Game second = Game.createWithDeck(playerId, Deck.createAndShuffle(DeckCount.of(1), FisherYatesShuffleStrategy.seeded(2L)));
+        Game other = Game.createWithDeck(otherId, Deck.createAndShuffle(DeckCount.of(1), FisherYatesShuffleStrategy.seeded(3L)));
+        gameRepository.save(first).then(gameRepository.save(second)).then(gameRepository.save(other)).block();
+
+        StepVerifier.create(gameRepository.updatePlayerName(playerId, new PlayerName("Renamed")))
+                .expectNext(2L)
+                .verifyComplete();
+
+        StepVerifier.create(mongoTemplate.findById(first.getId().value(), GameDocument.class))
+                .assertNext(document -> assertThat(document.getPlayerName()).isEqualTo("Renamed"))
+                .verifyComplete();
+        StepVerifier.create(mongoTemplate.findById(second.getId().value(), GameDocument.class))
+                .assertNext(document -> assertThat(document.getPlayerName()).isEqualTo("Renamed"))
+                .verifyComplete();
+        StepVerifier.create(mongoTemplate.findById(other.getId().value(), GameDocument.class))
+                .assertNext(document -> assertThat(document.getPlayerName()).isNotEqualTo("Renamed"))
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,245 @@
+package com.blackjack.integration;
+
+import com.blackjack.config.TestcontainersConfiguration;
+import com.blackjack.domain.event.GameFinishedEvent;
+import com.blackjack.domain.model.aggregate.Player;
+import com.blackjack.domain.model.valueobject.game.GameId;
+import com.blackjack.domain.model.valueobject.game.GameStatus;
+import com.blackjack.domain.model.valueobject.player.PlayerId;
+import com.blackjack.domain.model.valueobject.player.PlayerName;
+import com.blackjack.infrastructure.event.DomainEventPublisher;
+import com.blackjack.infrastructure.persistence.mysql.adapter.PlayerRepositoryAdapter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.EmptyResultDataAccessException;
+import reactor.test.StepVerifier;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest
+@Import(TestcontainersConfiguration.class)
+@DisplayName("Player Repository Integration Tests")
+class PlayerRepositoryIntegrationTest {
+
+    @Autowired
+    private PlayerRepositoryAdapter playerRepository;
+
+    @SpyBean
+    private DomainEventPublisher eventPublisher;
+
+    private static PlayerName uniqueName(String prefix) {
+        return new PlayerName(prefix + UUID.randomUUID().toString().substring(0, 8));
+    }
+
+    @Test
+    @DisplayName("Should insert new players and update existing ones across several batches")
+    void shouldInsertAndUpdateAcrossBatches() {
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < 1_200; i++) {
+            players.add(Player.create(uniqueName("Batch" + i + "_")));
+        }
+
+        StepVerifier.create(playerRepository.saveAll(players).count())
+                .expectNext(1_200L)
+                .verifyComplete();
+
+        Player first = playerRepository.findById(players.get(0).getId()).block();
+        Player last = playerRepository.findById(players.get(1_199).getId()).block();
+        first.recordWin();
+        last.updateName(uniqueName("Renamed_"));
+
+        StepVerifier.create(playerRepository.saveAll(List.of(first, last)).count())
+                .expectNext(2L)
+                .verifyComplete();
+
+        StepVerifier.create(playerRepository.findById(first.getId()))
+                .assertNext(saved -> {
+                    assertThat(saved.getGamesPlayed()).isEqualTo(1);
+                    assertThat(saved.getGamesWon()).isEqualTo(1);
+                })
+                .verifyComplete();
+        StepVerifier.create(playerRepository.findById(last.getId()))
+                .assertNext(saved -> assertThat(saved.getName()).isEqualTo(last.getName()))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should update an existing player in place, even when nothing changed")
+    void shouldUpdateExistingPlayerInPlace() {
+        Player player = Player.create(uniqueName("Existing_"));
+        playerRepository.save(player).block();
+
+        Player stored = playerRepository.findById(player.getId()).block();
+        StepVerifier.create(playerRepository.save(stored))
+                .expectNext(stored)
+                .verifyComplete();
+
+        stored.recordLoss();
+        playerRepository.save(stored).block();
+
+        StepVerifier.create(playerRepository.findById(player.getId()))
+                .assertNext(saved -> {
+                    assertThat(saved.getGamesPlayed()).isEqualTo(1);
+                    assertThat(saved.getGamesLost()).isEqualTo(1);
+                    assertThat(saved.getCreatedAt()).isEqualTo(stored.getCreatedAt());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should insert a new player whatever its events and update it once stored")
+    void shouldInsertNewPlayerRegardlessOfItsEvents() {
+        Player player = Player.create(uniqueName("Fresh_"));
+        player.clearDomainEvents();
+
+        StepVerifier.create(playerRepository.save(player))
+                .expectNext(player)
+                .verifyComplete();
+        assertThat(player.isPersisted()).isTrue();
+
+        player.recordWin();
+        playerRepository.save(player).block();
+
+        StepVerifier.create(playerRepository.findById(player.getId()))
+                .assertNext(saved -> assertThat(saved.getGamesWon()).isEqualTo(1))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should publish a rename event once the new name is stored")
+    void shouldPublishRenameEventOnceStored() {
+        Player player = Player.create(uniqueName("Before_"));
+        playerRepository.save(player).block();
+        Player stored = playerRepository.findById(player.getId()).block();
+        PlayerName newName = uniqueName("After_");
+        stored.updateName(newName);
+
+        playerRepository.save(stored).block();
+
+        verify(eventPublisher).publishPlayerRenamedEvent(argThat(event ->
+                event.playerId().equals(player.getId()) && event.newName().equals(newName)));
+        assertThat(stored.getDomainEvents()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should count each game result once however often it is delivered")
+    void shouldCountEachGameResultOnce() {
+        Player player = Player.create(uniqueName("Results_"));
+        playerRepository.save(player).block();
+        GameFinishedEvent won = GameFinishedEvent.of(GameId.generate(), player.getId(), GameStatus.PLAYER_WIN);
+        GameFinishedEvent lost = GameFinishedEvent.of(GameId.generate(), player.getId(), GameStatus.DEALER_WIN);
+        GameFinishedEvent tied = GameFinishedEvent.of(GameId.generate(), player.getId(), GameStatus.TIE);
+
+        StepVerifier.create(playerRepository.recordGameResults(List.of(won)))
+                .expectNext(1)
+                .verifyComplete();
+        StepVerifier.create(playerRepository.recordGameResults(List.of(won, lost, won)))
+                .expectNext(1)
+                .verifyComplete();
+        StepVerifier.create(playerRepository.recordGameResults(List.of(tied, lost, won)))
+                .expectNext(1)
+                .verifyComplete();
+        StepVerifier.create(playerRepository.recordGameResults(List.of(tied, lost, won)))
+                .expectNext(0)
+                .verifyComplete();
+
+        player.recordWin();
+        player.recordLoss();
+        player.recordTie();
+        StepVerifier.create(playerRepository.findById(player.getId()))
+                .assertNext(saved -> {
+                    assertThat(saved.getGamesPlayed()).isEqualTo(3);
+                    assertThat(saved.getGamesWon()).isEqualTo(1);
+                    assertThat(saved.getGamesLost()).isEqualTo(1);
+                    assertThat(saved.getGamesTied()).isEqualTo(1);
+                    // win_rate is assigned after the counters in the same UPDATE, and must match the domain's value exactly
+                    assertThat(saved.getWinRate()).isEqualTo(player.getWinRate());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should record results for many players across batches in one call")
+    void shouldRecordResultsAcrossBatches() {
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            players.add(Player.create(uniqueName("Many" + i + "_")));
+        }
+        playerRepository.saveAll(players).blockLast();
+        List<GameFinishedEvent> results = new ArrayList<>();
+        for (int i = 0; i < 450; i++) {
+            results.add(GameFinishedEvent.of(GameId.generate(), players.get(i % 3).getId(), GameStatus.PLAYER_WIN));
+        }
+
+        StepVerifier.create(playerRepository.recordGameResults(results))
+                .expectNext(450)
+                .verifyComplete();
+
+        for (Player player : players) {
+            StepVerifier.create(playerRepository.findById(player.getId()))
+                    .assertNext(saved -> {
+                        assertThat(saved.getGamesPlayed()).isEqualTo(150);
+                        assertThat(saved.getWinRate()).isEqualTo(100.0);
+                    })
+                    .verifyComplete();
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject a new player whose name another player holds in any casing")
+    void shouldRejectNewPlayerWithTakenName() {
+        PlayerName name = uniqueName("Taken_");
+        playerRepository.save(Player.create(name)).block();
+
+        StepVerifier.create(playerRepository.save(Player.create(new PlayerName(name.value().toUpperCase()))))
+                .expectError(DataIntegrityViolationException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Should reject a rename onto another player's name without touching that player")
+    void shouldRejectRenameOntoTakenName() {
+        Player holder = Player.create(uniqueName("Holder_"));
+        Player renamer = Player.create(uniqueName("Renamer_"));
+        playerRepository.saveAll(List.of(holder, renamer)).blockLast();
+
+        Player stored = playerRepository.findById(renamer.getId()).block();
+        stored.updateName(holder.getName());
+
+        StepVerifier.create(playerRepository.save(stored))
+                .expectError(DataIntegrityViolationException.class)
+                .verify();
+        StepVerifier.create(playerRepository.findById(holder.getId()))
+                .assertNext(saved -> assertThat(saved.getName()).isEqualTo(holder.getName()))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should not write back a player deleted before its rename was saved")
+    void shouldNotWriteBackDeletedPlayer() {
+        Player player = Player.create(uniqueName("Deleted_"));
+        playerRepository.save(player).block();
+        Player stored = playerRepository.findById(player.getId()).block();
+
+        playerRepository.deleteById(player.getId()).block();
+        stored.updateName(uniqueName("Revived_"));
+
+        StepVerifier.create(playerRepository.save(stored))
+                .expectError(EmptyResultDataAccessException.class)
+                .verify();
+        StepVerifier.create(playerRepository.existsById(PlayerId.from(player.getId().value())))
+                .expectNext(false)
+                .verifyComplete();
+    }
+}